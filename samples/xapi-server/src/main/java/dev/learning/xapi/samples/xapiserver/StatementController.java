@@ -4,9 +4,11 @@
 
 package dev.learning.xapi.samples.xapiserver;
 
+import dev.learning.xapi.jackson.XapiSmile;
 import dev.learning.xapi.model.Statement;
 import dev.learning.xapi.model.StatementResult;
-import dev.learning.xapi.model.validation.constraints.Statements;
+import dev.learning.xapi.model.validation.StatementValidator;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import java.time.Instant;
 import java.util.Collection;
@@ -43,14 +45,19 @@ public class StatementController {
 
   private final StatementService statementService;
 
+  private final StatementValidator statementValidator;
+
   /**
    * Constructor for StatementController.
    *
    * @param statementService the statement service
+   * @param statementValidator the statement validator
    */
-  public StatementController(StatementService statementService) {
+  public StatementController(
+      StatementService statementService, StatementValidator statementValidator) {
 
     this.statementService = statementService;
+    this.statementValidator = statementValidator;
   }
 
   /**
@@ -131,7 +138,7 @@ public class StatementController {
    */
   @PutMapping(
       params = {"statementId"},
-      consumes = {"application/json"})
+      consumes = {"application/json", XapiSmile.MEDIA_TYPE})
   public ResponseEntity<Void> putStatement(
       @RequestParam(required = true) UUID statementId, @Valid @RequestBody Statement statement) {
 
@@ -145,18 +152,25 @@ public class StatementController {
   /**
    * Post Statements.
    *
+   * <p>The statements are validated by the {@link StatementValidator}, which validates large
+   * batches in parallel.
+   *
    * @param statements The statements to process.
    * @return the ResponseEntity
    * @see <a href=
    *     "https://github.com/adlnet/xAPI-Spec/blob/master/xAPI-Communication.md#212-post-statements">POST
    *     statements</a>
    */
-  @PostMapping(consumes = {"application/json"})
-  public ResponseEntity<Collection<UUID>> postStatements(
-      @RequestBody @Statements List<@Valid Statement> statements) {
+  @PostMapping(consumes = {"application/json", XapiSmile.MEDIA_TYPE})
+  public ResponseEntity<Collection<UUID>> postStatements(@RequestBody List<Statement> statements) {
 
     log.debug("POST statements");
 
+    final var violations = statementValidator.validate(statements);
+    if (!violations.isEmpty()) {
+      throw new ConstraintViolationException(violations);
+    }
+
     return new ResponseEntity<>(statementService.processStatements(statements), HttpStatus.OK);
   }
 }
@@ -4,8 +4,6 @@
 
 package dev.learning.xapi.samples.xapiserver;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -14,11 +12,13 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.Type;
 
 /**
  * StatementEntity.
  *
+ * <p>The Statement is stored in the binary Smile format, which is smaller and faster to read and
+ * write than JSON.
+ *
  * @author Thomas Turrell-Croft
  */
 @Entity
@@ -30,7 +30,6 @@ public class StatementEntity {
 
   @Id private UUID id;
 
-  @Type(JsonType.class)
   @Column(columnDefinition = "BLOB")
-  private JsonNode statement;
+  private byte[] statement;
 }
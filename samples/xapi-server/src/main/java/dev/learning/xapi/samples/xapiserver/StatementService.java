@@ -4,10 +4,12 @@
 
 package dev.learning.xapi.samples.xapiserver;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.learning.xapi.jackson.XapiSmile;
 import dev.learning.xapi.model.Statement;
 import dev.learning.xapi.model.StatementResult;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -32,7 +34,7 @@ public class StatementService {
   private final Logger log = LoggerFactory.getLogger(StatementService.class);
 
   private final StatementRepository repository;
-  private final ObjectMapper mapper;
+  private final ObjectMapper smileMapper;
 
   /**
    * StatementService Constructor.
@@ -43,7 +45,7 @@ public class StatementService {
   public StatementService(StatementRepository repository, ObjectMapper mapper) {
 
     this.repository = repository;
-    this.mapper = mapper;
+    this.smileMapper = XapiSmile.objectMapper(mapper);
   }
 
   /**
@@ -95,8 +97,7 @@ public class StatementService {
 
     repository.save(
         new StatementEntity(
-            statementId,
-            mapper.valueToTree(statement.withId(statementId).withStored(Instant.now()))));
+            statementId, toBytes(statement.withId(statementId).withStored(Instant.now()))));
   }
 
   /**
@@ -123,19 +124,28 @@ public class StatementService {
 
     repository.saveAll(
         processedStatements.stream()
-            .map(s -> new StatementEntity(s.getId(), mapper.valueToTree(s)))
+            .map(s -> new StatementEntity(s.getId(), toBytes(s)))
             .toList());
 
     return processedStatements.stream().map(s -> s.getId()).toList();
   }
 
+  private byte[] toBytes(Statement statement) {
+
+    try {
+      return smileMapper.writeValueAsBytes(statement);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   private Statement convertToStatement(StatementEntity statementEntity) {
 
     try {
-      final var statement = mapper.treeToValue(statementEntity.getStatement(), Statement.class);
+      final var statement = smileMapper.readValue(statementEntity.getStatement(), Statement.class);
 
       return statement;
-    } catch (final JsonProcessingException e) {
+    } catch (final IOException e) {
       log.error("Error processing stored Statement", e);
 
       return null;
@@ -9,9 +9,11 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import dev.learning.xapi.model.validation.StatementValidator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -26,6 +28,7 @@ import org.springframework.test.web.servlet.MockMvc;
 @WebMvcTest(
     value = {StatementController.class},
     properties = "spring.jackson2.deserialization.ACCEPT_SINGLE_VALUE_AS_ARRAY = true")
+@Import(StatementValidator.class)
 class StatementControllerTest {
 
   @Autowired private MockMvc mvc;
@@ -75,6 +78,34 @@ class StatementControllerTest {
         .andExpect(status().isOk());
   }
 
+  @Test
+  void whenPostingStatementWithInvalidMboxThenStatusIsBadRequest() throws Exception {
+
+    // When Posting Statement With Invalid Mbox
+    mvc.perform(
+            post("/xapi/statements")
+                .content(
+                    "[{\"actor\":{\"objectType\":\"Agent\",\"name\":\"A N Other\",\"mbox\":\"another@example.com\"},\"verb\":{\"id\":\"http://adlnet.gov/expapi/verbs/attempted\"},\"object\":{\"objectType\":\"Activity\",\"id\":\"https://example.com/activity/simplestatement\"}}]")
+                .contentType(MediaType.APPLICATION_JSON_VALUE))
+
+        // Then Status Is Bad Request
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void whenPostingStatementsWithSameIdThenStatusIsBadRequest() throws Exception {
+
+    // When Posting Statements With Same Id
+    mvc.perform(
+            post("/xapi/statements")
+                .content(
+                    "[{\"id\":\"676d2f88-7cf2-4aac-857f-c307a6a74c5b\",\"actor\":{\"objectType\":\"Agent\",\"name\":\"A N Other\",\"mbox\":\"mailto:another@example.com\"},\"verb\":{\"id\":\"http://adlnet.gov/expapi/verbs/attempted\"},\"object\":{\"objectType\":\"Activity\",\"id\":\"https://example.com/activity/simplestatement\"}}, {\"id\":\"676d2f88-7cf2-4aac-857f-c307a6a74c5b\",\"actor\":{\"objectType\":\"Agent\",\"name\":\"A N Other\",\"mbox\":\"mailto:another@example.com\"},\"verb\":{\"id\":\"http://adlnet.gov/expapi/verbs/attempted\"},\"object\":{\"objectType\":\"Activity\",\"id\":\"https://example.com/activity/simplestatement\"}}]")
+                .contentType(MediaType.APPLICATION_JSON_VALUE))
+
+        // Then Status Is Bad Request
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   void whenGettingMultipleStatementsWithSinceParameterThenStatusIsNotImplemented()
       throws Exception {
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the {@link GCProfiler}, so the allocation rate of every benchmark is
+ * reported next to its score.
+ *
+ * <p>The arguments are the usual JMH command line options, e.g. a benchmark name pattern.
+ *
+ * @author Thomas Turrell-Croft
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {}
+
+  /**
+   * Runs the benchmarks.
+   *
+   * @param args the JMH command line options
+   * @throws CommandLineOptionException if the options are invalid
+   * @throws RunnerException if a benchmark fails
+   */
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+
+    final var options =
+        new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class);
+
+    new Runner(options.build()).run();
+  }
+}
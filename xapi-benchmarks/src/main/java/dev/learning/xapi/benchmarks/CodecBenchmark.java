@@ -0,0 +1,134 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.benchmarks;
+
+import dev.learning.xapi.client.StatementHttpMessageReader;
+import dev.learning.xapi.client.StatementHttpMessageWriter;
+import dev.learning.xapi.model.Statement;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ClientCodecConfigurer;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Multipart encoding and decoding of a Statement with attachments by the {@link
+ * StatementHttpMessageWriter} and the {@link StatementHttpMessageReader}.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodecBenchmark {
+
+  private static final ResolvableType STATEMENT_TYPE = ResolvableType.forClass(Statement.class);
+
+  /** The length of each of the two attachments in bytes. */
+  @Param({"1024", "65536"})
+  public int attachmentLength;
+
+  private StatementHttpMessageWriter writer;
+
+  private StatementHttpMessageReader reader;
+
+  private Statement statement;
+
+  private byte[] multipart;
+
+  private MediaType multipartType;
+
+  /** Prepares the codecs and the test data. */
+  @Setup
+  public void setUp() {
+
+    writer = new StatementHttpMessageWriter(ClientCodecConfigurer.create().getWriters());
+    reader = new StatementHttpMessageReader();
+
+    final var binary = new byte[attachmentLength];
+    for (var i = 0; i < binary.length; i++) {
+      binary[i] = (byte) i;
+    }
+    final var text = "x".repeat(attachmentLength);
+
+    statement =
+        Fixtures.statement().toBuilder()
+            .addAttachment(
+                a ->
+                    a.usageType(URI.create("http://adlnet.gov/expapi/attachments/code"))
+                        .addDisplay(Locale.ENGLISH, "binary attachment")
+                        .contentType("application/octet-stream")
+                        .length(binary.length)
+                        .content(binary))
+            .addAttachment(
+                a ->
+                    a.usageType(URI.create("http://adlnet.gov/expapi/attachments/text"))
+                        .addDisplay(Locale.ENGLISH, "text attachment")
+                        .contentType("text/plain")
+                        .length(text.getBytes(StandardCharsets.UTF_8).length)
+                        .content(text))
+            .build();
+
+    final var request = new MockClientHttpRequest(HttpMethod.POST, "/xapi/statements");
+    multipart = write(request).block();
+    multipartType = request.getHeaders().getContentType();
+  }
+
+  /** Encodes a Statement with attachments. */
+  @Benchmark
+  public byte[] writeStatement() {
+    return write(new MockClientHttpRequest(HttpMethod.POST, "/xapi/statements")).block();
+  }
+
+  /** Decodes a Statement with attachments. */
+  @Benchmark
+  public Object readStatement() {
+
+    final var response = new MockClientHttpResponse(HttpStatus.OK);
+    response.getHeaders().setContentType(multipartType);
+    response.setBody(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(multipart)));
+
+    return reader.readMono(STATEMENT_TYPE, response, Map.of()).block();
+  }
+
+  private Mono<byte[]> write(MockClientHttpRequest request) {
+
+    return writer
+        .write(Mono.just(statement), STATEMENT_TYPE, null, request, Map.of())
+        .then(DataBufferUtils.join(request.getBody()))
+        .map(
+            buffer -> {
+              final var bytes = new byte[buffer.readableByteCount()];
+              buffer.read(bytes);
+              DataBufferUtils.release(buffer);
+              return bytes;
+            });
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.benchmarks;
+
+import dev.learning.xapi.model.XapiDuration;
+import dev.learning.xapi.model.validation.internal.validators.DurationValidator;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validation of xAPI durations by the {@link DurationValidator}, compared to the regular
+ * expressions it used before.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DurationBenchmark {
+
+  private static final Pattern WEEK = Pattern.compile("^\\d+W$", Pattern.CASE_INSENSITIVE);
+  private static final Pattern DATE =
+      Pattern.compile("^(\\d+Y)?(\\d+M)?(\\d+D)?$", Pattern.CASE_INSENSITIVE);
+  private static final Pattern TIME =
+      Pattern.compile("^(\\d+H)?(\\d+M)?((\\d+\\.\\d+|\\d+)S)?$", Pattern.CASE_INSENSITIVE);
+
+  /** The duration to validate. */
+  @Param({"PT1M23.5S", "P1Y2M3DT4H5M6.7S", "P4W"})
+  public String duration;
+
+  private final DurationValidator validator = new DurationValidator();
+
+  /** Validates the duration with the {@link DurationValidator}. */
+  @Benchmark
+  public boolean validate() {
+    return validator.isValid(duration, null);
+  }
+
+  /** Parses the duration with {@link XapiDuration#parse(String)}. */
+  @Benchmark
+  public XapiDuration parse() {
+    return XapiDuration.parse(duration);
+  }
+
+  /** Validates the duration like the {@link DurationValidator} did before. */
+  @Benchmark
+  public boolean validateWithPatterns() {
+
+    if (!duration.toUpperCase().startsWith("P") || duration.length() < 2) {
+      return false;
+    }
+
+    final var rest = duration.substring(1);
+
+    if (WEEK.matcher(rest).matches()) {
+      return true;
+    }
+
+    final var tpos = rest.toUpperCase().indexOf('T');
+    final var datePart = tpos >= 0 ? rest.substring(0, tpos) : rest;
+    final var timePart = tpos >= 0 ? rest.substring(tpos + 1) : "";
+
+    if (datePart.isEmpty() && timePart.isEmpty()) {
+      return false;
+    }
+
+    return isValid(DATE, datePart) && isValid(TIME, timePart);
+  }
+
+  private static boolean isValid(Pattern pattern, String part) {
+
+    if (part.isEmpty()) {
+      return true;
+    }
+    final var m = pattern.matcher(part);
+    return m.matches() && (m.group(1) != null || m.group(2) != null || m.group(3) != null);
+  }
+}
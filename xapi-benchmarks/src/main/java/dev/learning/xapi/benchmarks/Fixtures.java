@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.learning.xapi.jackson.XapiCanonicalModule;
+import dev.learning.xapi.jackson.XapiStrictLocaleModule;
+import dev.learning.xapi.jackson.XapiStrictNullValuesModule;
+import dev.learning.xapi.jackson.XapiStrictObjectTypeModule;
+import dev.learning.xapi.jackson.XapiStrictStatementModule;
+import dev.learning.xapi.jackson.XapiStrictTimestampModule;
+import dev.learning.xapi.model.Statement;
+import dev.learning.xapi.model.StatementResult;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.UUID;
+
+/**
+ * Shared test data of the benchmarks.
+ *
+ * @author Thomas Turrell-Croft
+ */
+public final class Fixtures {
+
+  private Fixtures() {}
+
+  /**
+   * Creates an {@link ObjectMapper} with the given strict modules.
+   *
+   * @param modules {@code none}, {@code all}, {@code statement} for the single-pass {@link
+   *     XapiStrictStatementModule}, {@code canonical} for the {@link XapiCanonicalModule} or the
+   *     name of a single strict module: {@code timestamp}, {@code objectType}, {@code nullValues}
+   *     or {@code locale}
+   * @return the configured {@link ObjectMapper}
+   */
+  public static ObjectMapper objectMapper(String modules) {
+
+    final var objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    final var all = "all".equals(modules);
+
+    if (all || "timestamp".equals(modules)) {
+      objectMapper.registerModule(new XapiStrictTimestampModule());
+    }
+    if (all || "objectType".equals(modules)) {
+      objectMapper.registerModule(new XapiStrictObjectTypeModule());
+    }
+    if (all || "nullValues".equals(modules)) {
+      objectMapper.registerModule(new XapiStrictNullValuesModule());
+    }
+    if (all || "locale".equals(modules)) {
+      objectMapper.registerModule(new XapiStrictLocaleModule());
+    }
+    if ("statement".equals(modules)) {
+      objectMapper.registerModule(new XapiStrictStatementModule());
+    }
+    if ("canonical".equals(modules)) {
+      objectMapper.registerModule(new XapiCanonicalModule());
+    }
+
+    return objectMapper;
+  }
+
+  /**
+   * Loads a realistic Statement with an interaction Activity, a result, a context with context
+   * Activities and extensions.
+   *
+   * @return the Statement
+   */
+  public static Statement statement() {
+
+    try (var input = Fixtures.class.getResourceAsStream("/statement.json")) {
+      return new ObjectMapper().findAndRegisterModules().readValue(input, Statement.class);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Creates a StatementResult of distinct copies of the {@link #statement()}.
+   *
+   * @param size the number of Statements
+   * @return the StatementResult
+   */
+  public static StatementResult statementResult(int size) {
+
+    final var statement = statement();
+    final var statements = new ArrayList<Statement>(size);
+
+    for (var i = 0; i < size; i++) {
+      statements.add(statement.toBuilder().id(UUID.randomUUID()).build());
+    }
+
+    return StatementResult.builder()
+        .statements(statements)
+        .more(URI.create("/xapi/statements?more=4b9175ba367d4b93990b34d4180039f1"))
+        .build();
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.benchmarks;
+
+import dev.learning.xapi.model.validation.internal.validators.MboxValidator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.validator.internal.constraintvalidators.bv.EmailValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validation of mboxes by the {@link MboxValidator}, compared to the {@link EmailValidator} it
+ * delegated to before.
+ *
+ * <p>Every invocation validates {@value #MBOXES} mboxes of one of these mixes:
+ *
+ * <ul>
+ *   <li>{@code learners}: a few hundred learners who appear over and over
+ *   <li>{@code unique}: a different learner for every mbox, as in a bulk import
+ *   <li>{@code mixed}: mostly learners, with some international and invalid addresses
+ * </ul>
+ *
+ * @author Thomas Turrell-Croft
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MboxBenchmark {
+
+  private static final int MBOXES = 1024;
+
+  private static final String[] INTERNATIONAL = {
+    "mailto:\"a n other\"@example.com", "mailto:jörg@beispiel.de", "mailto:learner@[192.168.0.1]"
+  };
+
+  private static final String[] INVALID = {
+    "another@example.com", "mailto:another@example..com", "mailto:a n other@example.com"
+  };
+
+  /** The mix of mboxes. */
+  @Param({"learners", "unique", "mixed"})
+  public String mix;
+
+  private final MboxValidator validator = new MboxValidator();
+
+  private final EmailValidator emailValidator = new EmailValidator();
+
+  private String[] mboxes;
+
+  /** Prepares the mboxes. */
+  @Setup
+  public void setUp() {
+
+    final var random = new Random(42);
+    mboxes = new String[MBOXES];
+
+    for (var i = 0; i < MBOXES; i++) {
+      final var learner = "unique".equals(mix) ? i : random.nextInt(300);
+      mboxes[i] = "mailto:learner." + learner + "@example.com";
+
+      if ("mixed".equals(mix) && i % 10 == 0) {
+        final var other = i % 20 == 0 ? INTERNATIONAL : INVALID;
+        mboxes[i] = other[random.nextInt(other.length)];
+      }
+    }
+  }
+
+  /** Validates the mboxes with the {@link MboxValidator}. */
+  @Benchmark
+  @OperationsPerInvocation(MBOXES)
+  public int validate() {
+
+    var valid = 0;
+    for (final var mbox : mboxes) {
+      if (validator.isValid(mbox, null)) {
+        valid++;
+      }
+    }
+    return valid;
+  }
+
+  /** Validates the mboxes like the {@link MboxValidator} did before. */
+  @Benchmark
+  @OperationsPerInvocation(MBOXES)
+  public int validateWithEmailValidator() {
+
+    var valid = 0;
+    for (final var mbox : mboxes) {
+      if (mbox.startsWith(MboxValidator.PREFIX)
+          && emailValidator.isValid(mbox.substring(MboxValidator.PREFIX.length()), null)) {
+        valid++;
+      }
+    }
+    return valid;
+  }
+}
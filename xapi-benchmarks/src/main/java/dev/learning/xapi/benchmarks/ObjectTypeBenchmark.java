@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonTypeResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.learning.xapi.jackson.ObjectTypeResolverBuilder;
+import dev.learning.xapi.model.Actor;
+import dev.learning.xapi.model.StatementObject;
+import dev.learning.xapi.model.StatementResult;
+import dev.learning.xapi.model.SubStatementObject;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deserialization of a page of Statements by the {@link ObjectTypeResolverBuilder} and by the
+ * default Jackson type resolver, which buffers the properties before the objectType. Many
+ * Statements in the wild put the objectType last or leave it out for Agents and Activities.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectTypeBenchmark {
+
+  /**
+   * The position of the objectType properties: {@code first}, {@code last} or {@code absent}, in
+   * which case it is left out of Agents and Activities and put last otherwise.
+   */
+  @Param({"first", "last", "absent"})
+  public String objectType;
+
+  /** The type resolver: {@code inferring} or {@code buffering}. */
+  @Param({"inferring", "buffering"})
+  public String resolver;
+
+  /** The number of Statements of the StatementResult. */
+  @Param({"100"})
+  public int pageSize;
+
+  private ObjectMapper objectMapper;
+
+  private byte[] statementResultJson;
+
+  /**
+   * Prepares the test data.
+   *
+   * @throws Exception if the test data cannot be serialized
+   */
+  @Setup
+  public void setUp() throws Exception {
+
+    objectMapper = Fixtures.objectMapper("none");
+
+    if ("buffering".equals(resolver)) {
+      objectMapper.addMixIn(Actor.class, BufferingMixIn.class);
+      objectMapper.addMixIn(StatementObject.class, BufferingMixIn.class);
+      objectMapper.addMixIn(SubStatementObject.class, BufferingMixIn.class);
+    }
+
+    final JsonNode json = objectMapper.valueToTree(Fixtures.statementResult(pageSize));
+    statementResultJson = objectMapper.writeValueAsBytes(moveObjectTypes(json));
+  }
+
+  /** Deserializes a StatementResult. */
+  @Benchmark
+  public StatementResult readStatementResult() throws Exception {
+    return objectMapper.readValue(statementResultJson, StatementResult.class);
+  }
+
+  private JsonNode moveObjectTypes(JsonNode node) {
+
+    if (node instanceof final ObjectNode object) {
+      final var type = object.remove("objectType");
+      final var names = new ArrayList<String>();
+      object.fieldNames().forEachRemaining(names::add);
+
+      final var result = object.objectNode();
+      if (type != null && "first".equals(objectType)) {
+        result.set("objectType", type);
+      }
+      for (final var name : names) {
+        result.set(name, moveObjectTypes(object.get(name)));
+      }
+      if (type != null && !"first".equals(objectType) && !isOptional(type)) {
+        result.set("objectType", type);
+      }
+      return result;
+    }
+
+    if (node instanceof final ArrayNode array) {
+      for (var i = 0; i < array.size(); i++) {
+        array.set(i, moveObjectTypes(array.get(i)));
+      }
+    }
+    return node;
+  }
+
+  private boolean isOptional(JsonNode type) {
+    return "absent".equals(objectType)
+        && ("Agent".equals(type.asText()) || "Activity".equals(type.asText()));
+  }
+
+  @JsonTypeResolver(StdTypeResolverBuilder.class)
+  private interface BufferingMixIn {}
+}
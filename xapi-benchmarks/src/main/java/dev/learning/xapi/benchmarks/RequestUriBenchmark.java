@@ -0,0 +1,135 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.learning.xapi.client.GetStateRequest;
+import dev.learning.xapi.client.GetStatementsRequest;
+import dev.learning.xapi.model.Agent;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+/**
+ * Building the request URIs of the State and Statement requests, the same way as the {@code
+ * XapiClient} does for every call, compared to the query templates and the Agent serialization
+ * they used before.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestUriBenchmark {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final DefaultUriBuilderFactory uriBuilderFactory =
+      new DefaultUriBuilderFactory("https://example.com/xapi/");
+
+  private final URI activityId = URI.create("https://example.com/activity/1");
+
+  private final URI verb = URI.create("http://adlnet.gov/expapi/verbs/answered");
+
+  private final UUID registration = UUID.fromString("67828e3a-d116-4e18-8af3-2d2c59e27be6");
+
+  private Agent agent;
+
+  private GetStateRequest getStateRequest;
+
+  private GetStatementsRequest getStatementsRequest;
+
+  /** Prepares the requests. */
+  @Setup
+  public void setUp() {
+
+    agent = Agent.builder().name("A N Other").mbox("mailto:another@example.com").build();
+
+    getStateRequest =
+        GetStateRequest.builder()
+            .activityId(activityId)
+            .agent(agent)
+            .registration(registration)
+            .stateId("bookmark")
+            .build();
+
+    getStatementsRequest =
+        GetStatementsRequest.builder().agent(agent).verb(verb).limit(100).build();
+  }
+
+  /** Builds the URI of a get State request. */
+  @Benchmark
+  public URI getStateUri() {
+
+    final Map<String, Object> queryParams = new HashMap<>();
+
+    return getStateRequest.url(uriBuilderFactory.builder(), queryParams).build(queryParams);
+  }
+
+  /** Builds the URI of a get State request like the request did before. */
+  @Benchmark
+  public URI getStateUriWithObjectMapper() throws JsonProcessingException {
+
+    final Map<String, Object> queryParams = new HashMap<>();
+
+    queryParams.put("activityId", activityId);
+    queryParams.put("agent", objectMapper.writeValueAsString(agent));
+    queryParams.put("stateId", "bookmark");
+
+    return uriBuilderFactory
+        .builder()
+        .path("/activities/state")
+        .queryParam("activityId", "{activityId}")
+        .queryParam("agent", "{agent}")
+        .queryParamIfPresent("registration", Optional.of(registration))
+        .queryParam("stateId", "{stateId}")
+        .build(queryParams);
+  }
+
+  /** Builds the URI of a get Statements request. */
+  @Benchmark
+  public URI getStatementsUri() {
+
+    final Map<String, Object> queryParams = new HashMap<>();
+
+    return getStatementsRequest.url(uriBuilderFactory.builder(), queryParams).build(queryParams);
+  }
+
+  /** Builds the URI of a get Statements request like the request did before. */
+  @Benchmark
+  public URI getStatementsUriWithObjectMapper() throws JsonProcessingException {
+
+    final Map<String, Object> queryParams = new HashMap<>();
+
+    queryParams.put("agent", objectMapper.writeValueAsString(agent));
+    queryParams.put("verb", verb);
+
+    return uriBuilderFactory
+        .builder()
+        .path("/statements")
+        .queryParam("agent", "{agent}")
+        .queryParam("verb", "{verb}")
+        .queryParamIfPresent("limit", Optional.of(100))
+        .build(queryParams);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.learning.xapi.model.Statement;
+import dev.learning.xapi.model.StatementResult;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jackson round-trips of a Statement and a page of Statements, with and without the strict
+ * modules.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+  /** The strict modules registered on the {@link ObjectMapper}. */
+  @Param({
+    "none", "timestamp", "objectType", "nullValues", "locale", "all", "statement", "canonical"
+  })
+  public String modules;
+
+  /** The number of Statements of the StatementResult. */
+  @Param({"100"})
+  public int pageSize;
+
+  private ObjectMapper objectMapper;
+
+  private Statement statement;
+
+  private StatementResult statementResult;
+
+  private byte[] statementJson;
+
+  private byte[] statementResultJson;
+
+  /**
+   * Prepares the test data.
+   *
+   * @throws Exception if the test data cannot be serialized
+   */
+  @Setup
+  public void setUp() throws Exception {
+
+    objectMapper = Fixtures.objectMapper(modules);
+
+    statement = Fixtures.statement();
+    statementResult = Fixtures.statementResult(pageSize);
+
+    statementJson = objectMapper.writeValueAsBytes(statement);
+    statementResultJson = objectMapper.writeValueAsBytes(statementResult);
+  }
+
+  /** Serializes a Statement. */
+  @Benchmark
+  public byte[] writeStatement() throws Exception {
+    return objectMapper.writeValueAsBytes(statement);
+  }
+
+  /** Deserializes a Statement. */
+  @Benchmark
+  public Statement readStatement() throws Exception {
+    return objectMapper.readValue(statementJson, Statement.class);
+  }
+
+  /** Serializes a StatementResult. */
+  @Benchmark
+  public byte[] writeStatementResult() throws Exception {
+    return objectMapper.writeValueAsBytes(statementResult);
+  }
+
+  /** Deserializes a StatementResult. */
+  @Benchmark
+  public StatementResult readStatementResult() throws Exception {
+    return objectMapper.readValue(statementResultJson, StatementResult.class);
+  }
+}
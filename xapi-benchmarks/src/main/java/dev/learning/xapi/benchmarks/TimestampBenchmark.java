@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.benchmarks;
+
+import dev.learning.xapi.jackson.model.strict.XapiTimestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing and formatting of xAPI timestamps by {@link XapiTimestamp}, compared to the formatter
+ * based parsing it used before.
+ *
+ * <p>The {@code +0000} offset is not one of the common shapes, so it measures the formatter
+ * fallback.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimestampBenchmark {
+
+  /** The timestamp to parse. */
+  @Param({"2024-05-18T05:32:34.804Z", "2024-05-18T05:32:34.804+02:00", "2024-05-18T05:32:34+0000"})
+  public String timestamp;
+
+  private final Instant instant = Instant.parse("2024-05-18T05:32:34.804Z");
+
+  /** Parses the timestamp with {@link XapiTimestamp#parse(String)}. */
+  @Benchmark
+  public Instant parse() {
+    return XapiTimestamp.parse(timestamp);
+  }
+
+  /** Parses the timestamp like {@link XapiTimestamp#parse(String)} did before the fast path. */
+  @Benchmark
+  public Instant parseWithFormatter() {
+
+    final var formatter =
+        new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+            .appendPattern("[XXXXX][XXXX][X]")
+            .toFormatter();
+
+    final var dt = formatter.parseBest(timestamp, Instant::from, LocalDateTime::from);
+
+    if (dt instanceof final Instant parsed) {
+      return parsed;
+    }
+    return Instant.from(ZonedDateTime.of((LocalDateTime) dt, ZoneOffset.UTC));
+  }
+
+  /** Formats an instant with {@link XapiTimestamp#format(Instant)}. */
+  @Benchmark
+  public String format() {
+    return XapiTimestamp.format(instant);
+  }
+
+  /** Formats an instant with {@link Instant#toString()}. */
+  @Benchmark
+  public String formatWithToString() {
+    return instant.toString();
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.benchmarks;
+
+import dev.learning.xapi.model.Statement;
+import dev.learning.xapi.model.StatementResult;
+import dev.learning.xapi.model.validation.StatementValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bean Validation of Statements with the custom xAPI validators, compared to the hand-written
+ * {@link StatementValidator}.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+  /** The number of Statements of the StatementResult. */
+  @Param({"100", "1000"})
+  public int pageSize;
+
+  private ValidatorFactory validatorFactory;
+
+  private Validator validator;
+
+  private final StatementValidator statementValidator = new StatementValidator();
+
+  private Statement statement;
+
+  private StatementResult statementResult;
+
+  /** Prepares the validator and the test data. */
+  @Setup
+  public void setUp() {
+
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    validator = validatorFactory.getValidator();
+
+    statement = Fixtures.statement();
+    statementResult = Fixtures.statementResult(pageSize);
+
+    final var violations = validator.validate(statement);
+    if (!violations.isEmpty() || !statementValidator.isValid(statement)) {
+      throw new IllegalStateException("Invalid test Statement: " + violations);
+    }
+  }
+
+  /** Closes the validator factory. */
+  @TearDown
+  public void tearDown() {
+    validatorFactory.close();
+  }
+
+  /** Validates a Statement. */
+  @Benchmark
+  public Set<ConstraintViolation<Statement>> validateStatement() {
+    return validator.validate(statement);
+  }
+
+  /** Validates a page of Statements. */
+  @Benchmark
+  public Set<ConstraintViolation<StatementResult>> validateStatementResult() {
+    return validator.validate(statementResult);
+  }
+
+  /** Validates a Statement with the {@link StatementValidator}. */
+  @Benchmark
+  public Set<ConstraintViolation<Statement>> validateStatementWithStatementValidator() {
+    return statementValidator.validate(statement);
+  }
+
+  /**
+   * Validates the Statements of a page with the {@link StatementValidator}, in parallel if the page
+   * has at least {@link StatementValidator#DEFAULT_PARALLELISM_THRESHOLD} Statements.
+   */
+  @Benchmark
+  public Set<ConstraintViolation<List<Statement>>> validateStatementResultWithStatementValidator() {
+    return statementValidator.validate(statementResult.getStatements());
+  }
+}
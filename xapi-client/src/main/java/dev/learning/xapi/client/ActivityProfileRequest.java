@@ -6,13 +6,19 @@ package dev.learning.xapi.client;
 
 import java.net.URI;
 import java.util.Map;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.SuperBuilder;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.util.UriBuilder;
 
 @SuperBuilder
+@Getter
 abstract class ActivityProfileRequest implements Request {
 
+  private static final MultiValueMap<String, String> QUERY_TEMPLATE =
+      QueryTemplates.of("activityId", "profileId");
+
   /** The Activity id associated with this Profile document. */
   @NonNull private final URI activityId;
 
@@ -25,10 +31,7 @@ abstract class ActivityProfileRequest implements Request {
     queryParams.put("activityId", activityId);
     queryParams.put("profileId", profileId);
 
-    return uriBuilder
-        .path("/activities/profile")
-        .queryParam("activityId", "{activityId}")
-        .queryParam("profileId", "{profileId}");
+    return uriBuilder.path("/activities/profile").queryParams(QUERY_TEMPLATE);
   }
 
   /** Builder for ActivityProfileRequest. */
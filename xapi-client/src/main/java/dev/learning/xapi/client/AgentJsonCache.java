@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.learning.xapi.model.Agent;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.SneakyThrows;
+
+/**
+ * Cache of the JSON representations of the agent query parameters.
+ *
+ * <p>Applications usually reuse the same {@link Agent} instance for many requests, e.g. for every
+ * State read of a learner. The cache is keyed by the identity of the immutable {@link Agent}
+ * instances, so a hit costs a single reference comparison instead of a Jackson serialization. It
+ * is a fixed size direct mapped table, so colliding agents simply replace each other.
+ *
+ * @author Thomas Turrell-Croft
+ */
+final class AgentJsonCache {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  // Must be a power of two
+  private static final int SIZE = 256;
+
+  private static final AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(SIZE);
+
+  private AgentJsonCache() {}
+
+  /**
+   * Gets the JSON representation of an agent.
+   *
+   * @param agent the {@link Agent} of the query parameter
+   * @return the JSON representation of the agent
+   */
+  static String toJson(Agent agent) {
+
+    final var index = System.identityHashCode(agent) & (SIZE - 1);
+    final var entry = entries.get(index);
+
+    if (entry != null && entry.agent == agent) {
+      return entry.json;
+    }
+
+    final var json = writeValueAsString(agent);
+    entries.set(index, new Entry(agent, json));
+    return json;
+  }
+
+  // Exception in write value as string should be impossible.
+  @SneakyThrows
+  private static String writeValueAsString(Agent agent) {
+
+    return objectMapper.writeValueAsString(agent);
+  }
+
+  private record Entry(Agent agent, String json) {}
+}
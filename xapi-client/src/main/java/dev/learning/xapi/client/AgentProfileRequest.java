@@ -4,19 +4,21 @@
 
 package dev.learning.xapi.client;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.learning.xapi.model.Agent;
 import java.util.Map;
 import java.util.function.Consumer;
+import lombok.Getter;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 import lombok.experimental.SuperBuilder;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.util.UriBuilder;
 
 @SuperBuilder
+@Getter
 abstract class AgentProfileRequest implements Request {
 
-  private static final ObjectMapper objectMapper = new ObjectMapper();
+  private static final MultiValueMap<String, String> QUERY_TEMPLATE =
+      QueryTemplates.of("agent", "profileId");
 
   /** The Agent associated with this Profile document. */
   @NonNull private final Agent agent;
@@ -27,13 +29,10 @@ abstract class AgentProfileRequest implements Request {
   @Override
   public UriBuilder url(UriBuilder uriBuilder, Map<String, Object> queryParams) {
 
-    queryParams.put("agent", agentToJsonString());
+    queryParams.put("agent", AgentJsonCache.toJson(agent));
     queryParams.put("profileId", profileId);
 
-    return uriBuilder
-        .path("/agents/profile")
-        .queryParam("agent", "{agent}")
-        .queryParam("profileId", "{profileId}");
+    return uriBuilder.path("/agents/profile").queryParams(QUERY_TEMPLATE);
   }
 
   /** Builder for AgentProfileRequest. */
@@ -69,11 +68,4 @@ abstract class AgentProfileRequest implements Request {
       return self();
     }
   }
-
-  // Exception in write value as string should be impossible.
-  @SneakyThrows
-  private String agentToJsonString() {
-
-    return objectMapper.writeValueAsString(agent);
-  }
 }
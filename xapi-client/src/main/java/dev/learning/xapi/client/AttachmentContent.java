@@ -0,0 +1,146 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.client;
+
+import dev.learning.xapi.model.Attachment;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The data of an {@link Attachment} which is not loaded into the memory, e.g. a large video.
+ *
+ * <p>The data is read twice: once by {@link #toAttachment(Consumer)} for calculating the SHA-2 hash
+ * and the length of the Attachment, and once when the Statement is posted. Both reads run off the
+ * event loop. The {@link Attachment} created by {@link #toAttachment(Consumer)} and this content
+ * must be added to the same {@link PostStatementRequest} or {@link PostStatementsRequest}.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * final var content = AttachmentContent.of(Path.of("video.mp4"));
+ *
+ * content
+ *     .toAttachment(a -> a.usageType(usageType).addDisplay(Locale.ENGLISH, "Video")
+ *         .contentType("video/mp4"))
+ *     .flatMap(attachment -> client.postStatement(r -> r
+ *         .statement(s -> s.actor(actor).verb(verb).object(object).addAttachment(attachment))
+ *         .addAttachmentContent(attachment, content)));
+ * }</pre>
+ *
+ * @author Thomas Turrell-Croft
+ */
+public final class AttachmentContent {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Path file;
+
+  private final Callable<InputStream> inputStream;
+
+  private AttachmentContent(Path file, Callable<InputStream> inputStream) {
+    this.file = file;
+    this.inputStream = inputStream;
+  }
+
+  /**
+   * Creates the content of an attachment from a file.
+   *
+   * @param file the file which contains the data of the attachment
+   * @return the {@link AttachmentContent}
+   */
+  public static AttachmentContent of(Path file) {
+
+    Assert.notNull(file, "File cannot be null");
+
+    return new AttachmentContent(file, () -> Files.newInputStream(file));
+  }
+
+  /**
+   * Creates the content of an attachment from a source of {@link InputStream}s.
+   *
+   * <p>Each call of the source must return a new stream of the same data.
+   *
+   * @param inputStream the source of the data of the attachment
+   * @return the {@link AttachmentContent}
+   */
+  public static AttachmentContent of(Callable<InputStream> inputStream) {
+
+    Assert.notNull(inputStream, "InputStream source cannot be null");
+
+    return new AttachmentContent(null, inputStream);
+  }
+
+  /**
+   * Creates the {@link Attachment} of this content.
+   *
+   * <p>The data is read on the bounded elastic scheduler for calculating the SHA-2 hash and the
+   * length of the attachment. The other properties are set by the consumer builder.
+   *
+   * @param attachment the consumer builder for the other properties of the attachment
+   * @return the {@link Attachment} without content
+   */
+  public Mono<Attachment> toAttachment(Consumer<Attachment.Builder> attachment) {
+
+    return Mono.fromCallable(
+            () -> {
+              final var builder = Attachment.builder();
+
+              attachment.accept(builder);
+
+              digest(builder);
+
+              return builder.build();
+            })
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  /**
+   * Reads the data of this content in chunks.
+   *
+   * @param bufferFactory the factory of the buffers
+   * @return the data of the attachment
+   */
+  Flux<DataBuffer> read(DataBufferFactory bufferFactory) {
+
+    if (file != null) {
+      // Read the file via an asynchronous file channel
+      return DataBufferUtils.read(file, bufferFactory, BUFFER_SIZE);
+    }
+
+    // Reading an InputStream blocks, so it must not run on the event loop
+    return DataBufferUtils.readInputStream(inputStream, bufferFactory, BUFFER_SIZE)
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  // Calculates the sha2 and the length of the data in a single streaming pass
+  private void digest(Attachment.Builder builder) throws Exception {
+
+    final var digest = MessageDigest.getInstance("SHA-256");
+    final var buffer = new byte[BUFFER_SIZE];
+    long count = 0;
+
+    try (var stream = inputStream.call()) {
+      int read;
+      while ((read = stream.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+        count += read;
+      }
+    }
+
+    builder.sha2(HexFormat.of().formatHex(digest.digest())).length(Math.toIntExact(count));
+  }
+}
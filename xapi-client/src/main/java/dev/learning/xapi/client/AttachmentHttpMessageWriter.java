@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import org.reactivestreams.Publisher;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
@@ -17,16 +18,26 @@ import org.springframework.http.ReactiveHttpOutputMessage;
 import org.springframework.http.codec.HttpMessageWriter;
 import org.springframework.http.codec.multipart.MultipartWriterSupport;
 import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * {@link HttpMessageWriter} for writing {@link Attachment} data into multipart/mixed requests.
  *
+ * <p>Byte array contents are wrapped without copying. The data of an Attachment without content is
+ * read from the {@link AttachmentContent} with the same SHA-2 hash, which the {@link
+ * StatementHttpMessageWriter} passes in a hint. It is written in chunks, so it is never loaded into
+ * the memory as a whole.
+ *
  * @author István Rátkai (Selindek)
  */
 public class AttachmentHttpMessageWriter extends MultipartWriterSupport
     implements HttpMessageWriter<Attachment> {
 
+  // The AttachmentContents of the Attachments without content, keyed by their SHA-2 hash
+  static final String ATTACHMENT_CONTENTS_HINT =
+      AttachmentHttpMessageWriter.class.getName() + ".attachmentContents";
+
   /** Default constructor. */
   public AttachmentHttpMessageWriter() {
     super(List.of(MediaType.MULTIPART_MIXED));
@@ -56,18 +67,48 @@ public class AttachmentHttpMessageWriter extends MultipartWriterSupport
               outputMessage.getHeaders().set("X-Experience-API-Hash", part.getSha2());
 
               // write attachment content
-              return outputMessage.writeWith(encodePart(part, outputMessage.bufferFactory()));
+              return outputMessage.writeWith(
+                  encodePart(part, outputMessage.bufferFactory(), hints));
             })
         .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
   }
 
-  private Mono<DataBuffer> encodePart(Attachment part, DataBufferFactory bufferFactory) {
+  private Flux<DataBuffer> encodePart(
+      Attachment part, DataBufferFactory bufferFactory, Map<String, Object> hints) {
+
+    if (part.getContent() != null) {
+      // Wrap the content without copying it
+      return Flux.defer(() -> Flux.just(bufferFactory.wrap(part.getContent())));
+    }
+
+    final var content = getAttachmentContents(hints).get(part.getSha2());
+
+    if (content == null) {
+      return Flux.error(new CodecException("No content found for attachment: " + part.getSha2()));
+    }
+
+    return content.read(bufferFactory);
+  }
+
+  /**
+   * Gets the {@link AttachmentContent}s of the hints.
+   *
+   * @param hints the hints of the writer
+   * @return the attachment contents keyed by the SHA-2 hash of the attachments
+   */
+  @SuppressWarnings("unchecked")
+  static Map<String, AttachmentContent> getAttachmentContents(Map<String, Object> hints) {
+    return (Map<String, AttachmentContent>)
+        hints.getOrDefault(ATTACHMENT_CONTENTS_HINT, Map.of());
+  }
 
-    return Mono.fromCallable(
-        () -> {
-          final var buffer = bufferFactory.allocateBuffer(part.getContent().length);
-          buffer.write(part.getContent());
-          return buffer;
-        });
+  /**
+   * Checks whether an {@link Attachment} has real data.
+   *
+   * @param attachment the attachment to check
+   * @return true if the attachment has content
+   */
+  static boolean hasContent(Attachment attachment) {
+    return attachment.getContent() != null;
   }
 }
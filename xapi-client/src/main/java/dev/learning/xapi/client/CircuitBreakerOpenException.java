@@ -0,0 +1,25 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.client;
+
+/**
+ * Thrown when a request is not sent because the circuit breaker of the {@link
+ * ResilienceFilterFunction} is open.
+ *
+ * @author Thomas Turrell-Croft
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+
+  private static final long serialVersionUID = 2519412385407816534L;
+
+  /**
+   * Constructor.
+   *
+   * @param message the detail message
+   */
+  public CircuitBreakerOpenException(String message) {
+    super(message);
+  }
+}
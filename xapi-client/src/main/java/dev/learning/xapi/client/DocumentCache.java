@@ -0,0 +1,259 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded cache of State, Agent Profile and Activity Profile documents.
+ *
+ * <p>The documents are keyed by the full identity of their request (the path and all the query
+ * parameters, e.g. activityId, agent, registration and stateId). A cached document is revalidated
+ * with an {@code If-None-Match} header and served from the cache when the LRS answers with {@code
+ * 304 Not Modified}. Only documents with an ETag are cached.
+ *
+ * <p>The documents are stored as bytes: {@code String} and {@code byte[]} documents as they are,
+ * other documents serialized as JSON with the ObjectMapper of the {@link XapiClient} which uses
+ * this cache. Every cache hit returns a new copy of the document, so a caller which modifies its
+ * document does not change the cached one. A cached document which cannot be read back is evicted
+ * and fetched again.
+ *
+ * <p>The size of the cache is limited by the total weight of its entries, which is the size of the
+ * stored document plus the length of its key. The least recently used entries are evicted first.
+ *
+ * @author Thomas Turrell-Croft
+ * @see XapiClient#XapiClient(org.springframework.web.reactive.function.client.WebClient.Builder,
+ *     DocumentCache)
+ */
+public class DocumentCache {
+
+  private final long maxWeight;
+
+  private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private long weight;
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private final LongAdder evictionCount = new LongAdder();
+
+  private volatile ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  /**
+   * Constructor.
+   *
+   * @param maxWeight the maximum total weight of the cached documents in bytes
+   */
+  public DocumentCache(long maxWeight) {
+    Assert.isTrue(maxWeight > 0, "Max weight must be positive");
+
+    this.maxWeight = maxWeight;
+  }
+
+  /** Sets the ObjectMapper of the JSON codecs of the client. */
+  void setObjectMapper(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Gets the cached response of the given key if it was decoded into the given body type.
+   *
+   * @return the cached entry or null
+   */
+  synchronized Entry get(String key, Class<?> bodyType) {
+
+    final var entry = entries.get(key);
+
+    return entry != null && entry.bodyType == bodyType ? entry : null;
+  }
+
+  /**
+   * Updates the cache with a response of the LRS.
+   *
+   * @param key the key of the document
+   * @param cached the entry which was revalidated by the request, or null
+   * @param response the response of the LRS
+   * @return the cached response if the LRS answered with {@code 304 Not Modified}, null if the
+   *     cached document cannot be read and must be fetched again, otherwise the given response
+   */
+  <T> ResponseEntity<T> update(
+      String key, Entry cached, Class<T> bodyType, ResponseEntity<T> response) {
+
+    if (cached != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+      final var body = fromBytes(cached.body, bodyType);
+      if (body == null) {
+        invalidate(key);
+        return null;
+      }
+
+      hitCount.increment();
+      return new ResponseEntity<>(body, cached.headers, cached.status);
+    }
+
+    missCount.increment();
+
+    final var etag = response.getHeaders().getETag();
+    final var body = response.getBody() == null ? null : toBytes(response.getBody());
+
+    if (etag == null || body == null || key.length() + (long) body.length > maxWeight) {
+      invalidate(key);
+      return response;
+    }
+
+    final var entryWeight = key.length() + (long) body.length;
+    final var entry =
+        new Entry(
+            etag, bodyType, response.getHeaders(), response.getStatusCode(), body, entryWeight);
+
+    synchronized (this) {
+      final var previous = entries.put(key, entry);
+      if (previous != null) {
+        weight -= previous.weight;
+      }
+      weight += entryWeight;
+
+      final Iterator<Entry> iterator = entries.values().iterator();
+      while (weight > maxWeight) {
+        weight -= iterator.next().weight;
+        iterator.remove();
+        evictionCount.increment();
+      }
+    }
+
+    return response;
+  }
+
+  /** Removes the document of the given key. */
+  synchronized void invalidate(String key) {
+
+    final var entry = entries.remove(key);
+
+    if (entry != null) {
+      weight -= entry.weight;
+    }
+  }
+
+  /** Removes all the documents whose key starts with the given prefix. */
+  synchronized void invalidateAll(String prefix) {
+
+    final Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+
+    while (iterator.hasNext()) {
+      final var entry = iterator.next();
+      if (entry.getKey().startsWith(prefix)) {
+        weight -= entry.getValue().weight;
+        iterator.remove();
+      }
+    }
+  }
+
+  /** Removes all the documents. */
+  public synchronized void clear() {
+    entries.clear();
+    weight = 0;
+  }
+
+  /**
+   * Gets the number of requests which were served from the cache.
+   *
+   * @return the number of cache hits
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Gets the number of requests which were not served from the cache.
+   *
+   * @return the number of cache misses
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Gets the number of documents which were evicted to keep the weight limit.
+   *
+   * @return the number of evictions
+   */
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  /**
+   * Gets the number of cached documents.
+   *
+   * @return the number of cached documents
+   */
+  public synchronized int getSize() {
+    return entries.size();
+  }
+
+  /**
+   * Gets the total weight of the cached documents.
+   *
+   * @return the weight in bytes
+   */
+  public synchronized long getWeight() {
+    return weight;
+  }
+
+  // The stored form of a document, or null if it cannot be serialized
+  private byte[] toBytes(Object body) {
+
+    if (body instanceof final byte[] bytes) {
+      return bytes.clone();
+    }
+    if (body instanceof final String string) {
+      return string.getBytes(StandardCharsets.UTF_8);
+    }
+
+    try {
+      return objectMapper.writeValueAsBytes(body);
+    } catch (final IOException e) {
+      return null;
+    }
+  }
+
+  // A new copy of a stored document, or null if it cannot be deserialized
+  @SuppressWarnings("unchecked")
+  private <T> T fromBytes(byte[] body, Class<T> bodyType) {
+
+    if (bodyType == byte[].class) {
+      return (T) body.clone();
+    }
+    if (bodyType == String.class) {
+      return (T) new String(body, StandardCharsets.UTF_8);
+    }
+
+    try {
+      return objectMapper.readValue(body, bodyType);
+    } catch (final IOException e) {
+      return null;
+    }
+  }
+
+  record Entry(
+      String etag,
+      Class<?> bodyType,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      byte[] body,
+      long weight) {}
+}
@@ -8,6 +8,7 @@ import java.net.URI;
 import java.time.Instant;
 import java.util.Map;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.NonNull;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.util.UriBuilder;
@@ -23,6 +24,7 @@ import org.springframework.web.util.UriBuilder;
  * @author Thomas Turrell-Croft
  */
 @Builder
+@Getter
 public class GetActivityProfilesRequest implements Request {
 
   /** The Activity id associated with these Profile documents. */
@@ -4,7 +4,6 @@
 
 package dev.learning.xapi.client;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.learning.xapi.model.Agent;
 import java.time.Instant;
 import java.util.Map;
@@ -12,7 +11,6 @@ import java.util.function.Consumer;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.util.UriBuilder;
 
@@ -28,8 +26,6 @@ import org.springframework.web.util.UriBuilder;
 @Builder
 public class GetAgentProfilesRequest implements Request {
 
-  private static final ObjectMapper objectMapper = new ObjectMapper();
-
   @NonNull private final Agent agent;
 
   private final Instant since;
@@ -37,7 +33,7 @@ public class GetAgentProfilesRequest implements Request {
   @Override
   public UriBuilder url(UriBuilder uriBuilder, Map<String, Object> queryParams) {
 
-    queryParams.put("agent", agentToJsonString());
+    queryParams.put("agent", AgentJsonCache.toJson(agent));
     uriBuilder.path("/agents/profile").queryParam("agent", "{agent}");
 
     if (since != null) {
@@ -87,11 +83,4 @@ public class GetAgentProfilesRequest implements Request {
       return this;
     }
   }
-
-  // Exception in write value as string should be impossible.
-  @SneakyThrows
-  private String agentToJsonString() {
-
-    return objectMapper.writeValueAsString(agent);
-  }
 }
@@ -4,13 +4,11 @@
 
 package dev.learning.xapi.client;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.learning.xapi.model.Agent;
 import java.util.Map;
 import java.util.function.Consumer;
 import lombok.Builder;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.util.UriBuilder;
 
@@ -27,15 +25,13 @@ import org.springframework.web.util.UriBuilder;
 @Builder
 public class GetAgentsRequest implements Request {
 
-  private static final ObjectMapper objectMapper = new ObjectMapper();
-
   /** The Agent representation to use in fetching expanded Agent information. */
   @NonNull private final Agent agent;
 
   @Override
   public UriBuilder url(UriBuilder uriBuilder, Map<String, Object> queryParams) {
 
-    queryParams.put("agent", agentToJsonString());
+    queryParams.put("agent", AgentJsonCache.toJson(agent));
 
     return uriBuilder.path("/agents").queryParam("agent", "{agent}");
   }
@@ -78,11 +74,4 @@ public class GetAgentsRequest implements Request {
       return this;
     }
   }
-
-  // Exception in write value as string should be impossible.
-  @SneakyThrows
-  private String agentToJsonString() {
-
-    return objectMapper.writeValueAsString(agent);
-  }
 }
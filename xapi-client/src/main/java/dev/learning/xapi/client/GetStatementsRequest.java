@@ -4,7 +4,6 @@
 
 package dev.learning.xapi.client;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.learning.xapi.model.Agent;
 import dev.learning.xapi.model.StatementFormat;
 import dev.learning.xapi.model.Verb;
@@ -16,7 +15,6 @@ import java.util.UUID;
 import java.util.function.Consumer;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.util.UriBuilder;
 
@@ -28,12 +26,10 @@ import org.springframework.web.util.UriBuilder;
  *     Statements</a>
  * @author Thomas Turrell-Croft
  */
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class GetStatementsRequest implements Request {
 
-  private static final ObjectMapper objectMapper = new ObjectMapper();
-
   private final Agent agent;
 
   private final URI verb;
@@ -71,7 +67,7 @@ public class GetStatementsRequest implements Request {
     uriBuilder.path("/statements");
 
     if (agent != null) {
-      queryParams.put("agent", agentToJsonString());
+      queryParams.put("agent", AgentJsonCache.toJson(agent));
       uriBuilder.queryParam("agent", "{agent}");
     }
 
@@ -223,11 +219,4 @@ public class GetStatementsRequest implements Request {
     // This static class extends the lombok builder.
 
   }
-
-  // Exception in write value as string should be impossible.
-  @SneakyThrows
-  private String agentToJsonString() {
-
-    return objectMapper.writeValueAsString(agent);
-  }
 }
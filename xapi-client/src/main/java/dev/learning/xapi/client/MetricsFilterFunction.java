@@ -0,0 +1,190 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ExchangeFilterFunction} which records Micrometer metrics of the requests of an {@link
+ * XapiClient}.
+ *
+ * <p>The following meters are tagged by the xAPI {@code resource} (statements, state,
+ * activity-profile, agent-profile, activities, agents or about) and the HTTP {@code method}:
+ *
+ * <ul>
+ *   <li>{@code xapi.client.requests}: timer of the requests until the response headers are
+ *       received, additionally tagged by {@code outcome} and {@code status}
+ *   <li>{@code xapi.client.request.size}: distribution summary of the request body sizes in bytes
+ *   <li>{@code xapi.client.response.size}: distribution summary of the response body sizes in
+ *       bytes
+ * </ul>
+ *
+ * <p>Statement requests also record:
+ *
+ * <ul>
+ *   <li>{@code xapi.client.statements.batch.size}: distribution summary of the number of
+ *       Statements per posted request
+ *   <li>{@code xapi.client.attachments.size}: distribution summary of the attachment bytes per
+ *       posted request
+ *   <li>{@code xapi.client.statements.pages}: counter of the fetched Statement pages, including
+ *       the pages fetched by the {@link XapiClient.StatementIterator}
+ * </ul>
+ *
+ * @author Thomas Turrell-Croft
+ */
+public class MetricsFilterFunction implements ExchangeFilterFunction {
+
+  private final MeterRegistry registry;
+
+  /**
+   * Constructor.
+   *
+   * @param registry the {@link MeterRegistry} of the metrics
+   */
+  public MetricsFilterFunction(MeterRegistry registry) {
+    Assert.notNull(registry, "Registry cannot be null");
+
+    this.registry = registry;
+  }
+
+  @Override
+  public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+    final var tags =
+        Tags.of("resource", XapiResources.of(request.url()), "method", request.method().name());
+
+    final var requestBytes = new AtomicLong();
+    final var counted =
+        ClientRequest.from(request)
+            .body(
+                (outputMessage, context) ->
+                    request
+                        .body()
+                        .insert(new CountingRequest(outputMessage, requestBytes), context))
+            .build();
+
+    recordStatements(request, tags);
+
+    final var sample = Timer.start(registry);
+
+    return next.exchange(counted)
+        .doOnError(
+            e ->
+                sample.stop(
+                    registry.timer(
+                        "xapi.client.requests", tags.and("outcome", "ERROR", "status", "CLIENT"))))
+        .map(
+            response -> {
+              final var status = response.statusCode();
+              sample.stop(
+                  registry.timer(
+                      "xapi.client.requests",
+                      tags.and(
+                          "outcome",
+                          outcome(status.value()),
+                          "status",
+                          String.valueOf(status.value()))));
+
+              DistributionSummary.builder("xapi.client.request.size")
+                  .baseUnit("bytes")
+                  .tags(tags)
+                  .register(registry)
+                  .record(requestBytes.get());
+
+              final var responseBytes = new AtomicLong();
+              final Runnable recordResponseSize =
+                  () ->
+                      DistributionSummary.builder("xapi.client.response.size")
+                          .baseUnit("bytes")
+                          .tags(tags)
+                          .register(registry)
+                          .record(responseBytes.get());
+
+              return response
+                  .mutate()
+                  .body(
+                      body ->
+                          body.doOnNext(b -> responseBytes.addAndGet(b.readableByteCount()))
+                              .doOnTerminate(recordResponseSize)
+                              .doOnCancel(recordResponseSize))
+                  .build();
+            });
+  }
+
+  private void recordStatements(ClientRequest request, Tags tags) {
+
+    request
+        .attribute(XapiClient.STATEMENT_COUNT_ATTRIBUTE)
+        .ifPresent(
+            count ->
+                DistributionSummary.builder("xapi.client.statements.batch.size")
+                    .tags(tags)
+                    .register(registry)
+                    .record(((Number) count).doubleValue()));
+
+    request
+        .attribute(XapiClient.ATTACHMENT_BYTES_ATTRIBUTE)
+        .ifPresent(
+            bytes ->
+                DistributionSummary.builder("xapi.client.attachments.size")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(registry)
+                    .record(((Number) bytes).doubleValue()));
+
+    if (request.attribute(XapiClient.STATEMENT_PAGE_ATTRIBUTE).isPresent()) {
+      Counter.builder("xapi.client.statements.pages").tags(tags).register(registry).increment();
+    }
+  }
+
+  private static String outcome(int status) {
+    return switch (status / 100) {
+      case 1 -> "INFORMATIONAL";
+      case 2 -> "SUCCESS";
+      case 3 -> "REDIRECTION";
+      case 4 -> "CLIENT_ERROR";
+      case 5 -> "SERVER_ERROR";
+      default -> "UNKNOWN";
+    };
+  }
+
+  private static class CountingRequest extends ClientHttpRequestDecorator {
+
+    private final AtomicLong bytes;
+
+    CountingRequest(ClientHttpRequest delegate, AtomicLong bytes) {
+      super(delegate);
+      this.bytes = bytes;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+      return super.writeWith(Flux.from(body).doOnNext(b -> bytes.addAndGet(b.readableByteCount())));
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+      return super.writeAndFlushWith(
+          Flux.from(body)
+              .map(p -> Flux.from(p).doOnNext(b -> bytes.addAndGet(b.readableByteCount()))));
+    }
+  }
+}
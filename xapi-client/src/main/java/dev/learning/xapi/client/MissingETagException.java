@@ -0,0 +1,25 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.client;
+
+/**
+ * Thrown when a document is not modified because the LRS returned it without an ETag, so it could
+ * not be put back conditionally.
+ *
+ * @author Thomas Turrell-Croft
+ */
+public class MissingETagException extends RuntimeException {
+
+  private static final long serialVersionUID = -3620184395577246151L;
+
+  /**
+   * Constructor.
+   *
+   * @param message the detail message
+   */
+  public MissingETagException(String message) {
+    super(message);
+  }
+}
@@ -4,8 +4,10 @@
 
 package dev.learning.xapi.client;
 
+import dev.learning.xapi.model.Attachment;
 import dev.learning.xapi.model.Statement;
 import java.security.PrivateKey;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 import lombok.Builder;
@@ -27,6 +29,12 @@ public class PostStatementRequest implements Request {
 
   private final Statement statement;
 
+  /**
+   * The {@link AttachmentContent}s of the attachments which have no content, keyed by the SHA-2
+   * hash of the attachments.
+   */
+  private final Map<String, AttachmentContent> attachmentContents;
+
   @Override
   public HttpMethod getMethod() {
     return HttpMethod.POST;
@@ -89,5 +97,25 @@ public class PostStatementRequest implements Request {
 
       return statement(builder.signAndBuild(privateKey));
     }
+
+    /**
+     * Adds the content of an attachment.
+     *
+     * @param attachment The {@link Attachment} of the content, created by {@link
+     *     AttachmentContent#toAttachment}.
+     * @param content The {@link AttachmentContent} of the attachment.
+     * @return This builder
+     * @see PostStatementRequest#attachmentContents
+     */
+    public Builder addAttachmentContent(Attachment attachment, AttachmentContent content) {
+
+      if (this.attachmentContents == null) {
+        this.attachmentContents = new HashMap<>();
+      }
+
+      this.attachmentContents.put(attachment.getSha2(), content);
+
+      return this;
+    }
   }
 }
@@ -4,8 +4,10 @@
 
 package dev.learning.xapi.client;
 
+import dev.learning.xapi.model.Attachment;
 import dev.learning.xapi.model.Statement;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.Builder;
@@ -27,6 +29,12 @@ public class PostStatementsRequest implements Request {
 
   private final List<Statement> statements;
 
+  /**
+   * The {@link AttachmentContent}s of the attachments which have no content, keyed by the SHA-2
+   * hash of the attachments.
+   */
+  private final Map<String, AttachmentContent> attachmentContents;
+
   @Override
   public HttpMethod getMethod() {
     return HttpMethod.POST;
@@ -66,5 +74,25 @@ public class PostStatementsRequest implements Request {
       this.statements = Arrays.asList(statements);
       return this;
     }
+
+    /**
+     * Adds the content of an attachment.
+     *
+     * @param attachment The {@link Attachment} of the content, created by {@link
+     *     AttachmentContent#toAttachment}.
+     * @param content The {@link AttachmentContent} of the attachment.
+     * @return This builder
+     * @see PostStatementsRequest#attachmentContents
+     */
+    public Builder addAttachmentContent(Attachment attachment, AttachmentContent content) {
+
+      if (this.attachmentContents == null) {
+        this.attachmentContents = new HashMap<>();
+      }
+
+      this.attachmentContents.put(attachment.getSha2(), content);
+
+      return this;
+    }
   }
 }
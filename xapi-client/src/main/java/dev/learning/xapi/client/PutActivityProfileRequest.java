@@ -28,6 +28,18 @@ public class PutActivityProfileRequest extends ActivityProfileRequest {
   /** The Activity Profile object to store. */
   @NonNull private final Object activityProfile;
 
+  /**
+   * The optional ETag of the stored document. The document is only stored if it has not been
+   * modified since.
+   */
+  private final String ifMatch;
+
+  /**
+   * The optional If-None-Match header. If it is {@code *}, the document is only stored if it does
+   * not exist yet.
+   */
+  private final String ifNoneMatch;
+
   @Override
   public HttpMethod getMethod() {
     return HttpMethod.PUT;
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.client;
+
+import dev.learning.xapi.model.Statement;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.util.UriBuilder;
+
+/**
+ * Request for putting a single Statement with a client assigned id.
+ *
+ * <p>Putting the same Statement again does not modify the LRS, so this request can be safely
+ * retried.
+ *
+ * @see <a href=
+ *     "https://github.com/adlnet/xAPI-Spec/blob/master/xAPI-Communication.md#211-put-statements">PUT
+ *     Statements</a>
+ * @author Thomas Turrell-Croft
+ */
+@Builder
+@Getter
+public class PutStatementRequest implements Request {
+
+  /** The Statement to store. Its id is required. */
+  @NonNull private final Statement statement;
+
+  @Override
+  public HttpMethod getMethod() {
+    return HttpMethod.PUT;
+  }
+
+  @Override
+  public UriBuilder url(UriBuilder uriBuilder, Map<String, Object> queryParams) {
+
+    return uriBuilder.path("/statements").queryParam("statementId", statement.getId());
+  }
+
+  /** Builder for PutStatementRequest. */
+  public static class Builder {
+
+    // This static class extends the lombok builder.
+
+    /**
+     * Consumer Builder for statement.
+     *
+     * @param statement The Consumer Builder for statement
+     * @return This builder
+     * @see PutStatementRequest#statement
+     */
+    public Builder statement(Consumer<Statement.Builder> statement) {
+
+      final var builder = Statement.builder();
+
+      statement.accept(builder);
+
+      return statement(builder.build());
+    }
+
+    /**
+     * Sets the statement.
+     *
+     * @param statement The Statement to put
+     * @return This builder
+     * @see PutStatementRequest#statement
+     */
+    public Builder statement(Statement statement) {
+
+      this.statement = statement;
+
+      return this;
+    }
+  }
+}
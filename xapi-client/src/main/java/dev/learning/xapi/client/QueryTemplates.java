@@ -0,0 +1,40 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.client;
+
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Precompiled query templates of the requests.
+ *
+ * <p>The mandatory query parameters of a request type never change, so their URI template
+ * variables are created once per type and added to the {@link
+ * org.springframework.web.util.UriBuilder} in a single call.
+ *
+ * @author Thomas Turrell-Croft
+ */
+final class QueryTemplates {
+
+  private QueryTemplates() {}
+
+  /**
+   * Creates a query template.
+   *
+   * @param names the names of the query parameters, in order
+   * @return an unmodifiable map of each name to its <code>{name}</code> URI template variable
+   */
+  static MultiValueMap<String, String> of(String... names) {
+
+    final MultiValueMap<String, String> template = new LinkedMultiValueMap<>(names.length);
+
+    for (final var name : names) {
+      template.add(name, "{" + name + "}");
+    }
+
+    return CollectionUtils.unmodifiableMultiValueMap(template);
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.client;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Singular;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * {@link ExchangeFilterFunction} which makes the requests of an {@link XapiClient} resilient to
+ * brief outages of the LRS.
+ *
+ * <ul>
+ *   <li>Every request has a response timeout, which can be overridden per xAPI resource (e.g.
+ *       {@code statements}, {@code state}, {@code activity-profile}).
+ *   <li>Requests answered with {@code 429 Too Many Requests} or {@code 503 Service Unavailable}
+ *       are retried with exponential backoff and jitter, because the LRS did not process them.
+ *   <li>Idempotent requests (GET, HEAD, PUT and DELETE, including the PUT of a Statement with a
+ *       client assigned id) are also retried after connection errors, timeouts and {@code 502
+ *       Bad Gateway} or {@code 504 Gateway Timeout} responses.
+ *   <li>A response which is not retried, e.g. after the last retry, is returned with its body.
+ *   <li>After {@code failureThreshold} consecutive failures the circuit breaker opens and the
+ *       requests fail fast with a {@link CircuitBreakerOpenException} for {@code openDuration}.
+ *       Then a single trial request is let through, which closes the circuit breaker if it
+ *       succeeds.
+ * </ul>
+ *
+ * <p>Register it on the {@link org.springframework.web.reactive.function.client.WebClient.Builder}
+ * of the {@link XapiClient}, or configure it with the {@code xapi.client.resilience.*} properties.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@Builder
+public class ResilienceFilterFunction implements ExchangeFilterFunction {
+
+  private static final Set<HttpMethod> IDEMPOTENT_METHODS =
+      Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.PUT, HttpMethod.DELETE);
+
+  /** The default response timeout of the requests. */
+  @Default private final Duration timeout = Duration.ofSeconds(30);
+
+  /** Response timeouts of the requests of individual xAPI resources. */
+  @Singular private final Map<String, Duration> resourceTimeouts;
+
+  /** The maximum number of retries of a request. Zero disables the retries. */
+  @Default private final int maxRetries = 3;
+
+  /** The minimum backoff before the first retry. */
+  @Default private final Duration minBackoff = Duration.ofMillis(100);
+
+  /** The maximum backoff between two retries. */
+  @Default private final Duration maxBackoff = Duration.ofSeconds(5);
+
+  /**
+   * The number of consecutive failures which opens the circuit breaker. Zero disables the circuit
+   * breaker.
+   */
+  @Default private final int failureThreshold = 5;
+
+  /** How long the circuit breaker stays open before a trial request is let through. */
+  @Default private final Duration openDuration = Duration.ofSeconds(30);
+
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+  // Zero if the circuit breaker is closed
+  private final AtomicLong openedAt = new AtomicLong();
+
+  private final AtomicBoolean trialInProgress = new AtomicBoolean();
+
+  @Override
+  public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+    final var idempotent = IDEMPOTENT_METHODS.contains(request.method());
+    final var requestTimeout =
+        resourceTimeouts.getOrDefault(XapiResources.of(request.url()), timeout);
+    final var attempts = new AtomicInteger();
+
+    return Mono.defer(
+            () ->
+                exchange(
+                    request,
+                    next,
+                    requestTimeout,
+                    idempotent,
+                    attempts.getAndIncrement() < maxRetries))
+        .retryWhen(
+            Retry.backoff(maxRetries, minBackoff)
+                .maxBackoff(maxBackoff)
+                .jitter(0.5)
+                .filter(e -> isRetryable(e, idempotent))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+  }
+
+  private Mono<ClientResponse> exchange(
+      ClientRequest request,
+      ExchangeFunction next,
+      Duration requestTimeout,
+      boolean idempotent,
+      boolean retryLeft) {
+
+    final var permission = acquirePermission();
+
+    if (permission == Permission.DENIED) {
+      return Mono.error(
+          new CircuitBreakerOpenException("Circuit breaker is open, request was not sent"));
+    }
+
+    // Only the trial request may release the trial of the half open circuit breaker
+    final var trial = permission == Permission.TRIAL;
+
+    return next.exchange(request)
+        .timeout(requestTimeout)
+        .doOnError(e -> onFailure(trial))
+        .doOnCancel(
+            () -> {
+              if (trial) {
+                trialInProgress.set(false);
+              }
+            })
+        .flatMap(
+            response -> {
+              final var status = response.statusCode();
+              if (!status.is5xxServerError() && status.value() != 429) {
+                onSuccess(trial);
+                return Mono.just(response);
+              }
+              onFailure(trial);
+              if (retryLeft && isRetryable(status.value(), idempotent)) {
+                // The response is discarded only if the request is sent again
+                return response
+                    .releaseBody()
+                    .then(Mono.error(new RetryableStatusException(status)));
+              }
+              return Mono.just(response);
+            });
+  }
+
+  private static boolean isRetryable(int status, boolean idempotent) {
+    return status == 429 || status == 503 || (idempotent && (status == 502 || status == 504));
+  }
+
+  private static boolean isRetryable(Throwable e, boolean idempotent) {
+
+    if (e instanceof CircuitBreakerOpenException) {
+      return false;
+    }
+
+    if (e instanceof RetryableStatusException) {
+      return true;
+    }
+
+    // Connection errors and timeouts
+    return idempotent;
+  }
+
+  private Permission acquirePermission() {
+
+    final var opened = openedAt.get();
+
+    if (failureThreshold == 0 || opened == 0) {
+      return Permission.GRANTED;
+    }
+
+    if (System.nanoTime() - opened < openDuration.toNanos()) {
+      return Permission.DENIED;
+    }
+
+    // Half open: a single trial request is let through
+    return trialInProgress.compareAndSet(false, true) ? Permission.TRIAL : Permission.DENIED;
+  }
+
+  private void onSuccess(boolean trial) {
+    consecutiveFailures.set(0);
+    openedAt.set(0);
+    if (trial) {
+      trialInProgress.set(false);
+    }
+  }
+
+  private void onFailure(boolean trial) {
+
+    if (failureThreshold == 0) {
+      return;
+    }
+
+    if (trial) {
+      // The failed trial opens the circuit breaker again
+      trialInProgress.set(false);
+      openedAt.set(System.nanoTime() | 1);
+    } else if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+      // Avoid the reserved zero value
+      openedAt.set(System.nanoTime() | 1);
+    }
+  }
+
+  /**
+   * Checks whether the circuit breaker is open.
+   *
+   * @return true if the requests currently fail fast
+   */
+  public boolean isOpen() {
+    return failureThreshold != 0 && openedAt.get() != 0;
+  }
+
+  private enum Permission {
+    DENIED,
+    GRANTED,
+    TRIAL
+  }
+
+  private static class RetryableStatusException extends RuntimeException {
+
+    private static final long serialVersionUID = -2712512985651924713L;
+
+    RetryableStatusException(HttpStatusCode status) {
+      super(status.toString(), null, false, false);
+    }
+  }
+}
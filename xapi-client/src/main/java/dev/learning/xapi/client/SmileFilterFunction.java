@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.client;
+
+import dev.learning.xapi.jackson.XapiSmile;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ExchangeFilterFunction} which negotiates the non-standard Smile format for the Statement
+ * requests of an {@link XapiClient}.
+ *
+ * <ul>
+ *   <li>Posted and put Statements are written as Smile, unless they have attachments with real
+ *       data, which are always sent as multipart/mixed with a JSON part.
+ *   <li>Smile responses are requested, but JSON responses are accepted too, so an LRS which does
+ *       not support Smile can still answer the get Statement requests.
+ * </ul>
+ *
+ * <p>The requests of the other resources, the requests of Statements with attachments and the
+ * requests which set their own Content-Type or Accept header are not changed. The State, Agent
+ * Profile and Activity Profile documents are stored by the LRS as they are sent and a posted JSON
+ * document is merged into the stored one, so they are never negotiated as Smile.
+ *
+ * @author Thomas Turrell-Croft
+ * @see XapiSmile
+ */
+public class SmileFilterFunction implements ExchangeFilterFunction {
+
+  /** The non-standard media type of Smile content. */
+  public static final MediaType APPLICATION_SMILE = MediaType.valueOf(XapiSmile.MEDIA_TYPE);
+
+  private static final List<MediaType> ACCEPT =
+      List.of(APPLICATION_SMILE, MediaType.valueOf("application/json;q=0.9"));
+
+  @Override
+  public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+    if (!"statements".equals(XapiResources.of(request.url()))) {
+      return next.exchange(request);
+    }
+
+    final var statements = request.attribute(XapiClient.STATEMENT_COUNT_ATTRIBUTE).isPresent();
+    final var attachments =
+        UriComponentsBuilder.fromUri(request.url())
+            .build()
+            .getQueryParams()
+            .getOrDefault("attachments", List.of())
+            .contains("true");
+
+    return next.exchange(
+        ClientRequest.from(request)
+            .headers(
+                headers -> {
+                  if (statements && headers.getContentType() == null) {
+                    headers.setContentType(APPLICATION_SMILE);
+                  }
+                  if (!attachments && headers.getAccept().isEmpty()) {
+                    headers.setAccept(ACCEPT);
+                  }
+                })
+            .build());
+  }
+}
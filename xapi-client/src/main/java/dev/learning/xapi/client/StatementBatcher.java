@@ -0,0 +1,217 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.learning.xapi.model.Attachment;
+import dev.learning.xapi.model.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.springframework.util.Assert;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Coalesces single {@link Statement}s into {@link PostStatementsRequest}s.
+ *
+ * <p>A batch is sent when it reaches {@code maxBatchSize} statements, when its estimated JSON size
+ * reaches {@code maxBatchBytes} or when {@code lingerTime} has elapsed since its first statement
+ * was added, whichever comes first. Each statement is answered with the id the LRS returned for
+ * its position in the batch.
+ *
+ * <p>Statements are queued as soon as {@link #add(Statement)} is called, the returned {@link Mono}
+ * does not need to be subscribed for the statement to be sent.
+ *
+ * @author Thomas Turrell-Croft
+ * @see XapiClient#batching(int, long, Duration)
+ */
+public class StatementBatcher implements Disposable {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  private final XapiClient client;
+
+  private final int maxBatchSize;
+
+  private final long maxBatchBytes;
+
+  private final Duration lingerTime;
+
+  private final Scheduler scheduler = Schedulers.parallel();
+
+  private List<PendingStatement> batch = new ArrayList<>();
+
+  private long batchBytes;
+
+  private Disposable lingerTask;
+
+  private boolean disposed;
+
+  /**
+   * Constructor.
+   *
+   * @param client the {@link XapiClient} used for posting the batches
+   * @param maxBatchSize the maximum number of statements in a batch
+   * @param maxBatchBytes the maximum estimated size of a batch in bytes, or zero for no limit
+   * @param lingerTime the maximum time a statement waits for its batch to be filled
+   */
+  public StatementBatcher(
+      XapiClient client, int maxBatchSize, long maxBatchBytes, Duration lingerTime) {
+    Assert.notNull(client, "Client cannot be null");
+    Assert.isTrue(maxBatchSize > 0, "Max batch size must be positive");
+    Assert.isTrue(maxBatchBytes >= 0, "Max batch bytes cannot be negative");
+    Assert.notNull(lingerTime, "Linger time cannot be null");
+
+    this.client = client;
+    this.maxBatchSize = maxBatchSize;
+    this.maxBatchBytes = maxBatchBytes;
+    this.lingerTime = lingerTime;
+  }
+
+  /**
+   * Adds a {@link Statement} to the current batch.
+   *
+   * @param statement the statement to post
+   * @return the id of the statement assigned by the LRS (or the id of the statement if it was set)
+   */
+  public Mono<UUID> add(Statement statement) {
+    Assert.notNull(statement, "Statement cannot be null");
+
+    final var pending = new PendingStatement(statement, Sinks.one(), estimateSize(statement));
+
+    final List<List<PendingStatement>> closed = new ArrayList<>(2);
+
+    synchronized (this) {
+      if (disposed) {
+        return Mono.error(new IllegalStateException("StatementBatcher has been disposed"));
+      }
+
+      // Close the current batch first if this statement would not fit into its byte budget
+      if (maxBatchBytes > 0 && !batch.isEmpty() && batchBytes + pending.size() > maxBatchBytes) {
+        closed.add(takeBatch());
+      }
+
+      batch.add(pending);
+      batchBytes += pending.size();
+
+      if (batch.size() == 1) {
+        final var lingering = batch;
+        lingerTask =
+            scheduler.schedule(
+                () -> flush(lingering), lingerTime.toNanos(), TimeUnit.NANOSECONDS);
+      }
+
+      if (batch.size() >= maxBatchSize || (maxBatchBytes > 0 && batchBytes >= maxBatchBytes)) {
+        closed.add(takeBatch());
+      }
+    }
+
+    closed.forEach(this::send);
+
+    return pending.sink().asMono();
+  }
+
+  /** Sends the current batch immediately, regardless of its size and age. */
+  public void flush() {
+    final List<PendingStatement> current;
+    synchronized (this) {
+      current = takeBatch();
+    }
+    send(current);
+  }
+
+  // A linger task which already runs must not send a newer batch
+  private void flush(List<PendingStatement> lingering) {
+    final List<PendingStatement> current;
+    synchronized (this) {
+      if (batch != lingering) {
+        return;
+      }
+      current = takeBatch();
+    }
+    send(current);
+  }
+
+  /** Sends the pending statements and rejects any further statement. */
+  @Override
+  public void dispose() {
+    synchronized (this) {
+      disposed = true;
+    }
+    flush();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized boolean isDisposed() {
+    return disposed;
+  }
+
+  // Must be called while holding the lock.
+  private List<PendingStatement> takeBatch() {
+    final var current = batch;
+    batch = new ArrayList<>();
+    batchBytes = 0;
+    if (lingerTask != null) {
+      lingerTask.dispose();
+      lingerTask = null;
+    }
+    return current;
+  }
+
+  private void send(List<PendingStatement> current) {
+    if (current.isEmpty()) {
+      return;
+    }
+
+    final var statements = current.stream().map(PendingStatement::statement).toList();
+
+    client
+        .postStatements(r -> r.statements(statements))
+        .subscribe(
+            response -> {
+              final var ids = response.getBody();
+              for (var i = 0; i < current.size(); i++) {
+                final var sink = current.get(i).sink();
+                if (ids != null && i < ids.size()) {
+                  sink.tryEmitValue(ids.get(i));
+                } else {
+                  sink.tryEmitError(new MissingResponseBodyException());
+                }
+              }
+            },
+            error -> current.forEach(p -> p.sink().tryEmitError(error)));
+  }
+
+  // Exception in write value as bytes should be impossible.
+  @SneakyThrows
+  private long estimateSize(Statement statement) {
+
+    if (maxBatchBytes == 0) {
+      return 0;
+    }
+
+    long size = objectMapper.writeValueAsBytes(statement).length;
+
+    if (statement.getAttachments() != null) {
+      for (final Attachment attachment : statement.getAttachments()) {
+        if (attachment.getContent() != null) {
+          size += attachment.getContent().length;
+        }
+      }
+    }
+
+    return size;
+  }
+
+  private record PendingStatement(Statement statement, Sinks.One<UUID> sink, long size) {}
+}
@@ -7,9 +7,18 @@ package dev.learning.xapi.client;
 import dev.learning.xapi.model.Attachment;
 import dev.learning.xapi.model.Statement;
 import dev.learning.xapi.model.StatementResult;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+import lombok.SneakyThrows;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
@@ -24,11 +33,24 @@ import org.springframework.lang.Nullable;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * {@link HttpMessageReader} for reading {@code "multipart/mixed"} responses into a {@link
  * Statement} or {@link StatementResult}s object.
  *
+ * <p>The attachment parts are read one by one. By default the content of each attachment is
+ * copied into the {@link Attachment#getContent() content} byte array of the matching attachments.
+ * If an attachment file threshold is set, then the content of the attachments which are larger
+ * than the threshold is written into a file keyed by the {@code X-Experience-API-Hash} of the part
+ * instead, which is returned by {@link #getAttachmentFile(Attachment)}.
+ *
+ * <p>If the reading fails or it is cancelled, then the files written by it are deleted. Otherwise
+ * the caller owns the files of the returned Statements and it is responsible for deleting them.
+ * Attachments with the same hash have the same data, so they share a file, which is not replaced
+ * while it exists.
+ *
  * @author István Rátkai (Selindek)
  */
 public class StatementHttpMessageReader extends LoggingCodecSupport
@@ -36,7 +58,67 @@ public class StatementHttpMessageReader extends LoggingCodecSupport
 
   static final List<MediaType> MIME_TYPES = List.of(MediaType.MULTIPART_MIXED);
 
-  private final HttpMessageReader<Part> partReader = new DefaultPartHttpMessageReader();
+  private static final String HASH_HEADER = "X-Experience-API-Hash";
+
+  private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-fA-F]+");
+
+  private final DefaultPartHttpMessageReader partReader = new DefaultPartHttpMessageReader();
+
+  private long attachmentFileThreshold = -1;
+
+  @Nullable private Path fileStorageDirectory;
+
+  /**
+   * Sets the size above which the attachment contents are written into files, which are returned by
+   * {@link #getAttachmentFile(Attachment)}, instead of byte arrays. By default this is set to -1,
+   * which means that the attachment contents are always stored in byte arrays.
+   *
+   * @param attachmentFileThreshold the maximum attachment length in bytes kept in memory, or -1
+   */
+  public void setAttachmentFileThreshold(long attachmentFileThreshold) {
+    this.attachmentFileThreshold = attachmentFileThreshold;
+  }
+
+  /**
+   * Sets the directory used for storing the attachment contents and the parts which exceed the
+   * maximum in memory size. By default the system temporary directory is used.
+   *
+   * @param fileStorageDirectory the directory for the temporary files
+   */
+  public void setFileStorageDirectory(Path fileStorageDirectory) {
+    this.fileStorageDirectory = fileStorageDirectory;
+    this.partReader.setFileStorageDirectory(fileStorageDirectory);
+  }
+
+  /**
+   * Sets the maximum amount of memory allowed per part while the response is parsed. Larger parts
+   * are buffered in temporary files.
+   *
+   * @param maxInMemorySize the maximum in memory size of a part
+   * @see DefaultPartHttpMessageReader#setMaxInMemorySize(int)
+   */
+  public void setMaxInMemorySize(int maxInMemorySize) {
+    this.partReader.setMaxInMemorySize(maxInMemorySize);
+  }
+
+  /**
+   * Gets the file which the content of an attachment was written into, because it was larger than
+   * the attachment file threshold.
+   *
+   * @param attachment an {@link Attachment} of a Statement read by this reader
+   * @return the file of the attachment content, or null if the content was not written into a file
+   */
+  @Nullable
+  public Path getAttachmentFile(Attachment attachment) {
+
+    final var sha2 = attachment.getSha2();
+    if (sha2 == null || !HASH_PATTERN.matcher(sha2).matches()) {
+      return null;
+    }
+
+    final var file = attachmentFile(sha2);
+    return Files.exists(file) ? file : null;
+  }
 
   /** {@inheritDoc} */
   @Override
@@ -79,20 +161,35 @@ public class StatementHttpMessageReader extends LoggingCodecSupport
     return this.partReader
         .read(elementType, inputMessage, hints)
         .collectList()
-        .flatMap(list -> toStatement(elementType, list));
+        // Parts which are collected but not read yet are deleted on cancel
+        .doOnDiscard(Part.class, StatementHttpMessageReader::deletePart)
+        .flatMap(
+            parts -> {
+              // The files written by this read, which are deleted if it does not complete
+              final List<Path> files = new CopyOnWriteArrayList<>();
+
+              return toStatement(elementType, parts, files)
+                  .doFinally(
+                      signal -> {
+                        parts.forEach(StatementHttpMessageReader::deletePart);
+                        if (signal != SignalType.ON_COMPLETE) {
+                          files.forEach(StatementHttpMessageReader::deleteFile);
+                        }
+                      });
+            });
   }
 
-  private Mono<Object> toStatement(ResolvableType elementType, List<Part> parts) {
+  private Mono<Object> toStatement(ResolvableType elementType, List<Part> parts, List<Path> files) {
 
     if (parts.isEmpty()) {
-      return null;
+      return Mono.empty();
     }
 
     final var jsonPart = parts.get(0);
     final var jsonType = jsonPart.headers().getContentType();
 
     if (!MediaType.APPLICATION_JSON.isCompatibleWith(jsonType)) {
-      return null;
+      return Mono.empty();
     }
 
     // Create a virtual response from the the first (json) part...
@@ -103,40 +200,133 @@ public class StatementHttpMessageReader extends LoggingCodecSupport
             .build();
 
     // ... and use the default extractors to extract its content to a Statement/StatementResult
-    Flux<Object> partDataFlux = jsonResponse.bodyToFlux(elementType.toClass());
-
-    // merge the attachment parts contents with it
-    for (var i = 1; i < parts.size(); i++) {
-      partDataFlux = partDataFlux.mergeWith(parts.get(i).content());
-    }
-
-    // Now we have direct access to all the data
-    return partDataFlux
-        .collectList()
-        .map(
-            partData -> {
+    return jsonResponse
+        .bodyToMono(elementType.toClass())
+        .flatMap(
+            object -> {
               // the first part's data is the Statement / StatementResult
-              final var object = partData.get(0);
-              final var statements =
+              final List<Statement> statements =
                   object instanceof final Statement statement
                       ? Arrays.asList(statement)
                       : ((StatementResult) object).getStatements();
 
-              for (var i = 1; i < partData.size(); i++) {
-                final var buffer = (DataBuffer) partData.get(i);
-                final var content = new byte[buffer.readableByteCount()];
-                buffer.read(content);
-                DataBufferUtils.release(buffer);
-                final var sha2 = parts.get(i).headers().getFirst("X-Experience-API-Hash");
-                injectAttachmentContent(statements, sha2, content);
-              }
+              // then read the attachment parts one by one
+              return Flux.fromIterable(parts.subList(1, parts.size()))
+                  .concatMap(part -> readAttachment(statements, part, files))
+                  .then(Mono.just(object));
+            });
+  }
+
+  private Mono<Void> readAttachment(List<Statement> statements, Part part, List<Path> files) {
+
+    final var sha2 = part.headers().getFirst(HASH_HEADER);
+    final var attachment = findAttachment(statements, sha2);
+
+    if (attachment == null) {
+      // No attachment with this hash, just drain the part
+      return part.content().doOnNext(DataBufferUtils::release).then();
+    }
+
+    final var length = attachment.getLength() == null ? 0 : attachment.getLength();
+
+    if (attachmentFileThreshold >= 0
+        && length > attachmentFileThreshold
+        && HASH_PATTERN.matcher(sha2).matches()) {
+      return Mono.fromCallable(this::createTempFile)
+          .subscribeOn(Schedulers.boundedElastic())
+          .flatMap(
+              file -> {
+                files.add(file);
+                return DataBufferUtils.write(part.content(), file)
+                    .then(
+                        Mono.<Void>fromRunnable(() -> moveFile(file, sha2, files))
+                            .subscribeOn(Schedulers.boundedElastic()));
+              });
+    }
+
+    return part.content()
+        .collect(() -> new ContentCollector(length), ContentCollector::append)
+        .doOnNext(
+            collector -> {
+              final var content = collector.toByteArray();
+              injectAttachment(statements, sha2, a -> a.withContent(content));
+            })
+        .then();
+  }
+
+  private Path createTempFile() throws IOException {
+    return Files.createTempFile(storageDirectory(), "xapi-attachment-", ".tmp");
+  }
+
+  /**
+   * Moves a completely written temporary file to the file of its hash. If that file exists, then
+   * it has the same data, so it is kept and the temporary file is deleted.
+   */
+  @SneakyThrows
+  private void moveFile(Path file, String sha2, List<Path> files) {
+
+    final var target = attachmentFile(sha2);
+
+    try {
+      Files.move(file, target);
+      files.add(target);
+    } catch (final FileAlreadyExistsException e) {
+      Files.delete(file);
+    }
+
+    files.remove(file);
+  }
+
+  private Path attachmentFile(String sha2) {
+    return storageDirectory().resolve("xapi-attachment-" + sha2.toLowerCase(Locale.ROOT) + ".bin");
+  }
+
+  private Path storageDirectory() {
+    return fileStorageDirectory == null
+        ? Path.of(System.getProperty("java.io.tmpdir"))
+        : fileStorageDirectory;
+  }
+
+  private static void deletePart(Part part) {
+    part.delete().subscribe();
+  }
 
-              return object;
+  private static void deleteFile(Path file) {
+    Schedulers.boundedElastic()
+        .schedule(
+            () -> {
+              try {
+                Files.deleteIfExists(file);
+              } catch (final IOException e) {
+                // The file stays in the temporary directory
+              }
             });
   }
 
-  /** Inject the content into each {@link Attachment} in each statements with the matching sha2. */
-  private void injectAttachmentContent(List<Statement> statements, String sha2, byte[] content) {
+  @Nullable
+  private static Attachment findAttachment(List<Statement> statements, @Nullable String sha2) {
+    if (sha2 == null || statements == null) {
+      return null;
+    }
+    for (final var statement : statements) {
+      final var attachments = statement.getAttachments();
+      if (attachments != null) {
+        for (final var attachment : attachments) {
+          if (sha2.equals(attachment.getSha2())) {
+            return attachment;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Replace each {@link Attachment} in each statements with the matching sha2 with the result of
+   * the injector.
+   */
+  private static void injectAttachment(
+      List<Statement> statements, String sha2, UnaryOperator<Attachment> injector) {
     for (final var statement : statements) {
       final var attachments = statement.getAttachments();
       if (attachments != null) {
@@ -144,10 +334,47 @@ public class StatementHttpMessageReader extends LoggingCodecSupport
         for (var i = 0; i < size; i++) {
           final var attachment = attachments.get(i);
           if (sha2.equals(attachment.getSha2())) {
-            attachments.set(i, attachment.withContent(content));
+            attachments.set(i, injector.apply(attachment));
           }
         }
       }
     }
   }
+
+  /**
+   * Collects the content of a part into a single byte array. The array is allocated with the
+   * declared length of the attachment, so normally the data is copied only once. The declared
+   * length is sent by the server, so the initial allocation is capped and the array grows as the
+   * data arrives.
+   */
+  private static final class ContentCollector {
+
+    private static final int MAX_INITIAL_CAPACITY = 256 * 1024;
+
+    private byte[] content;
+
+    private int size;
+
+    private ContentCollector(int length) {
+      this.content = new byte[Math.clamp(length, 0, MAX_INITIAL_CAPACITY)];
+    }
+
+    private void append(DataBuffer buffer) {
+      try {
+        final var count = buffer.readableByteCount();
+        if (size + count > content.length) {
+          final var capacity = (int) Math.min(content.length * 2L, Integer.MAX_VALUE - 8);
+          content = Arrays.copyOf(content, Math.max(Math.addExact(size, count), capacity));
+        }
+        buffer.read(content, size, count);
+        size += count;
+      } finally {
+        DataBufferUtils.release(buffer);
+      }
+    }
+
+    private byte[] toByteArray() {
+      return size == content.length ? content : Arrays.copyOf(content, size);
+    }
+  }
 }
@@ -8,6 +8,7 @@ import dev.learning.xapi.model.Attachment;
 import dev.learning.xapi.model.Statement;
 import dev.learning.xapi.model.SubStatement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -73,7 +74,6 @@ public class StatementHttpMessageWriter extends MultipartWriterSupport
 
   /** {@inheritDoc} */
   @Override
-  @SuppressWarnings("unchecked")
   public Mono<Void> write(
       Publisher<? extends Object> inputStream,
       ResolvableType elementType,
@@ -84,24 +84,48 @@ public class StatementHttpMessageWriter extends MultipartWriterSupport
     return Mono.from(inputStream)
         .flatMap(
             object -> {
-              final var list = getParts(object);
-              if (list.size() > 1) {
-                // Has attachments -> process as multipart
-                return writeMultipart(list, outputMessage, hints);
-
-              } else {
-                // No attachments -> pass the original object to the default list of writers
-
-                return ((HttpMessageWriter<Object>)
-                        writers.stream()
-                            .filter(partWriter -> partWriter.canWrite(elementType, mediaType))
-                            .findFirst()
-                            .get())
-                    .write(inputStream, elementType, mediaType, outputMessage, hints);
+              if (object instanceof final StatementsWithContents body) {
+                // The contents of the attachments are passed to the attachment writer as a hint
+                final Map<String, Object> contentHints = new HashMap<>(hints);
+                contentHints.put(
+                    AttachmentHttpMessageWriter.ATTACHMENT_CONTENTS_HINT, body.contents());
+
+                return write(
+                    body.statements(),
+                    ResolvableType.forInstance(body.statements()),
+                    mediaType,
+                    outputMessage,
+                    contentHints);
               }
+
+              return write(object, elementType, mediaType, outputMessage, hints);
             });
   }
 
+  @SuppressWarnings("unchecked")
+  private Mono<Void> write(
+      Object object,
+      ResolvableType elementType,
+      @Nullable MediaType mediaType,
+      ReactiveHttpOutputMessage outputMessage,
+      Map<String, Object> hints) {
+
+    final var list = getParts(object, AttachmentHttpMessageWriter.getAttachmentContents(hints));
+    if (list.size() > 1) {
+      // Has attachments -> process as multipart
+      return writeMultipart(list, outputMessage, hints);
+    }
+
+    // No attachments -> pass the original object to the default list of writers
+
+    return ((HttpMessageWriter<Object>)
+            writers.stream()
+                .filter(partWriter -> partWriter.canWrite(elementType, mediaType))
+                .findFirst()
+                .get())
+        .write(Mono.just(object), elementType, mediaType, outputMessage, hints);
+  }
+
   private Mono<Void> writeMultipart(
       List<Object> list, ReactiveHttpOutputMessage outputMessage, Map<String, Object> hints) {
 
@@ -160,18 +184,21 @@ public class StatementHttpMessageWriter extends MultipartWriterSupport
   }
 
   @SuppressWarnings("unchecked")
-  private List<Object> getParts(Object object) {
+  private List<Object> getParts(Object object, Map<String, AttachmentContent> contents) {
 
     final var list = new ArrayList<>();
 
     final Stream<Attachment> attachments;
 
     if (object instanceof Statement statement) {
-      attachments = getRealAttachments(statement);
+      attachments = getRealAttachments(statement, contents);
     } else if (object instanceof List<?> statements
         && !statements.isEmpty()
         && statements.get(0) instanceof Statement) {
-      attachments = ((List<Statement>) statements).stream().flatMap(this::getRealAttachments);
+      attachments =
+          ((List<Statement>) statements)
+              .stream()
+              .flatMap(statement -> getRealAttachments(statement, contents));
     } else {
       attachments = null;
     }
@@ -192,9 +219,11 @@ public class StatementHttpMessageWriter extends MultipartWriterSupport
    * Gets {@link Attachment}s of a {@link Statement} which has data property as a {@link Stream}.
    *
    * @param statement a {@link Statement} object
+   * @param contents the contents of the attachments without content, keyed by their SHA-2 hash
    * @return {@link Attachment} of a {@link Statement} which has data property as a {@link Stream}.
    */
-  private Stream<Attachment> getRealAttachments(Statement statement) {
+  private Stream<Attachment> getRealAttachments(
+      Statement statement, Map<String, AttachmentContent> contents) {
 
     Stream<Attachment> stream;
 
@@ -210,9 +239,19 @@ public class StatementHttpMessageWriter extends MultipartWriterSupport
       stream = Stream.concat(stream, statement.getAttachments().stream());
     }
 
-    return stream.filter(a -> a.getContent() != null);
+    return stream.filter(
+        a -> AttachmentHttpMessageWriter.hasContent(a) || contents.containsKey(a.getSha2()));
   }
 
+  /**
+   * Statements together with the contents of their attachments which have no content, keyed by the
+   * SHA-2 hash of the attachments.
+   *
+   * @param statements a {@link Statement} or list of Statements
+   * @param contents the {@link AttachmentContent}s keyed by the SHA-2 hash of the attachments
+   */
+  record StatementsWithContents(Object statements, Map<String, AttachmentContent> contents) {}
+
   /**
    * This class was copied from the {@link MultipartHttpMessageWriter} class. Unfortunately it's a
    * private class, so I cannot use it directly.
@@ -0,0 +1,611 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.learning.xapi.model.Statement;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+
+/**
+ * Durable outbox of {@link Statement}s.
+ *
+ * <p>Added statements are appended to a log of segment files in the given directory and forced to
+ * the storage device before {@link #add(Statement)} returns. Statements without an id get a random
+ * id first, so a statement keeps its id when it is sent again.
+ *
+ * <p>A background thread drains the log through {@link XapiClient#postStatements} in batches of at
+ * most {@code batchSize} statements every {@code flushInterval}. The position of the last
+ * acknowledged batch is stored in a checkpoint file and the segments which were completely
+ * acknowledged are deleted. Delivery is at-least-once: a batch may be sent again if the outbox is
+ * closed after the LRS accepted it but before the checkpoint was written.
+ *
+ * <p>If the LRS is unreachable or answers with an error, the batch is sent again after the next
+ * flush interval. Errors such as {@code 401 Unauthorized}, {@code 403 Forbidden} or {@code 404 Not
+ * Found} mean that the LRS cannot be used with the current configuration, so they are logged and
+ * the statements are kept. Only a batch rejected with {@code 400 Bad Request}, {@code 409
+ * Conflict} or {@code 413 Payload Too Large} would never be accepted. Since the LRS rejects the
+ * whole batch because of a single invalid statement, the batch is split in halves until the
+ * rejected statements are found. These are logged, passed to the {@code rejectedHandler} and
+ * skipped, the other statements are posted.
+ *
+ * <p>A record which cannot be read back as a statement, e.g. because it was damaged on the storage
+ * device, is logged, copied to the {@value #QUARANTINE_DIRECTORY} subdirectory and skipped. If the
+ * length of a record is damaged, then the following records cannot be found, so the rest of the
+ * segment is quarantined.
+ *
+ * <p>The outbox survives restarts: a new outbox opened on the same directory continues from the
+ * last checkpoint and discards a partially written last record, which is logged.
+ *
+ * <p>Attachment contents are not stored in the log, so statements with attachment contents cannot
+ * be added.
+ *
+ * @author Thomas Turrell-Croft
+ * @see XapiClient#outbox(Path)
+ */
+public class StatementOutbox implements Disposable {
+
+  private static final Logger log = LoggerFactory.getLogger(StatementOutbox.class);
+
+  private static final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  private static final String SEGMENT_SUFFIX = ".log";
+
+  private static final String CHECKPOINT_FILE = "checkpoint";
+
+  private static final String QUARANTINE_DIRECTORY = "quarantine";
+
+  // Length and CRC32 of a record
+  private static final int HEADER_SIZE = 8;
+
+  // Statuses of a batch which the LRS will never accept
+  private static final Set<Integer> REJECTED_STATUSES = Set.of(400, 409, 413);
+
+  private final XapiClient client;
+
+  private final Path directory;
+
+  private final int batchSize;
+
+  private final long maxSegmentBytes;
+
+  private final Consumer<List<Statement>> rejectedHandler;
+
+  private final ScheduledExecutorService executor;
+
+  private final Object drainLock = new Object();
+
+  private FileChannel writeChannel;
+
+  private long writeSegment;
+
+  private long writeOffset;
+
+  // Position of the first statement which was not acknowledged by the LRS.
+  private Position acknowledged;
+
+  private boolean disposed;
+
+  /**
+   * Constructor.
+   *
+   * @param client the {@link XapiClient} used for posting the statements
+   * @param directory the directory of the log, which is created if it does not exist
+   * @param batchSize the maximum number of statements posted in one request
+   * @param maxSegmentBytes the size after which a new segment file is started
+   * @param flushInterval the delay between two drains of the log
+   * @param rejectedHandler receives the statements which were rejected by the LRS
+   * @throws UncheckedIOException if the log cannot be opened
+   */
+  public StatementOutbox(
+      XapiClient client,
+      Path directory,
+      int batchSize,
+      long maxSegmentBytes,
+      Duration flushInterval,
+      Consumer<List<Statement>> rejectedHandler) {
+    Assert.notNull(client, "Client cannot be null");
+    Assert.notNull(directory, "Directory cannot be null");
+    Assert.isTrue(batchSize > 0, "Batch size must be positive");
+    Assert.isTrue(maxSegmentBytes > 0, "Max segment bytes must be positive");
+    Assert.notNull(flushInterval, "Flush interval cannot be null");
+    Assert.notNull(rejectedHandler, "Rejected handler cannot be null");
+
+    this.client = client;
+    this.directory = directory;
+    this.batchSize = batchSize;
+    this.maxSegmentBytes = maxSegmentBytes;
+    this.rejectedHandler = rejectedHandler;
+
+    try {
+      open();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    this.executor =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              final var thread = new Thread(r, "xapi-statement-outbox");
+              thread.setDaemon(true);
+              return thread;
+            });
+
+    final var interval = flushInterval.toNanos();
+    executor.scheduleWithFixedDelay(this::drainQuietly, interval, interval, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Stores a {@link Statement} in the outbox.
+   *
+   * <p>The statement is on the storage device when this method returns, it is posted to the LRS
+   * asynchronously.
+   *
+   * @param statement the statement to post
+   * @return the id of the statement (a random id is assigned if the statement has no id)
+   * @throws UncheckedIOException if the statement cannot be written to the log
+   */
+  public UUID add(Statement statement) {
+    Assert.notNull(statement, "Statement cannot be null");
+    Assert.isTrue(
+        statement.getAttachments() == null
+            || statement.getAttachments().stream()
+                .noneMatch(AttachmentHttpMessageWriter::hasContent),
+        "Attachment contents cannot be stored in the outbox");
+
+    final var stored =
+        statement.getId() == null
+            ? statement.toBuilder().id(UUID.randomUUID()).build()
+            : statement;
+
+    final var record = encode(stored);
+
+    synchronized (this) {
+      Assert.state(!disposed, "StatementOutbox has been disposed");
+
+      try {
+        while (record.hasRemaining()) {
+          writeChannel.write(record);
+        }
+        writeChannel.force(false);
+
+        writeOffset = writeChannel.position();
+
+        if (writeOffset >= maxSegmentBytes) {
+          writeChannel.close();
+          writeSegment++;
+          writeOffset = 0;
+          writeChannel = openSegment(writeSegment);
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    return stored.getId();
+  }
+
+  /**
+   * Posts the stored statements to the LRS in batches until the outbox is empty or a batch fails.
+   *
+   * <p>This method is called periodically by the background thread, it blocks until the batches
+   * are posted.
+   */
+  public void flush() {
+    drain();
+  }
+
+  /**
+   * Stops the background thread and closes the log. The statements which were not posted yet are
+   * posted by the next outbox opened on the same directory.
+   */
+  @Override
+  public void dispose() {
+    executor.shutdownNow();
+
+    synchronized (drainLock) {
+      synchronized (this) {
+        disposed = true;
+        try {
+          writeChannel.close();
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized boolean isDisposed() {
+    return disposed;
+  }
+
+  /**
+   * Creates a {@code rejectedHandler} which appends the rejected statements to the given file, one
+   * JSON statement per line, so they can be inspected and sent again later.
+   *
+   * @param file the file of the rejected statements, which is created if it does not exist
+   * @return a handler of the statements which were rejected by the LRS
+   */
+  public static Consumer<List<Statement>> deadLetter(Path file) {
+    Assert.notNull(file, "File cannot be null");
+
+    return statements -> {
+      try (var out = new ByteArrayOutputStream()) {
+        for (final Statement statement : statements) {
+          out.write(objectMapper.writeValueAsBytes(statement));
+          out.write('\n');
+        }
+        synchronized (StatementOutbox.class) {
+          Files.write(
+              file, out.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    };
+  }
+
+  private void drainQuietly() {
+    try {
+      drain();
+    } catch (final RuntimeException e) {
+      // An exception would cancel the periodic drain, try again after the next flush interval
+      log.warn("Statement outbox drain failed, retrying after the next flush interval", e);
+    }
+  }
+
+  private void drain() {
+
+    synchronized (drainLock) {
+      while (!isDisposed()) {
+        final var batch = readBatch();
+
+        if (!batch.statements().isEmpty() && !deliver(batch.statements())) {
+          // Try again after the next flush interval
+          return;
+        }
+
+        if (batch.end().equals(acknowledged)) {
+          return;
+        }
+
+        acknowledge(batch.end());
+      }
+    }
+  }
+
+  /**
+   * Posts the statements, splitting a rejected batch to find the rejected statements.
+   *
+   * @return false if the statements must be sent again after the next flush interval
+   */
+  private boolean deliver(List<Statement> statements) {
+
+    try {
+      client.postStatements(r -> r.statements(statements)).block();
+      return true;
+    } catch (final WebClientResponseException e) {
+      if (!REJECTED_STATUSES.contains(e.getStatusCode().value())) {
+        if (e.getStatusCode().is4xxClientError()) {
+          // E.g. bad credentials or a wrong base URL, the statements are kept
+          log.warn(
+              "LRS cannot accept statements, status {}: {}",
+              e.getStatusCode(),
+              e.getResponseBodyAsString());
+        }
+        return false;
+      }
+
+      if (statements.size() > 1) {
+        final var half = statements.size() / 2;
+        return deliver(statements.subList(0, half))
+            && deliver(statements.subList(half, statements.size()));
+      }
+
+      log.warn(
+          "LRS rejected statement {} with status {}: {}",
+          statements.get(0).getId(),
+          e.getStatusCode(),
+          e.getResponseBodyAsString());
+      rejectedHandler.accept(statements);
+      return true;
+    } catch (final RuntimeException e) {
+      // The LRS is unreachable
+      return false;
+    }
+  }
+
+  private Batch readBatch() {
+
+    final long lastSegment;
+    final long lastOffset;
+    synchronized (this) {
+      lastSegment = writeSegment;
+      lastOffset = writeOffset;
+    }
+
+    final List<Statement> statements = new ArrayList<>();
+
+    var segment = acknowledged.segment();
+    var offset = acknowledged.offset();
+
+    try {
+      while (statements.size() < batchSize) {
+        final long limit;
+        try (var channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+          limit = segment == lastSegment ? lastOffset : channel.size();
+
+          while (offset < limit && statements.size() < batchSize) {
+            final var header =
+                offset + HEADER_SIZE <= limit ? readFully(channel, offset, HEADER_SIZE) : null;
+            final var length = header == null ? -1 : header.getInt();
+
+            if (length <= 0 || length > limit - offset - HEADER_SIZE) {
+              // The next records cannot be found
+              log.error(
+                  "Statement outbox record {}:{} has an invalid length, {} bytes are quarantined",
+                  segment,
+                  offset,
+                  limit - offset);
+              quarantine(channel, segment, offset, limit);
+              offset = limit;
+              break;
+            }
+
+            final var crc = header.getInt();
+            final var body = readFully(channel, offset + HEADER_SIZE, length);
+            final var statement = decode(body.array(), crc, segment, offset);
+            if (statement != null) {
+              statements.add(statement);
+            }
+            offset += HEADER_SIZE + body.capacity();
+          }
+        }
+
+        if (offset < limit || segment == lastSegment) {
+          break;
+        }
+
+        // The segment has been read completely
+        segment++;
+        offset = 0;
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return new Batch(statements, new Position(segment, offset));
+  }
+
+  /** Reads a statement or quarantines a record which cannot be read. */
+  private Statement decode(byte[] bytes, int crc, long segment, long offset) throws IOException {
+
+    final var checksum = new CRC32();
+    checksum.update(bytes);
+
+    try {
+      if ((int) checksum.getValue() == crc) {
+        return objectMapper.readValue(bytes, Statement.class);
+      }
+      log.error("Statement outbox record {}:{} has an invalid checksum", segment, offset);
+    } catch (final JsonProcessingException e) {
+      log.error("Statement outbox record {}:{} cannot be read", segment, offset, e);
+    }
+
+    Files.write(quarantinePath(segment, offset, "json"), bytes);
+
+    return null;
+  }
+
+  /** Copies the bytes of a segment which cannot be read as records to the quarantine. */
+  private void quarantine(FileChannel channel, long segment, long offset, long limit)
+      throws IOException {
+
+    try (var target =
+        FileChannel.open(
+            quarantinePath(segment, offset, "bin"),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      var position = offset;
+      while (position < limit) {
+        position += channel.transferTo(position, limit - position, target);
+      }
+    }
+  }
+
+  private Path quarantinePath(long segment, long offset, String extension) throws IOException {
+
+    final var quarantine = directory.resolve(QUARANTINE_DIRECTORY);
+    Files.createDirectories(quarantine);
+
+    return quarantine.resolve(String.format("%020d-%020d.%s", segment, offset, extension));
+  }
+
+  private void acknowledge(Position position) {
+
+    try {
+      final var buffer = ByteBuffer.allocate(16);
+      buffer.putLong(position.segment()).putLong(position.offset()).flip();
+
+      final var temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+      try (var channel =
+          FileChannel.open(
+              temp,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING)) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(false);
+      }
+      Files.move(
+          temp,
+          directory.resolve(CHECKPOINT_FILE),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+
+      // Compact the segments which were acknowledged completely
+      for (var segment = acknowledged.segment(); segment < position.segment(); segment++) {
+        Files.deleteIfExists(segmentPath(segment));
+      }
+
+      acknowledged = position;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void open() throws IOException {
+
+    Files.createDirectories(directory);
+
+    final List<Long> segments;
+    try (Stream<Path> files = Files.list(directory)) {
+      segments =
+          files
+              .map(p -> p.getFileName().toString())
+              .filter(n -> n.endsWith(SEGMENT_SUFFIX))
+              .map(n -> Long.parseLong(n.substring(0, n.length() - SEGMENT_SUFFIX.length())))
+              .sorted()
+              .toList();
+    }
+
+    final var checkpoint = directory.resolve(CHECKPOINT_FILE);
+    if (Files.exists(checkpoint)) {
+      final var buffer = ByteBuffer.wrap(Files.readAllBytes(checkpoint));
+      acknowledged = new Position(buffer.getLong(), buffer.getLong());
+    } else {
+      acknowledged = new Position(segments.isEmpty() ? 0 : segments.get(0), 0);
+    }
+
+    for (final Long segment : segments) {
+      if (segment < acknowledged.segment()) {
+        Files.deleteIfExists(segmentPath(segment));
+      }
+    }
+
+    writeSegment =
+        segments.isEmpty()
+            ? acknowledged.segment()
+            : Math.max(segments.get(segments.size() - 1), acknowledged.segment());
+    writeChannel = openSegment(writeSegment);
+    writeOffset = recover(writeChannel, writeSegment);
+  }
+
+  /**
+   * Finds the end of the last complete record and truncates the rest of the segment, which is
+   * quarantined.
+   */
+  private long recover(FileChannel channel, long segment) throws IOException {
+
+    final var size = channel.size();
+    var offset = 0L;
+
+    while (offset + HEADER_SIZE <= size) {
+      final var header = readFully(channel, offset, HEADER_SIZE);
+      final var length = header.getInt();
+      final var crc = header.getInt();
+
+      if (length <= 0 || offset + HEADER_SIZE + length > size) {
+        break;
+      }
+
+      final var checksum = new CRC32();
+      checksum.update(readFully(channel, offset + HEADER_SIZE, length));
+      if ((int) checksum.getValue() != crc) {
+        break;
+      }
+
+      offset += HEADER_SIZE + length;
+    }
+
+    if (offset < size) {
+      log.warn(
+          "Statement outbox segment {} is truncated from {} to {} bytes", segment, size, offset);
+      quarantine(channel, segment, offset, size);
+    }
+
+    channel.truncate(offset);
+    channel.position(offset);
+    channel.force(true);
+
+    return offset;
+  }
+
+  private FileChannel openSegment(long segment) throws IOException {
+    return FileChannel.open(
+        segmentPath(segment),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+  }
+
+  private Path segmentPath(long segment) {
+    return directory.resolve(String.format("%020d%s", segment, SEGMENT_SUFFIX));
+  }
+
+  private static ByteBuffer readFully(FileChannel channel, long position, int length)
+      throws IOException {
+
+    final var buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("Unexpected end of segment");
+      }
+    }
+    return buffer.flip();
+  }
+
+  private static ByteBuffer encode(Statement statement) {
+
+    final byte[] bytes;
+    try {
+      bytes = objectMapper.writeValueAsBytes(statement);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    final var checksum = new CRC32();
+    checksum.update(bytes);
+
+    return ByteBuffer.allocate(HEADER_SIZE + bytes.length)
+        .putInt(bytes.length)
+        .putInt((int) checksum.getValue())
+        .put(bytes)
+        .flip();
+  }
+
+  private record Position(long segment, long offset) {}
+
+  private record Batch(List<Statement> statements, Position end) {}
+}
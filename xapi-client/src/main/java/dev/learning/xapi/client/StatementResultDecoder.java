@@ -0,0 +1,215 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import dev.learning.xapi.model.Statement;
+import dev.learning.xapi.model.StatementResult;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+/**
+ * Decoder for reading a {@link StatementResult} from a JSON or Smile stream.
+ *
+ * <p>When the result is decoded as a {@link Flux} the {@code statements} array is parsed token by
+ * token and a {@link StatementResult} containing a single {@link Statement} is emitted as soon as
+ * that statement has been read, so only one statement of the page has to be held in memory. The
+ * last emitted {@link StatementResult} contains no statements, but it contains the {@code more}
+ * property of the page.
+ *
+ * <p>When the result is decoded as a {@link reactor.core.publisher.Mono} the whole page is decoded
+ * into a single {@link StatementResult} exactly as the default Jackson decoder does.
+ *
+ * @author István Rátkai (Selindek)
+ */
+public class StatementResultDecoder extends Jackson2JsonDecoder {
+
+  /**
+   * Constructor.
+   *
+   * @param mapper the {@link ObjectMapper} used for decoding the statements
+   */
+  public StatementResultDecoder(ObjectMapper mapper) {
+    super(mapper);
+  }
+
+  /**
+   * Constructor for other formats than JSON, e.g. Smile.
+   *
+   * @param mapper the {@link ObjectMapper} used for decoding the statements, which must support
+   *     non-blocking parsing
+   * @param mimeTypes the MIME types of the format
+   */
+  public StatementResultDecoder(ObjectMapper mapper, MimeType... mimeTypes) {
+    super(mapper, mimeTypes);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
+    return StatementResult.class.equals(elementType.toClass())
+        && super.canDecode(elementType, mimeType);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Flux<Object> decode(
+      Publisher<DataBuffer> input,
+      ResolvableType elementType,
+      @Nullable MimeType mimeType,
+      @Nullable Map<String, Object> hints) {
+
+    return Flux.defer(
+        () -> {
+          final var parser = new StatementResultParser(getObjectMapper());
+
+          return Flux.from(input)
+              .concatMapIterable(parser::feed)
+              .concatWith(Flux.defer(() -> Flux.fromIterable(parser.endOfInput())));
+        });
+  }
+
+  /**
+   * Incremental parser of a single StatementResult document. Not thread-safe, a new instance is
+   * created for each decoded response.
+   */
+  private static final class StatementResultParser {
+
+    private static final String STATEMENTS = "statements";
+
+    private static final String MORE = "more";
+
+    private final ObjectMapper mapper;
+
+    private final JsonParser parser;
+
+    private final ByteArrayFeeder feeder;
+
+    private TokenBuffer statementTokens;
+
+    private int depth;
+
+    private String field;
+
+    private boolean inStatements;
+
+    private boolean started;
+
+    private URI more;
+
+    private StatementResultParser(ObjectMapper mapper) {
+      this.mapper = mapper;
+      try {
+        this.parser = mapper.getFactory().createNonBlockingByteArrayParser();
+      } catch (final IOException ex) {
+        throw new DecodingException("Could not create non-blocking JSON parser", ex);
+      }
+      this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    private List<Object> feed(DataBuffer buffer) {
+      try {
+        final var bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        feeder.feedInput(bytes, 0, bytes.length);
+        return parse();
+      } catch (final IOException ex) {
+        throw new DecodingException("JSON decoding error: " + ex.getOriginalMessage(), ex);
+      } finally {
+        DataBufferUtils.release(buffer);
+      }
+    }
+
+    private List<Object> endOfInput() {
+      try {
+        feeder.endOfInput();
+        final var result = parse();
+        if (depth != 0 || statementTokens != null) {
+          throw new DecodingException("Unexpected end of StatementResult");
+        }
+        if (started) {
+          // The last element carries the more property of the page
+          result.add(StatementResult.builder().statements(new ArrayList<>()).more(more).build());
+        }
+        return result;
+      } catch (final IOException ex) {
+        throw new DecodingException("JSON decoding error: " + ex.getOriginalMessage(), ex);
+      }
+    }
+
+    private List<Object> parse() throws IOException {
+
+      final List<Object> result = new ArrayList<>();
+
+      JsonToken token;
+      while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+
+        if (statementTokens != null) {
+          // Inside a statement: collect its tokens until the statement object is closed
+          statementTokens.copyCurrentEvent(parser);
+          if (token.isStructStart()) {
+            depth++;
+          } else if (token.isStructEnd() && --depth == 2) {
+            final var statement =
+                mapper.readValue(statementTokens.asParser(mapper), Statement.class);
+            result.add(StatementResult.builder().addStatement(statement).build());
+            statementTokens = null;
+          }
+          continue;
+        }
+
+        if (!started) {
+          if (token != JsonToken.START_OBJECT) {
+            throw new DecodingException("StatementResult must be a JSON object");
+          }
+          started = true;
+        }
+
+        if (token.isStructStart()) {
+          depth++;
+          if (inStatements && depth == 3) {
+            statementTokens = new TokenBuffer(parser);
+            statementTokens.copyCurrentEvent(parser);
+          } else if (depth == 2 && STATEMENTS.equals(field) && token == JsonToken.START_ARRAY) {
+            inStatements = true;
+          }
+        } else if (token.isStructEnd()) {
+          depth--;
+          if (depth == 1) {
+            inStatements = false;
+          }
+        } else if (token == JsonToken.FIELD_NAME && depth == 1) {
+          field = parser.currentName();
+          if (!STATEMENTS.equals(field)
+              && !MORE.equals(field)
+              && mapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {
+            throw new DecodingException("Unrecognized field \"" + field + "\" in StatementResult");
+          }
+        } else if (depth == 1 && MORE.equals(field) && token == JsonToken.VALUE_STRING) {
+          more = URI.create(parser.getText());
+        }
+      }
+
+      return result;
+    }
+  }
+}
@@ -4,7 +4,6 @@
 
 package dev.learning.xapi.client;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.learning.xapi.model.Agent;
 import java.net.URI;
 import java.util.Map;
@@ -13,8 +12,8 @@ import java.util.UUID;
 import java.util.function.Consumer;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 import lombok.experimental.SuperBuilder;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.util.UriBuilder;
 
 /**
@@ -29,7 +28,8 @@ import org.springframework.web.util.UriBuilder;
 @Getter
 abstract class StatesRequest implements Request {
 
-  private static final ObjectMapper objectMapper = new ObjectMapper();
+  private static final MultiValueMap<String, String> QUERY_TEMPLATE =
+      QueryTemplates.of("activityId", "agent");
 
   /** The <strong>activityId</strong> query parameter. */
   @NonNull private final URI activityId;
@@ -44,22 +44,14 @@ abstract class StatesRequest implements Request {
   public UriBuilder url(UriBuilder uriBuilder, Map<String, Object> queryParams) {
 
     queryParams.put("activityId", activityId);
-    queryParams.put("agent", agentToJsonString());
+    queryParams.put("agent", AgentJsonCache.toJson(agent));
 
     return uriBuilder
         .path("/activities/state")
-        .queryParam("activityId", "{activityId}")
-        .queryParam("agent", "{agent}")
+        .queryParams(QUERY_TEMPLATE)
         .queryParamIfPresent("registration", Optional.ofNullable(registration));
   }
 
-  // Exception in write value as string should be impossible.
-  @SneakyThrows
-  private String agentToJsonString() {
-
-    return objectMapper.writeValueAsString(agent);
-  }
-
   /** Builder for StatesRequest. */
   public abstract static class Builder<C extends StatesRequest, B extends Builder<C, B>> {
 
@@ -4,6 +4,8 @@
 
 package dev.learning.xapi.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.learning.xapi.jackson.XapiSmile;
 import dev.learning.xapi.model.About;
 import dev.learning.xapi.model.Activity;
 import dev.learning.xapi.model.Actor;
@@ -12,6 +14,10 @@ import dev.learning.xapi.model.Statement;
 import dev.learning.xapi.model.StatementResult;
 import dev.learning.xapi.model.Verb;
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -21,14 +27,34 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ClientCodecConfigurer;
+import org.springframework.http.codec.DecoderHttpMessageReader;
+import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException.NotFound;
+import org.springframework.web.reactive.function.client.WebClientResponseException.PreconditionFailed;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+import reactor.util.retry.Retry;
 
 /**
  * Client for communicating with LRS or service which implements some of the xAPI communication
@@ -44,12 +70,40 @@ public class XapiClient {
 
   private final WebClient webClient;
 
+  private final DocumentCache documentCache;
+
+  /**
+   * Name of the request attribute which holds the number of Statements of a post or put Statement
+   * request.
+   */
+  public static final String STATEMENT_COUNT_ATTRIBUTE =
+      XapiClient.class.getName() + ".STATEMENT_COUNT";
+
+  /**
+   * Name of the request attribute which holds the total length in bytes of the attachments sent
+   * with a post or put Statement request.
+   */
+  public static final String ATTACHMENT_BYTES_ATTRIBUTE =
+      XapiClient.class.getName() + ".ATTACHMENT_BYTES";
+
+  /** Name of the request attribute which marks the requests of a page of Statements. */
+  public static final String STATEMENT_PAGE_ATTRIBUTE =
+      XapiClient.class.getName() + ".STATEMENT_PAGE";
+
+  private static final int DEFAULT_MODIFY_RETRIES = 5;
+
+  private static final Duration MODIFY_MIN_BACKOFF = Duration.ofMillis(50);
+
   private static final ParameterizedTypeReference<List<UUID>> LIST_UUID_TYPE =
       new ParameterizedTypeReference<>() {};
 
   private static final ParameterizedTypeReference<List<String>> LIST_STRING_TYPE =
       new ParameterizedTypeReference<>() {};
 
+  private static final boolean SMILE_PRESENT =
+      ClassUtils.isPresent(
+          "com.fasterxml.jackson.dataformat.smile.SmileFactory", XapiClient.class.getClassLoader());
+
   /**
    * Default constructor for XapiClient.
    *
@@ -57,20 +111,75 @@ public class XapiClient {
    *     authorization header.
    */
   public XapiClient(WebClient.Builder builder) {
+    this(builder, null);
+  }
+
+  /**
+   * Constructor for XapiClient with a {@link DocumentCache}.
+   *
+   * <p>The State, Agent Profile and Activity Profile documents are cached and revalidated with
+   * their ETags. The cached documents are invalidated by the write requests of this client.
+   *
+   * @param builder a {@link WebClient.Builder} object. The caller must set the baseUrl and the
+   *     authorization header.
+   * @param documentCache the cache of the documents, or null to disable caching
+   */
+  public XapiClient(WebClient.Builder builder, DocumentCache documentCache) {
+    this.documentCache = documentCache;
     this.webClient =
         builder
             .defaultHeader("X-Experience-API-Version", "1.0.3")
             .codecs(
                 configurer -> {
+                  final var objectMapper = getObjectMapper(configurer.getReaders());
+
+                  if (documentCache != null) {
+                    // The cached documents are converted like the documents of the LRS
+                    documentCache.setObjectMapper(objectMapper);
+                  }
+
+                  if (SMILE_PRESENT) {
+                    registerSmileCodecs(configurer, XapiSmile.objectMapper(objectMapper));
+                  }
+
                   configurer
                       .customCodecs()
                       .register(new StatementHttpMessageWriter(configurer.getWriters()));
 
                   configurer.customCodecs().register(new StatementHttpMessageReader());
+
+                  configurer
+                      .customCodecs()
+                      .registerWithDefaultConfig(new StatementResultDecoder(objectMapper));
                 })
             .build();
   }
 
+  // The default Smile codecs come after the JSON codecs, so JSON stays the default format
+  private static void registerSmileCodecs(
+      ClientCodecConfigurer configurer, ObjectMapper smileObjectMapper) {
+
+    configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileObjectMapper));
+    configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileObjectMapper));
+
+    configurer
+        .customCodecs()
+        .registerWithDefaultConfig(
+            new StatementResultDecoder(smileObjectMapper, SmileFilterFunction.APPLICATION_SMILE));
+  }
+
+  private static ObjectMapper getObjectMapper(List<HttpMessageReader<?>> readers) {
+
+    // Use the same ObjectMapper as the default JSON decoder, so the strict modules are applied
+    return readers.stream()
+        .filter(DecoderHttpMessageReader.class::isInstance)
+        .map(reader -> ((DecoderHttpMessageReader<?>) reader).getDecoder())
+        .filter(Jackson2JsonDecoder.class::isInstance)
+        .map(decoder -> ((Jackson2JsonDecoder) decoder).getObjectMapper())
+        .findFirst()
+        .orElseGet(() -> Jackson2ObjectMapperBuilder.json().build());
+  }
+
   // Statement Resource
 
   /**
@@ -126,7 +235,11 @@ public class XapiClient {
     return this.webClient
         .method(request.getMethod())
         .uri(u -> request.url(u, queryParams).build(queryParams))
-        .bodyValue(request.getStatement())
+        .attribute(STATEMENT_COUNT_ATTRIBUTE, 1)
+        .attribute(
+            ATTACHMENT_BYTES_ATTRIBUTE,
+            attachmentBytes(List.of(request.getStatement()), request.getAttachmentContents()))
+        .bodyValue(statementsBody(request.getStatement(), request.getAttachmentContents()))
         .retrieve()
         .toEntity(LIST_UUID_TYPE)
         .map(
@@ -156,6 +269,48 @@ public class XapiClient {
     return postStatement(builder.build());
   }
 
+  /**
+   * Puts a Statement with a client assigned id.
+   *
+   * <p>The returned ResponseEntity contains the response headers.
+   *
+   * @param request the put statement request
+   * @return the ResponseEntity
+   */
+  public Mono<ResponseEntity<Void>> putStatement(PutStatementRequest request) {
+
+    Assert.notNull(request.getStatement().getId(), "Statement id cannot be null");
+
+    final Map<String, Object> queryParams = new HashMap<>();
+
+    return this.webClient
+        .method(request.getMethod())
+        .uri(u -> request.url(u, queryParams).build(queryParams))
+        .attribute(STATEMENT_COUNT_ATTRIBUTE, 1)
+        .attribute(
+            ATTACHMENT_BYTES_ATTRIBUTE, attachmentBytes(List.of(request.getStatement()), null))
+        .bodyValue(request.getStatement())
+        .retrieve()
+        .toBodilessEntity();
+  }
+
+  /**
+   * Puts a Statement with a client assigned id.
+   *
+   * <p>The returned ResponseEntity contains the response headers.
+   *
+   * @param request the consumer builder for the put statement request
+   * @return the ResponseEntity
+   */
+  public Mono<ResponseEntity<Void>> putStatement(Consumer<PutStatementRequest.Builder> request) {
+
+    final var builder = PutStatementRequest.builder();
+
+    request.accept(builder);
+
+    return putStatement(builder.build());
+  }
+
   /**
    * Post Statements.
    *
@@ -172,7 +327,11 @@ public class XapiClient {
     return this.webClient
         .method(request.getMethod())
         .uri(u -> request.url(u, queryParams).build(queryParams))
-        .bodyValue(request.getStatements())
+        .attribute(STATEMENT_COUNT_ATTRIBUTE, request.getStatements().size())
+        .attribute(
+            ATTACHMENT_BYTES_ATTRIBUTE,
+            attachmentBytes(request.getStatements(), request.getAttachmentContents()))
+        .bodyValue(statementsBody(request.getStatements(), request.getAttachmentContents()))
         .retrieve()
         .toEntity(LIST_UUID_TYPE);
   }
@@ -262,6 +421,7 @@ public class XapiClient {
     return this.webClient
         .method(request.getMethod())
         .uri(u -> request.url(u, queryParams).build(queryParams))
+        .attribute(STATEMENT_PAGE_ATTRIBUTE, true)
         .retrieve()
         .toEntity(StatementResult.class);
   }
@@ -301,6 +461,7 @@ public class XapiClient {
     return this.webClient
         .method(request.getMethod())
         .uri(u -> request.url(u, queryParams).build(queryParams))
+        .attribute(STATEMENT_PAGE_ATTRIBUTE, true)
         .retrieve()
         .toEntity(StatementResult.class);
   }
@@ -337,13 +498,7 @@ public class XapiClient {
    */
   public <T> Mono<ResponseEntity<T>> getState(GetStateRequest request, Class<T> bodyType) {
 
-    final Map<String, Object> queryParams = new HashMap<>();
-
-    return this.webClient
-        .method(request.getMethod())
-        .uri(u -> request.url(u, queryParams).build(queryParams))
-        .retrieve()
-        .toEntity(bodyType);
+    return getDocument(request, bodyType);
   }
 
   /**
@@ -365,6 +520,24 @@ public class XapiClient {
     return getState(builder.build(), bodyType);
   }
 
+  /**
+   * Gets multiple State documents concurrently.
+   *
+   * <p>At most {@code concurrency} documents are requested at the same time. The responses are
+   * emitted in the order of the given requests.
+   *
+   * @param requests The parameters of the get state requests
+   * @param bodyType The type of the documents
+   * @param concurrency The maximum number of documents requested at the same time
+   * @return the ResponseEntities as a {@link Flux}
+   */
+  public <T> Flux<ResponseEntity<T>> getStates(
+      Collection<GetStateRequest> requests, Class<T> bodyType, int concurrency) {
+
+    return Flux.fromIterable(requests)
+        .flatMapSequential(request -> getState(request, bodyType), concurrency);
+  }
+
   /**
    * Posts a single document specified by the given stateId activity, agent, and optional
    * registration.
@@ -384,7 +557,8 @@ public class XapiClient {
         .contentType(request.getContentType())
         .bodyValue(request.getState())
         .retrieve()
-        .toBodilessEntity();
+        .toBodilessEntity()
+        .doFinally(signal -> invalidateDocument(request));
   }
 
   /**
@@ -422,9 +596,19 @@ public class XapiClient {
         .method(request.getMethod())
         .uri(u -> request.url(u, queryParams).build(queryParams))
         .contentType(request.getContentType())
+        .headers(
+            h -> {
+              if (request.getIfMatch() != null) {
+                h.setIfMatch(request.getIfMatch());
+              }
+              if (request.getIfNoneMatch() != null) {
+                h.setIfNoneMatch(request.getIfNoneMatch());
+              }
+            })
         .bodyValue(request.getState())
         .retrieve()
-        .toBodilessEntity();
+        .toBodilessEntity()
+        .doFinally(signal -> invalidateDocument(request));
   }
 
   /**
@@ -445,6 +629,59 @@ public class XapiClient {
     return putState(builder.build());
   }
 
+  /**
+   * Modifies a single State document with optimistic concurrency control.
+   *
+   * <p>The document is read, the given function is applied to it and the result is put back with
+   * an If-Match header carrying the ETag of the read document. If the document does not exist, the
+   * function is applied to null and the result is put with an If-None-Match: * header. If the
+   * document was modified concurrently (the LRS answers with {@code 412 Precondition Failed}), the
+   * whole read-modify-write cycle is retried with a jittered exponential backoff at most {@code
+   * maxRetries} times. If the LRS returns the document without an ETag, the document is not put
+   * and a {@link MissingETagException} is emitted.
+   *
+   * @param request The parameters of the get state request
+   * @param bodyType The type of the document
+   * @param function The function which modifies the document
+   * @param maxRetries The maximum number of retries
+   * @return the ResponseEntity of the successful put request
+   */
+  public <T> Mono<ResponseEntity<Void>> modifyState(
+      GetStateRequest request, Class<T> bodyType, UnaryOperator<T> function, int maxRetries) {
+
+    return modifyDocument(
+        getState(request, bodyType),
+        response ->
+            putState(
+                PutStateRequest.builder()
+                    .activityId(request.getActivityId())
+                    .agent(request.getAgent())
+                    .registration(request.getRegistration())
+                    .stateId(request.getStateId())
+                    .state(function.apply(response.getBody()))
+                    .ifMatch(response.getHeaders().getETag())
+                    .ifNoneMatch(ifNoneMatch(response))
+                    .build()),
+        maxRetries);
+  }
+
+  /**
+   * Modifies a single State document with optimistic concurrency control.
+   *
+   * <p>Concurrent modifications are retried at most {@value #DEFAULT_MODIFY_RETRIES} times.
+   *
+   * @param request The parameters of the get state request
+   * @param bodyType The type of the document
+   * @param function The function which modifies the document
+   * @return the ResponseEntity of the successful put request
+   * @see XapiClient#modifyState(GetStateRequest, Class, UnaryOperator, int)
+   */
+  public <T> Mono<ResponseEntity<Void>> modifyState(
+      GetStateRequest request, Class<T> bodyType, UnaryOperator<T> function) {
+
+    return modifyState(request, bodyType, function, DEFAULT_MODIFY_RETRIES);
+  }
+
   /**
    * Deletes a single document specified by the given stateId activity, agent, and optional
    * registration.
@@ -462,7 +699,8 @@ public class XapiClient {
         .method(request.getMethod())
         .uri(u -> request.url(u, queryParams).build(queryParams))
         .retrieve()
-        .toBodilessEntity();
+        .toBodilessEntity()
+        .doFinally(signal -> invalidateDocument(request));
   }
 
   /**
@@ -521,6 +759,39 @@ public class XapiClient {
     return getStates(builder.build());
   }
 
+  /**
+   * Gets all State documents specified by the given activityId, agent and optional registration
+   * and since parameters.
+   *
+   * <p>The stateIds are listed first, then the documents are requested concurrently, at most
+   * {@code concurrency} at the same time. Each document is emitted together with its stateId in the
+   * order of the listed stateIds.
+   *
+   * @param request The parameters of the get states request
+   * @param bodyType The type of the documents
+   * @param concurrency The maximum number of documents requested at the same time
+   * @return the stateIds and ResponseEntities as a {@link Flux}
+   * @throws MissingResponseBodyException if the list of the ids is missing
+   */
+  public <T> Flux<Tuple2<String, ResponseEntity<T>>> getStatesContents(
+      GetStatesRequest request, Class<T> bodyType, int concurrency) {
+
+    return getStates(request)
+        .flatMapIterable(XapiClient::requireBody)
+        .flatMapSequential(
+            stateId ->
+                getState(
+                        GetStateRequest.builder()
+                            .activityId(request.getActivityId())
+                            .agent(request.getAgent())
+                            .registration(request.getRegistration())
+                            .stateId(stateId)
+                            .build(),
+                        bodyType)
+                    .map(response -> Tuples.of(stateId, response)),
+            concurrency);
+  }
+
   /**
    * Deletes all documents specified by the given activityId, agent and optional registration.
    *
@@ -537,7 +808,8 @@ public class XapiClient {
         .method(request.getMethod())
         .uri(u -> request.url(u, queryParams).build(queryParams))
         .retrieve()
-        .toBodilessEntity();
+        .toBodilessEntity()
+        .doFinally(signal -> invalidateDocuments(request));
   }
 
   /**
@@ -643,13 +915,7 @@ public class XapiClient {
   public <T> Mono<ResponseEntity<T>> getAgentProfile(
       GetAgentProfileRequest request, Class<T> bodyType) {
 
-    final Map<String, Object> queryParams = new HashMap<>();
-
-    return this.webClient
-        .method(request.getMethod())
-        .uri(u -> request.url(u, queryParams).build(queryParams))
-        .retrieve()
-        .toEntity(bodyType);
+    return getDocument(request, bodyType);
   }
 
   /**
@@ -670,6 +936,24 @@ public class XapiClient {
     return getAgentProfile(builder.build(), bodyType);
   }
 
+  /**
+   * Gets multiple agent profiles concurrently.
+   *
+   * <p>At most {@code concurrency} profiles are requested at the same time. The responses are
+   * emitted in the order of the given requests.
+   *
+   * @param requests The parameters of the get agent profile requests
+   * @param bodyType The type of the profiles
+   * @param concurrency The maximum number of profiles requested at the same time
+   * @return the ResponseEntities as a {@link Flux}
+   */
+  public <T> Flux<ResponseEntity<T>> getAgentProfiles(
+      Collection<GetAgentProfileRequest> requests, Class<T> bodyType, int concurrency) {
+
+    return Flux.fromIterable(requests)
+        .flatMapSequential(request -> getAgentProfile(request, bodyType), concurrency);
+  }
+
   /**
    * Deletes a single agent profile by the given agent and profileId.
    *
@@ -686,7 +970,8 @@ public class XapiClient {
         .method(request.getMethod())
         .uri(u -> request.url(u, queryParams).build(queryParams))
         .retrieve()
-        .toBodilessEntity();
+        .toBodilessEntity()
+        .doFinally(signal -> invalidateDocument(request));
   }
 
   /**
@@ -723,9 +1008,19 @@ public class XapiClient {
         .method(request.getMethod())
         .uri(u -> request.url(u, queryParams).build(queryParams))
         .contentType(request.getContentType())
+        .headers(
+            h -> {
+              if (request.getIfMatch() != null) {
+                h.setIfMatch(request.getIfMatch());
+              }
+              if (request.getIfNoneMatch() != null) {
+                h.setIfNoneMatch(request.getIfNoneMatch());
+              }
+            })
         .bodyValue(request.getProfile())
         .retrieve()
-        .toBodilessEntity();
+        .toBodilessEntity()
+        .doFinally(signal -> invalidateDocument(request));
   }
 
   /**
@@ -746,6 +1041,60 @@ public class XapiClient {
     return putAgentProfile(builder.build());
   }
 
+  /**
+   * Modifies a single agent profile with optimistic concurrency control.
+   *
+   * <p>The profile is read, the given function is applied to it and the result is put back with
+   * an If-Match header carrying the ETag of the read profile. If the profile does not exist, the
+   * function is applied to null and the result is put with an If-None-Match: * header. If the
+   * profile was modified concurrently (the LRS answers with {@code 412 Precondition Failed}), the
+   * whole read-modify-write cycle is retried with a jittered exponential backoff at most {@code
+   * maxRetries} times. If the LRS returns the profile without an ETag, the profile is not put and a
+   * {@link MissingETagException} is emitted.
+   *
+   * @param request The parameters of the get agent profile request
+   * @param bodyType The type of the profile
+   * @param function The function which modifies the profile
+   * @param maxRetries The maximum number of retries
+   * @return the ResponseEntity of the successful put request
+   */
+  public <T> Mono<ResponseEntity<Void>> modifyAgentProfile(
+      GetAgentProfileRequest request,
+      Class<T> bodyType,
+      UnaryOperator<T> function,
+      int maxRetries) {
+
+    return modifyDocument(
+        getAgentProfile(request, bodyType),
+        response ->
+            putAgentProfile(
+                PutAgentProfileRequest.builder()
+                    .agent(request.getAgent())
+                    .profileId(request.getProfileId())
+                    .profile(function.apply(response.getBody()))
+                    .ifMatch(response.getHeaders().getETag())
+                    .ifNoneMatch(ifNoneMatch(response))
+                    .build()),
+        maxRetries);
+  }
+
+  /**
+   * Modifies a single agent profile with optimistic concurrency control.
+   *
+   * <p>Concurrent modifications are retried at most {@value #DEFAULT_MODIFY_RETRIES} times.
+   *
+   * @param request The parameters of the get agent profile request
+   * @param bodyType The type of the profile
+   * @param function The function which modifies the profile
+   * @return the ResponseEntity of the successful put request
+   * @see XapiClient#modifyAgentProfile(GetAgentProfileRequest, Class, UnaryOperator, int)
+   */
+  public <T> Mono<ResponseEntity<Void>> modifyAgentProfile(
+      GetAgentProfileRequest request, Class<T> bodyType, UnaryOperator<T> function) {
+
+    return modifyAgentProfile(request, bodyType, function, DEFAULT_MODIFY_RETRIES);
+  }
+
   /**
    * Posts a single agent profile by the given agent and profileId.
    *
@@ -764,7 +1113,8 @@ public class XapiClient {
         .contentType(request.getContentType())
         .bodyValue(request.getProfile())
         .retrieve()
-        .toBodilessEntity();
+        .toBodilessEntity()
+        .doFinally(signal -> invalidateDocument(request));
   }
 
   /**
@@ -822,6 +1172,36 @@ public class XapiClient {
     return getAgentProfiles(builder.build());
   }
 
+  /**
+   * Gets all agent profiles specified by the given agent and optional since parameters.
+   *
+   * <p>The profileIds are listed first, then the profiles are requested concurrently, at most
+   * {@code concurrency} at the same time. Each profile is emitted together with its profileId in
+   * the order of the listed profileIds.
+   *
+   * @param request The parameters of the get agent profiles request
+   * @param bodyType The type of the profiles
+   * @param concurrency The maximum number of profiles requested at the same time
+   * @return the profileIds and ResponseEntities as a {@link Flux}
+   * @throws MissingResponseBodyException if the list of the ids is missing
+   */
+  public <T> Flux<Tuple2<String, ResponseEntity<T>>> getAgentProfilesContents(
+      GetAgentProfilesRequest request, Class<T> bodyType, int concurrency) {
+
+    return getAgentProfiles(request)
+        .flatMapIterable(XapiClient::requireBody)
+        .flatMapSequential(
+            profileId ->
+                getAgentProfile(
+                        GetAgentProfileRequest.builder()
+                            .agent(request.getAgent())
+                            .profileId(profileId)
+                            .build(),
+                        bodyType)
+                    .map(response -> Tuples.of(profileId, response)),
+            concurrency);
+  }
+
   // Activity Profile Resource
 
   /**
@@ -835,13 +1215,7 @@ public class XapiClient {
   public <T> Mono<ResponseEntity<T>> getActivityProfile(
       GetActivityProfileRequest request, Class<T> bodyType) {
 
-    final Map<String, Object> queryParams = new HashMap<>();
-
-    return this.webClient
-        .method(request.getMethod())
-        .uri(u -> request.url(u, queryParams).build(queryParams))
-        .retrieve()
-        .toEntity(bodyType);
+    return getDocument(request, bodyType);
   }
 
   /**
@@ -862,6 +1236,24 @@ public class XapiClient {
     return getActivityProfile(builder.build(), bodyType);
   }
 
+  /**
+   * Gets multiple activity profiles concurrently.
+   *
+   * <p>At most {@code concurrency} profiles are requested at the same time. The responses are
+   * emitted in the order of the given requests.
+   *
+   * @param requests The parameters of the get activity profile requests
+   * @param bodyType The type of the profiles
+   * @param concurrency The maximum number of profiles requested at the same time
+   * @return the ResponseEntities as a {@link Flux}
+   */
+  public <T> Flux<ResponseEntity<T>> getActivityProfiles(
+      Collection<GetActivityProfileRequest> requests, Class<T> bodyType, int concurrency) {
+
+    return Flux.fromIterable(requests)
+        .flatMapSequential(request -> getActivityProfile(request, bodyType), concurrency);
+  }
+
   /**
    * Changes or stores the specified Profile document in the context of the specified Activity.
    *
@@ -880,7 +1272,8 @@ public class XapiClient {
         .contentType(request.getContentType())
         .bodyValue(request.getActivityProfile())
         .retrieve()
-        .toBodilessEntity();
+        .toBodilessEntity()
+        .doFinally(signal -> invalidateDocument(request));
   }
 
   /**
@@ -917,9 +1310,19 @@ public class XapiClient {
         .method(request.getMethod())
         .uri(u -> request.url(u, queryParams).build(queryParams))
         .contentType(request.getContentType())
+        .headers(
+            h -> {
+              if (request.getIfMatch() != null) {
+                h.setIfMatch(request.getIfMatch());
+              }
+              if (request.getIfNoneMatch() != null) {
+                h.setIfNoneMatch(request.getIfNoneMatch());
+              }
+            })
         .bodyValue(request.getActivityProfile())
         .retrieve()
-        .toBodilessEntity();
+        .toBodilessEntity()
+        .doFinally(signal -> invalidateDocument(request));
   }
 
   /**
@@ -940,6 +1343,60 @@ public class XapiClient {
     return putActivityProfile(builder.build());
   }
 
+  /**
+   * Modifies a single activity profile with optimistic concurrency control.
+   *
+   * <p>The profile is read, the given function is applied to it and the result is put back with
+   * an If-Match header carrying the ETag of the read profile. If the profile does not exist, the
+   * function is applied to null and the result is put with an If-None-Match: * header. If the
+   * profile was modified concurrently (the LRS answers with {@code 412 Precondition Failed}), the
+   * whole read-modify-write cycle is retried with a jittered exponential backoff at most {@code
+   * maxRetries} times. If the LRS returns the profile without an ETag, the profile is not put and a
+   * {@link MissingETagException} is emitted.
+   *
+   * @param request The parameters of the get activity profile request
+   * @param bodyType The type of the profile
+   * @param function The function which modifies the profile
+   * @param maxRetries The maximum number of retries
+   * @return the ResponseEntity of the successful put request
+   */
+  public <T> Mono<ResponseEntity<Void>> modifyActivityProfile(
+      GetActivityProfileRequest request,
+      Class<T> bodyType,
+      UnaryOperator<T> function,
+      int maxRetries) {
+
+    return modifyDocument(
+        getActivityProfile(request, bodyType),
+        response ->
+            putActivityProfile(
+                PutActivityProfileRequest.builder()
+                    .activityId(request.getActivityId())
+                    .profileId(request.getProfileId())
+                    .activityProfile(function.apply(response.getBody()))
+                    .ifMatch(response.getHeaders().getETag())
+                    .ifNoneMatch(ifNoneMatch(response))
+                    .build()),
+        maxRetries);
+  }
+
+  /**
+   * Modifies a single activity profile with optimistic concurrency control.
+   *
+   * <p>Concurrent modifications are retried at most {@value #DEFAULT_MODIFY_RETRIES} times.
+   *
+   * @param request The parameters of the get activity profile request
+   * @param bodyType The type of the profile
+   * @param function The function which modifies the profile
+   * @return the ResponseEntity of the successful put request
+   * @see XapiClient#modifyActivityProfile(GetActivityProfileRequest, Class, UnaryOperator, int)
+   */
+  public <T> Mono<ResponseEntity<Void>> modifyActivityProfile(
+      GetActivityProfileRequest request, Class<T> bodyType, UnaryOperator<T> function) {
+
+    return modifyActivityProfile(request, bodyType, function, DEFAULT_MODIFY_RETRIES);
+  }
+
   /**
    * Deletes the specified Profile document in the context of the specified Activity.
    *
@@ -956,7 +1413,8 @@ public class XapiClient {
         .method(request.getMethod())
         .uri(u -> request.url(u, queryParams).build(queryParams))
         .retrieve()
-        .toBodilessEntity();
+        .toBodilessEntity()
+        .doFinally(signal -> invalidateDocument(request));
   }
 
   /**
@@ -1020,6 +1478,36 @@ public class XapiClient {
     return getActivityProfiles(builder.build());
   }
 
+  /**
+   * Gets all activity profiles specified by the given activityId and optional since parameters.
+   *
+   * <p>The profileIds are listed first, then the profiles are requested concurrently, at most
+   * {@code concurrency} at the same time. Each profile is emitted together with its profileId in
+   * the order of the listed profileIds.
+   *
+   * @param request The parameters of the get activity profiles request
+   * @param bodyType The type of the profiles
+   * @param concurrency The maximum number of profiles requested at the same time
+   * @return the profileIds and ResponseEntities as a {@link Flux}
+   * @throws MissingResponseBodyException if the list of the ids is missing
+   */
+  public <T> Flux<Tuple2<String, ResponseEntity<T>>> getActivityProfilesContents(
+      GetActivityProfilesRequest request, Class<T> bodyType, int concurrency) {
+
+    return getActivityProfiles(request)
+        .flatMapIterable(XapiClient::requireBody)
+        .flatMapSequential(
+            profileId ->
+                getActivityProfile(
+                        GetActivityProfileRequest.builder()
+                            .activityId(request.getActivityId())
+                            .profileId(profileId)
+                            .build(),
+                        bodyType)
+                    .map(response -> Tuples.of(profileId, response)),
+            concurrency);
+  }
+
   // About Resource
 
   /**
@@ -1087,6 +1575,338 @@ public class XapiClient {
     return getStatementIterator(r -> {});
   }
 
+  /**
+   * Gets a list of Statements as a {@link Flux}.
+   *
+   * <p>This method loads ALL of Statements which fullfills the request filters from the LRS. It
+   * follows the {@link StatementResult#getMore() more} links of the results. Each page is decoded
+   * by the {@link StatementResultDecoder}, so a Statement is emitted as soon as it has been parsed
+   * and the next page is requested as soon as the more link of the current page has been read,
+   * while the Statements of the previous pages are being consumed. The number of Statements decoded
+   * ahead of the consumer is limited by the {@code prefetch} parameter, so the downstream
+   * backpressure is respected.
+   *
+   * @param request The parameters of the get statements request
+   * @param prefetch The number of Statements decoded ahead of the consumer
+   * @return the Statements as a {@link Flux}.
+   */
+  public Flux<Statement> getStatementsFlux(GetStatementsRequest request, int prefetch) {
+
+    return getStatementResultChunks(request)
+        .expand(
+            chunk ->
+                chunk.hasMore()
+                    ? getStatementResultChunks(
+                        GetMoreStatementsRequest.builder().more(chunk.getMore()).build())
+                    : Flux.empty())
+        .concatMapIterable(
+            chunk ->
+                chunk.getStatements() == null
+                    ? Collections.<Statement>emptyList()
+                    : chunk.getStatements(),
+            prefetch);
+  }
+
+  /**
+   * Gets a list of Statements as a {@link Flux}.
+   *
+   * <p>This method loads ALL of Statements which fullfills the request filters from the LRS. Each
+   * Statement is emitted as soon as it has been parsed.
+   *
+   * @param request The parameters of the get statements request
+   * @return the Statements as a {@link Flux}.
+   * @see XapiClient#getStatementsFlux(GetStatementsRequest, int)
+   */
+  public Flux<Statement> getStatementsFlux(GetStatementsRequest request) {
+
+    return getStatementsFlux(request, 32);
+  }
+
+  /**
+   * Gets a list of Statements as a {@link Flux}.
+   *
+   * <p>This method loads ALL of Statements which fullfills the request filters from the LRS. Each
+   * Statement is emitted as soon as it has been parsed.
+   *
+   * @param request The Consumer Builder for the get statements request
+   * @return the Statements as a {@link Flux}.
+   * @see XapiClient#getStatementsFlux(GetStatementsRequest, int)
+   */
+  public Flux<Statement> getStatementsFlux(Consumer<GetStatementsRequest.Builder> request) {
+
+    final var builder = GetStatementsRequest.builder();
+
+    request.accept(builder);
+
+    return getStatementsFlux(builder.build());
+  }
+
+  /**
+   * Exports the Statements of a time window in parallel.
+   *
+   * <p>The window between the {@code since} and {@code until} parameters of the request is split
+   * into {@code shards} windows of the same length. The Statements of the shards are loaded
+   * concurrently, each shard following its own more links, with at most {@code concurrency} shards
+   * being loaded at the same time.
+   *
+   * <p>If {@code ordered} is true, the Statements are emitted in the same order as a single
+   * request would return them (the shards are ordered according to the {@code ascending} parameter
+   * of the request), otherwise the Statements are emitted as soon as they arrive.
+   *
+   * @param request The parameters of the get statements request. The since and until parameters
+   *     are required.
+   * @param shards The number of time windows
+   * @param concurrency The maximum number of time windows loaded at the same time
+   * @param ordered Whether the order of the Statements must be kept
+   * @return the Statements as a {@link Flux}.
+   */
+  public Flux<Statement> exportStatements(
+      GetStatementsRequest request, int shards, int concurrency, boolean ordered) {
+    Assert.notNull(request.getSince(), "Since cannot be null");
+    Assert.notNull(request.getUntil(), "Until cannot be null");
+    Assert.isTrue(request.getSince().isBefore(request.getUntil()), "Since must be before until");
+    Assert.isTrue(shards > 0, "Shards must be positive");
+    Assert.isTrue(concurrency > 0, "Concurrency must be positive");
+
+    final var since = request.getSince();
+    final var window = Duration.between(since, request.getUntil());
+
+    final List<Flux<Statement>> fluxes = new ArrayList<>(shards);
+
+    // since is exclusive and until is inclusive, so the shards do not overlap
+    for (var i = 0; i < shards; i++) {
+      final var shardSince = since.plus(window.multipliedBy(i).dividedBy(shards));
+      final var shardUntil =
+          i == shards - 1
+              ? request.getUntil()
+              : since.plus(window.multipliedBy(i + 1L).dividedBy(shards));
+      final var shard = request.toBuilder().since(shardSince).until(shardUntil).build();
+      fluxes.add(getStatementsFlux(shard));
+    }
+
+    if (!Boolean.TRUE.equals(request.getAscending())) {
+      // The LRS returns the newest Statements first by default
+      Collections.reverse(fluxes);
+    }
+
+    return ordered
+        ? Flux.mergeSequential(fluxes, concurrency, Queues.XS_BUFFER_SIZE)
+        : Flux.merge(Flux.fromIterable(fluxes), concurrency);
+  }
+
+  /**
+   * Gets a page of statements decoded by the {@link StatementResultDecoder}: each statement is
+   * emitted in its own {@link StatementResult} as soon as it is parsed and the last element
+   * contains the more property of the page.
+   */
+  private Flux<StatementResult> getStatementResultChunks(Request request) {
+
+    final Map<String, Object> queryParams = new HashMap<>();
+
+    return this.webClient
+        .method(request.getMethod())
+        .uri(u -> request.url(u, queryParams).build(queryParams))
+        .attribute(STATEMENT_PAGE_ATTRIBUTE, true)
+        .retrieve()
+        .bodyToFlux(StatementResult.class);
+  }
+
+  private static long attachmentBytes(
+      List<Statement> statements, @Nullable Map<String, AttachmentContent> contents) {
+
+    long bytes = 0;
+    for (final var statement : statements) {
+      if (statement.getAttachments() != null) {
+        for (final var attachment : statement.getAttachments()) {
+          if ((AttachmentHttpMessageWriter.hasContent(attachment)
+                  || contents != null && contents.containsKey(attachment.getSha2()))
+              && attachment.getLength() != null) {
+            bytes += attachment.getLength();
+          }
+        }
+      }
+    }
+    return bytes;
+  }
+
+  // The contents of the attachments are passed to the StatementHttpMessageWriter with the body
+  private static Object statementsBody(
+      Object statements, @Nullable Map<String, AttachmentContent> contents) {
+
+    return contents == null || contents.isEmpty()
+        ? statements
+        : new StatementHttpMessageWriter.StatementsWithContents(statements, contents);
+  }
+
+  private <T> Mono<ResponseEntity<T>> getDocument(Request request, Class<T> bodyType) {
+
+    final Map<String, Object> queryParams = new HashMap<>();
+
+    if (documentCache == null) {
+      return this.webClient
+          .method(request.getMethod())
+          .uri(u -> request.url(u, queryParams).build(queryParams))
+          .retrieve()
+          .toEntity(bodyType);
+    }
+
+    return Mono.defer(
+        () -> {
+          final var key = documentKey(request);
+          final var cached = documentCache.get(key, bodyType);
+
+          return this.webClient
+              .method(request.getMethod())
+              .uri(u -> request.url(u, queryParams).build(queryParams))
+              .headers(
+                  h -> {
+                    if (cached != null) {
+                      h.setIfNoneMatch(cached.etag());
+                    }
+                  })
+              .retrieve()
+              .toEntity(bodyType)
+              .flatMap(
+                  response -> {
+                    final var updated = documentCache.update(key, cached, bodyType, response);
+
+                    // The cached document was evicted, so it is fetched without If-None-Match
+                    return updated != null ? Mono.just(updated) : getDocument(request, bodyType);
+                  });
+        });
+  }
+
+  private <T> Mono<ResponseEntity<Void>> modifyDocument(
+      Mono<ResponseEntity<T>> document,
+      Function<ResponseEntity<T>, Mono<ResponseEntity<Void>>> put,
+      int maxRetries) {
+
+    return document
+        .onErrorResume(NotFound.class, e -> Mono.just(ResponseEntity.notFound().<T>build()))
+        .flatMap(
+            response ->
+                // Without an ETag the put would silently overwrite concurrent modifications
+                response.getStatusCode().is2xxSuccessful()
+                        && response.getHeaders().getETag() == null
+                    ? Mono.error(new MissingETagException("The LRS did not return an ETag"))
+                    : put.apply(response))
+        .retryWhen(
+            Retry.backoff(maxRetries, MODIFY_MIN_BACKOFF)
+                .jitter(0.5)
+                .filter(PreconditionFailed.class::isInstance)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+  }
+
+  // The LRS must return a list of ids, even an empty one
+  private static <T> T requireBody(ResponseEntity<T> response) {
+    return Optional.ofNullable(response.getBody()).orElseThrow(MissingResponseBodyException::new);
+  }
+
+  // A document which was not found must still not exist when it is created
+  private static String ifNoneMatch(ResponseEntity<?> response) {
+    return response.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND) ? "*" : null;
+  }
+
+  private void invalidateDocument(Request request) {
+    if (documentCache != null) {
+      documentCache.invalidate(documentKey(request));
+    }
+  }
+
+  private void invalidateDocuments(Request request) {
+    if (documentCache != null) {
+      documentCache.invalidateAll(documentKey(request));
+    }
+  }
+
+  private static String documentKey(Request request) {
+
+    final Map<String, Object> queryParams = new HashMap<>();
+
+    return request
+        .url(UriComponentsBuilder.newInstance(), queryParams)
+        .build(queryParams)
+        .toString();
+  }
+
+  /**
+   * Gets the {@link DocumentCache} of this client.
+   *
+   * @return the document cache or null if caching is disabled
+   */
+  public DocumentCache getDocumentCache() {
+    return documentCache;
+  }
+
+  /**
+   * Creates a {@link StatementBatcher} which posts the added Statements in batches.
+   *
+   * <p>A batch is posted when it contains {@code maxBatchSize} Statements, when its estimated size
+   * reaches {@code maxBatchBytes} or when {@code lingerTime} has elapsed since its first Statement
+   * was added.
+   *
+   * @param maxBatchSize the maximum number of Statements in a batch
+   * @param maxBatchBytes the maximum estimated size of a batch in bytes, or zero for no limit
+   * @param lingerTime the maximum time a Statement waits for its batch to be filled
+   * @return a new {@link StatementBatcher} object
+   */
+  public StatementBatcher batching(int maxBatchSize, long maxBatchBytes, Duration lingerTime) {
+
+    return new StatementBatcher(this, maxBatchSize, maxBatchBytes, lingerTime);
+  }
+
+  /**
+   * Creates a {@link StatementBatcher} which posts the added Statements in batches of at most 100
+   * Statements, waiting at most 100 milliseconds for a batch to be filled.
+   *
+   * @return a new {@link StatementBatcher} object
+   */
+  public StatementBatcher batching() {
+
+    return batching(100, 0, Duration.ofMillis(100));
+  }
+
+  /**
+   * Opens a {@link StatementOutbox} which stores the added Statements in the given directory and
+   * posts them in the background.
+   *
+   * @param directory the directory of the outbox log
+   * @param batchSize the maximum number of Statements posted in one request
+   * @param maxSegmentBytes the size after which a new segment file is started
+   * @param flushInterval the delay between two drains of the outbox
+   * @param rejectedHandler receives the Statements which were rejected by the LRS
+   * @return a new {@link StatementOutbox} object
+   */
+  public StatementOutbox outbox(
+      Path directory,
+      int batchSize,
+      long maxSegmentBytes,
+      Duration flushInterval,
+      Consumer<List<Statement>> rejectedHandler) {
+
+    return new StatementOutbox(
+        this, directory, batchSize, maxSegmentBytes, flushInterval, rejectedHandler);
+  }
+
+  /**
+   * Opens a {@link StatementOutbox} which stores the added Statements in the given directory and
+   * posts them in batches of at most 100 Statements every second. The segment files are rolled
+   * after 16 MiB and the Statements rejected by the LRS are appended to the {@code rejected.jsonl}
+   * file in the directory.
+   *
+   * @param directory the directory of the outbox log
+   * @return a new {@link StatementOutbox} object
+   */
+  public StatementOutbox outbox(Path directory) {
+
+    return outbox(
+        directory,
+        100,
+        16 * 1024 * 1024,
+        Duration.ofSeconds(1),
+        StatementOutbox.deadLetter(directory.resolve("rejected.jsonl")));
+  }
+
   /**
    * Voids a {@link Statement}. The Actor of the voiding statement will be the same as the Actor of
    * the target Statement.
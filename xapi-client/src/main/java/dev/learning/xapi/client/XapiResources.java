@@ -0,0 +1,48 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.client;
+
+import java.net.URI;
+
+/**
+ * Names of the xAPI resources, used for configuring and reporting the requests per resource.
+ *
+ * @author Thomas Turrell-Croft
+ */
+final class XapiResources {
+
+  private XapiResources() {}
+
+  /**
+   * Gets the name of the xAPI resource of the given request URL.
+   *
+   * @return the name of the resource, e.g. {@code statements} or {@code activity-profile}
+   */
+  static String of(URI url) {
+
+    final var path = url.getPath() == null ? "" : url.getPath();
+
+    if (path.endsWith("/activities/state")) {
+      return "state";
+    }
+    if (path.endsWith("/activities/profile")) {
+      return "activity-profile";
+    }
+    if (path.endsWith("/agents/profile")) {
+      return "agent-profile";
+    }
+    if (path.endsWith("/activities")) {
+      return "activities";
+    }
+    if (path.endsWith("/agents")) {
+      return "agents";
+    }
+    if (path.endsWith("/about")) {
+      return "about";
+    }
+    // Statement requests, including the more links
+    return "statements";
+  }
+}
@@ -4,14 +4,35 @@
 
 package dev.learning.xapi.client.configuration;
 
+import dev.learning.xapi.client.DocumentCache;
+import dev.learning.xapi.client.MetricsFilterFunction;
+import dev.learning.xapi.client.ResilienceFilterFunction;
+import dev.learning.xapi.client.SmileFilterFunction;
 import dev.learning.xapi.client.XapiClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
 import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
 
 /**
  * Auto-configure {@link XapiClient}.
@@ -28,7 +49,9 @@ public class XapiClientAutoConfiguration {
   public XapiClient xapiClient(
       XapiClientProperties properties,
       WebClient.Builder builder,
-      List<XapiClientConfigurer> configurers) {
+      List<XapiClientConfigurer> configurers,
+      ObjectProvider<ConnectionProvider> xapiClientConnectionProvider,
+      ObjectProvider<LoopResources> xapiClientLoopResources) {
 
     if (properties.getAuthorization() != null) {
       builder.defaultHeader(HttpHeaders.AUTHORIZATION, properties.getAuthorization());
@@ -42,8 +65,150 @@ public class XapiClientAutoConfiguration {
       builder.baseUrl(properties.getBaseUrl().toString());
     }
 
+    xapiClientConnectionProvider.ifAvailable(
+        provider ->
+            builder.clientConnector(
+                clientHttpConnector(
+                    properties.getConnection(),
+                    provider,
+                    xapiClientLoopResources.getIfAvailable())));
+
+    final var resilience = properties.getResilience();
+    if (resilience.isEnabled()) {
+      builder.filter(
+          ResilienceFilterFunction.builder()
+              .timeout(resilience.getTimeout())
+              .resourceTimeouts(resilience.getTimeouts())
+              .maxRetries(resilience.getMaxRetries())
+              .minBackoff(resilience.getMinBackoff())
+              .maxBackoff(resilience.getMaxBackoff())
+              .failureThreshold(resilience.getFailureThreshold())
+              .openDuration(resilience.getOpenDuration())
+              .build());
+    }
+
+    if (properties.isSmile()) {
+      builder.filter(new SmileFilterFunction());
+    }
+
     configurers.forEach(c -> c.accept(builder));
 
+    if (properties.getDocumentCacheSize() != null) {
+      return new XapiClient(
+          builder, new DocumentCache(properties.getDocumentCacheSize().toBytes()));
+    }
+
     return new XapiClient(builder);
   }
+
+  private static ClientHttpConnector clientHttpConnector(
+      XapiClientProperties.Connection connection,
+      ConnectionProvider provider,
+      LoopResources loopResources) {
+
+    var httpClient = HttpClient.create(provider);
+
+    if (connection.getConnectTimeout() != null) {
+      httpClient =
+          httpClient.option(
+              ChannelOption.CONNECT_TIMEOUT_MILLIS,
+              Math.toIntExact(connection.getConnectTimeout().toMillis()));
+    }
+
+    if (connection.getResponseTimeout() != null) {
+      httpClient = httpClient.responseTimeout(connection.getResponseTimeout());
+    }
+
+    if (Boolean.TRUE.equals(connection.getHttp2())) {
+      httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+    }
+
+    if (connection.getCompression() != null) {
+      httpClient = httpClient.compress(connection.getCompression());
+    }
+
+    if (loopResources != null) {
+      httpClient = httpClient.runOn(loopResources);
+    }
+
+    return new ReactorClientHttpConnector(httpClient);
+  }
+
+  /**
+   * Creates the connection pool and the event loop of a dedicated connector if any of the {@code
+   * xapi.client.connection} properties is set. They are beans, so they are disposed when the
+   * context is closed.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @Conditional(ConnectionConfiguredCondition.class)
+  static class ConnectionConfiguration {
+
+    /** Creates the connection pool of the xAPI client. */
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider xapiClientConnectionProvider(XapiClientProperties properties) {
+
+      final var connection = properties.getConnection();
+      final var provider = ConnectionProvider.builder("xapi-client");
+
+      if (connection.getMaxConnections() != null) {
+        provider.maxConnections(connection.getMaxConnections());
+      }
+      if (connection.getPendingAcquireMaxCount() != null) {
+        provider.pendingAcquireMaxCount(connection.getPendingAcquireMaxCount());
+      }
+      if (connection.getPendingAcquireTimeout() != null) {
+        provider.pendingAcquireTimeout(connection.getPendingAcquireTimeout());
+      }
+      if (connection.getMaxIdleTime() != null) {
+        provider.maxIdleTime(connection.getMaxIdleTime());
+      }
+      if (connection.getMaxLifeTime() != null) {
+        provider.maxLifeTime(connection.getMaxLifeTime());
+      }
+      if (connection.getEvictInBackground() != null) {
+        provider.evictInBackground(connection.getEvictInBackground());
+      }
+
+      return provider.build();
+    }
+
+    /** Creates the event loop of the xAPI client. */
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(prefix = "xapi.client.connection", name = "event-loop-threads")
+    LoopResources xapiClientLoopResources(XapiClientProperties properties) {
+      return LoopResources.create(
+          "xapi-client", properties.getConnection().getEventLoopThreads(), true);
+    }
+  }
+
+  /** Matches if any of the {@code xapi.client.connection} properties is set. */
+  static class ConnectionConfiguredCondition extends SpringBootCondition {
+
+    @Override
+    public ConditionOutcome getMatchOutcome(
+        ConditionContext context, AnnotatedTypeMetadata metadata) {
+
+      final var configured =
+          Binder.get(context.getEnvironment())
+              .bind("xapi.client.connection", XapiClientProperties.Connection.class)
+              .map(XapiClientProperties.Connection::isConfigured)
+              .orElse(false);
+
+      return configured
+          ? ConditionOutcome.match("xapi.client.connection is configured")
+          : ConditionOutcome.noMatch("xapi.client.connection is not configured");
+    }
+  }
+
+  /** Records metrics of the xAPI client requests if Micrometer is on the classpath. */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(MeterRegistry.class)
+  static class MetricsConfiguration {
+
+    /** Creates a configurer which registers the {@link MetricsFilterFunction}. */
+    @Bean
+    XapiClientConfigurer xapiClientMetricsConfigurer(ObjectProvider<MeterRegistry> registry) {
+      return builder -> registry.ifAvailable(r -> builder.filter(new MetricsFilterFunction(r)));
+    }
+  }
 }
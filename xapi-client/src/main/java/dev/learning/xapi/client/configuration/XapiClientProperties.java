@@ -4,10 +4,15 @@
 
 package dev.learning.xapi.client.configuration;
 
+import dev.learning.xapi.client.ResilienceFilterFunction;
 import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * XapiClient properties.
@@ -45,4 +50,129 @@ public class XapiClientProperties {
    * XapiClientProperties#password} properties.
    */
   private String authorization;
+
+  /**
+   * Maximum size of the State, Agent Profile and Activity Profile document cache.
+   *
+   * <p>The document cache is disabled if this property is NOT set.
+   */
+  private DataSize documentCacheSize;
+
+  /**
+   * Whether the Statements are posted and requested in the non-standard Smile format, which is
+   * smaller and faster to parse than JSON.
+   *
+   * <p>Set this property only if the LRS supports the {@code application/x-jackson-smile} media
+   * type. Requires jackson-dataformat-smile on the classpath.
+   */
+  private boolean smile;
+
+  /** Retry, timeout and circuit breaker settings of the requests. */
+  private Resilience resilience = new Resilience();
+
+  /**
+   * Resilience properties.
+   *
+   * @see ResilienceFilterFunction
+   */
+  @Getter
+  @Setter
+  public static class Resilience {
+
+    /** Whether the {@link ResilienceFilterFunction} is registered. */
+    private boolean enabled;
+
+    /** The default response timeout of the requests. */
+    private Duration timeout = Duration.ofSeconds(30);
+
+    /**
+     * Response timeouts of individual xAPI resources (statements, state, activity-profile,
+     * agent-profile, activities, agents or about).
+     */
+    private Map<String, Duration> timeouts = new HashMap<>();
+
+    /** The maximum number of retries of a request. */
+    private int maxRetries = 3;
+
+    /** The minimum backoff before the first retry. */
+    private Duration minBackoff = Duration.ofMillis(100);
+
+    /** The maximum backoff between two retries. */
+    private Duration maxBackoff = Duration.ofSeconds(5);
+
+    /** The number of consecutive failures which opens the circuit breaker, zero to disable it. */
+    private int failureThreshold = 5;
+
+    /** How long the circuit breaker stays open. */
+    private Duration openDuration = Duration.ofSeconds(30);
+  }
+
+  /** HTTP connection settings. Reactor Netty defaults are used for the properties NOT set. */
+  private Connection connection = new Connection();
+
+  /**
+   * Connection properties.
+   *
+   * <p>A dedicated {@link org.springframework.http.client.reactive.ReactorClientHttpConnector} is
+   * created for the xAPI client if any of these properties is set.
+   */
+  @Getter
+  @Setter
+  public static class Connection {
+
+    /** The maximum number of connections in the pool. */
+    private Integer maxConnections;
+
+    /** The maximum number of requests waiting for a connection. */
+    private Integer pendingAcquireMaxCount;
+
+    /** The maximum time a request waits for a connection. */
+    private Duration pendingAcquireTimeout;
+
+    /** Idle connections are closed after this time. */
+    private Duration maxIdleTime;
+
+    /** Connections are closed after this time. */
+    private Duration maxLifeTime;
+
+    /** The interval of evicting idle and expired connections in the background. */
+    private Duration evictInBackground;
+
+    /** The connect timeout. */
+    private Duration connectTimeout;
+
+    /** The maximum time between sending a request and receiving its response. */
+    private Duration responseTimeout;
+
+    /** Whether HTTP/2 is negotiated (requires an https base URL). */
+    private Boolean http2;
+
+    /** Whether compressed responses are requested. */
+    private Boolean compression;
+
+    /**
+     * The number of threads of a dedicated event loop group. The shared Reactor Netty event loop
+     * group is used if NOT set.
+     */
+    private Integer eventLoopThreads;
+
+    /**
+     * Checks whether any of the connection properties is set.
+     *
+     * @return true if a dedicated connector is needed
+     */
+    public boolean isConfigured() {
+      return maxConnections != null
+          || pendingAcquireMaxCount != null
+          || pendingAcquireTimeout != null
+          || maxIdleTime != null
+          || maxLifeTime != null
+          || evictInBackground != null
+          || connectTimeout != null
+          || responseTimeout != null
+          || http2 != null
+          || compression != null
+          || eventLoopThreads != null;
+    }
+  }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+package dev.learning.xapi.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import dev.learning.xapi.model.Agent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AgentJsonCache Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("AgentJsonCache Tests")
+class AgentJsonCacheTests {
+
+  @Test
+  void whenGettingJsonOfAgentThenResultIsExpected() {
+
+    final var agent = Agent.builder().name("A N Other").mbox("mailto:another@example.com").build();
+
+    // When Getting Json Of Agent
+    final var result = AgentJsonCache.toJson(agent);
+
+    // Then Result Is Expected
+    assertThat(result, is("{\"name\":\"A N Other\",\"mbox\":\"mailto:another@example.com\"}"));
+  }
+
+  @Test
+  void givenSameAgentWhenGettingJsonThenCachedJsonIsReturned() {
+
+    // Given Same Agent
+    final var agent = Agent.builder().name("A N Other").mbox("mailto:another@example.com").build();
+    final var first = AgentJsonCache.toJson(agent);
+
+    // When Getting Json
+    final var result = AgentJsonCache.toJson(agent);
+
+    // Then Cached Json Is Returned
+    assertThat(result, sameInstance(first));
+  }
+
+  @Test
+  void givenAgentsWithDifferentNamesWhenGettingJsonThenNamesAreNotMixedUp() {
+
+    // Given Agents With Different Names
+    final var agent = Agent.builder().name("A N Other").mbox("mailto:another@example.com").build();
+    final var renamed = Agent.builder().name("Renamed").mbox("mailto:another@example.com").build();
+    AgentJsonCache.toJson(agent);
+
+    // When Getting Json
+    final var result = AgentJsonCache.toJson(renamed);
+
+    // Then Names Are Not Mixed Up
+    assertThat(result, is("{\"name\":\"Renamed\",\"mbox\":\"mailto:another@example.com\"}"));
+  }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+package dev.learning.xapi.client;
+
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * DocumentCache Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("DocumentCache Tests")
+@SpringBootTest
+class DocumentCacheTests {
+
+  @Autowired private WebClient.Builder webClientBuilder;
+
+  private MockWebServer mockWebServer;
+  private DocumentCache documentCache;
+  private XapiClient client;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start();
+
+    webClientBuilder.baseUrl(mockWebServer.url("").toString());
+
+    documentCache = new DocumentCache(1024);
+    client = new XapiClient(webClientBuilder, documentCache);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  void givenCachedStateWhenGettingStateThenIfNoneMatchIsSent() throws InterruptedException {
+
+    // Given Cached State
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hello World!")
+            .addHeader("ETag", "\"abc\"")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+    getState();
+    mockWebServer.takeRequest();
+
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 304 Not Modified"));
+
+    // When Getting State
+    getState();
+
+    // Then If None Match Is Sent
+    assertThat(mockWebServer.takeRequest().getHeader("If-None-Match"), is("\"abc\""));
+  }
+
+  @Test
+  void givenCachedStateWhenLrsAnswersNotModifiedThenCachedBodyIsReturned() {
+
+    // Given Cached State
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hello World!")
+            .addHeader("ETag", "\"abc\"")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+    getState();
+
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 304 Not Modified"));
+
+    // When Lrs Answers Not Modified
+    final var response = getState();
+
+    // Then Cached Body Is Returned
+    assertThat(response.getBody(), is("Hello World!"));
+    assertThat(documentCache.getHitCount(), is(1L));
+    assertThat(documentCache.getMissCount(), is(1L));
+  }
+
+  @Test
+  void givenCachedStateWhenPuttingStateThenStateIsInvalidated() throws InterruptedException {
+
+    // Given Cached State
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hello World!")
+            .addHeader("ETag", "\"abc\"")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+    getState();
+    mockWebServer.takeRequest();
+
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 204 No Content"));
+
+    // When Putting State
+    client
+        .putState(
+            r ->
+                r.activityId("https://example.com/activity/1")
+                    .agent(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                    .stateId("bookmark")
+                    .state("Hello Universe!"))
+        .block();
+    mockWebServer.takeRequest();
+
+    // Then State Is Invalidated
+    assertThat(documentCache.getSize(), is(0));
+  }
+
+  @Test
+  void givenCachedStateWhenDeletingStatesThenStateIsInvalidated() {
+
+    // Given Cached State
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hello World!")
+            .addHeader("ETag", "\"abc\"")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+    getState();
+
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 204 No Content"));
+
+    // When Deleting States
+    client
+        .deleteStates(
+            r ->
+                r.activityId("https://example.com/activity/1")
+                    .agent(a -> a.name("A N Other").mbox("mailto:another@example.com")))
+        .block();
+
+    // Then State Is Invalidated
+    assertThat(documentCache.getSize(), is(0));
+  }
+
+  @Test
+  void givenStateWithoutEtagWhenGettingStateThenStateIsNotCached() throws InterruptedException {
+
+    // Given State Without Etag
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hello World!")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+
+    // When Getting State
+    getState();
+
+    // Then State Is Not Cached
+    assertThat(documentCache.getSize(), is(0));
+    assertThat(mockWebServer.takeRequest().getHeader("If-None-Match"), is(nullValue()));
+  }
+
+  @Test
+  void givenFullCacheWhenCachingStateThenOldestStateIsEvicted() {
+
+    // Given Full Cache
+    documentCache = new DocumentCache(300);
+    client = new XapiClient(webClientBuilder, documentCache);
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hello World!")
+            .addHeader("ETag", "\"abc\"")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+    getState("first");
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hello World!")
+            .addHeader("ETag", "\"def\"")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+
+    // When Caching State
+    getState("second");
+
+    // Then Oldest State Is Evicted
+    assertThat(documentCache.getSize(), is(1));
+    assertThat(documentCache.getEvictionCount(), is(1L));
+  }
+
+  @Test
+  void givenChunkedStateLargerThanCacheWhenGettingStateThenStateIsNotCached() {
+
+    // Given Chunked State Larger Than Cache (it has no Content-Length)
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setChunkedBody("x".repeat(2048), 256)
+            .addHeader("ETag", "\"abc\"")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+
+    // When Getting State
+    getState();
+
+    // Then State Is Not Cached
+    assertThat(documentCache.getSize(), is(0));
+    assertThat(documentCache.getWeight(), is(0L));
+  }
+
+  @Test
+  void givenModifiedCachedBodyWhenLrsAnswersNotModifiedThenOriginalBodyIsReturned() {
+
+    // Given Modified Cached Body
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("{\"page\":1}")
+            .addHeader("ETag", "\"abc\"")
+            .addHeader("Content-Type", "application/json"));
+    final Map<String, Object> first = getMapState().getBody();
+    first.put("page", 2);
+
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 304 Not Modified"));
+
+    // When Lrs Answers Not Modified
+    final var response = getMapState();
+
+    // Then Original Body Is Returned
+    assertThat(response.getBody().get("page"), is(1));
+    assertThat(documentCache.getHitCount(), is(1L));
+  }
+
+  @Test
+  void givenUnreadableCachedBodyWhenLrsAnswersNotModifiedThenBodyIsEvicted() {
+
+    // Given Unreadable Cached Body
+    documentCache.setObjectMapper(new ObjectMapper());
+    final var headers = new HttpHeaders();
+    headers.setETag("\"abc\"");
+    documentCache.update(
+        "key",
+        null,
+        Unreadable.class,
+        new ResponseEntity<>(new Unreadable(), headers, HttpStatus.OK));
+    final var cached = documentCache.get("key", Unreadable.class);
+
+    // When Lrs Answers Not Modified
+    final var response =
+        documentCache.update(
+            "key",
+            cached,
+            Unreadable.class,
+            ResponseEntity.status(HttpStatus.NOT_MODIFIED).<Unreadable>build());
+
+    // Then Body Is Evicted
+    assertThat(response, is(nullValue()));
+    assertThat(documentCache.getSize(), is(0));
+  }
+
+  @Test
+  void givenCachedStateWhenPutStateIsCancelledThenStateIsInvalidated() {
+
+    // Given Cached State
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hello World!")
+            .addHeader("ETag", "\"abc\"")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+    getState();
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 204 No Content")
+            .setHeadersDelay(10, TimeUnit.SECONDS));
+
+    // When Put State Is Cancelled
+    client
+        .putState(
+            r ->
+                r.activityId("https://example.com/activity/1")
+                    .agent(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                    .stateId("bookmark")
+                    .state("Hello Universe!"))
+        .subscribe()
+        .dispose();
+
+    // Then State Is Invalidated
+    assertThat(documentCache.getSize(), is(0));
+  }
+
+  @SuppressWarnings("unchecked")
+  private ResponseEntity<Map<String, Object>> getMapState() {
+    return (ResponseEntity<Map<String, Object>>)
+        (ResponseEntity<?>)
+            client
+                .getState(
+                    r ->
+                        r.activityId("https://example.com/activity/1")
+                            .agent(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                            .stateId("bookmark"),
+                    Map.class)
+                .block();
+  }
+
+  private ResponseEntity<String> getState() {
+    return getState("bookmark");
+  }
+
+  private ResponseEntity<String> getState(String stateId) {
+    return client
+        .getState(
+            r ->
+                r.activityId("https://example.com/activity/1")
+                    .agent(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                    .stateId(stateId),
+            String.class)
+        .block();
+  }
+
+  // Can be written as JSON, but not read back
+  static class Unreadable {
+
+    public String getValue() {
+      return "Hello World!";
+    }
+  }
+}
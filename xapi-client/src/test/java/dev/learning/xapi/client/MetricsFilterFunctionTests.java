@@ -0,0 +1,171 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+package dev.learning.xapi.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import dev.learning.xapi.model.Statement;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * MetricsFilterFunction Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("MetricsFilterFunction Tests")
+@SpringBootTest
+class MetricsFilterFunctionTests {
+
+  @Autowired private WebClient.Builder webClientBuilder;
+
+  private MockWebServer mockWebServer;
+  private SimpleMeterRegistry registry;
+  private XapiClient client;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start();
+
+    registry = new SimpleMeterRegistry();
+
+    webClientBuilder
+        .baseUrl(mockWebServer.url("").toString())
+        .filter(new MetricsFilterFunction(registry));
+
+    client = new XapiClient(webClientBuilder);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  void whenGettingStateThenRequestIsTimed() {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hello World!")
+            .addHeader("Content-Type", "application/octet-stream"));
+
+    // When Getting State
+    client
+        .getState(
+            r ->
+                r.activityId("https://example.com/activity/1")
+                    .agent(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                    .stateId("bookmark"),
+            String.class)
+        .block();
+
+    // Then Request Is Timed
+    final var timer =
+        registry
+            .get("xapi.client.requests")
+            .tags("resource", "state", "method", "GET", "outcome", "SUCCESS", "status", "200")
+            .timer();
+    assertThat(timer.count(), is(1L));
+  }
+
+  @Test
+  void whenGettingStateThenResponseSizeIsRecorded() {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hello World!")
+            .addHeader("Content-Type", "application/octet-stream"));
+
+    // When Getting State
+    client
+        .getState(
+            r ->
+                r.activityId("https://example.com/activity/1")
+                    .agent(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                    .stateId("bookmark"),
+            String.class)
+        .block();
+
+    // Then Response Size Is Recorded
+    final var summary =
+        registry.get("xapi.client.response.size").tags("resource", "state").summary();
+    assertThat(summary.totalAmount(), is(12.0));
+  }
+
+  @Test
+  void whenPostingStatementsThenBatchSizeIsRecorded() {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody(
+                "[\"2eb84e56-441a-492c-9d7b-f7e9c4d8f5a5\",\"4ed0209a-f50f-4f57-8602-ba5f981d211a\"]")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+
+    final var statement =
+        Statement.builder()
+            .agentActor(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+            .verb(v -> v.id("http://adlnet.gov/expapi/verbs/attempted"))
+            .activityObject(o -> o.id("https://example.com/activity/1"))
+            .build();
+
+    // When Posting Statements
+    client.postStatements(r -> r.statements(List.of(statement, statement))).block();
+
+    // Then Batch Size Is Recorded
+    final var summary =
+        registry.get("xapi.client.statements.batch.size").tags("method", "POST").summary();
+    assertThat(summary.totalAmount(), is(2.0));
+    assertThat(
+        registry.get("xapi.client.request.size").tags("resource", "statements").summary().count(),
+        is(1L));
+  }
+
+  @Test
+  void whenGettingStatementsThenPageIsCounted() {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("{\"statements\":[]}")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+
+    // When Getting Statements
+    client.getStatements().block();
+
+    // Then Page Is Counted
+    assertThat(registry.get("xapi.client.statements.pages").counter().count(), is(1.0));
+  }
+
+  @Test
+  void givenNotFoundWhenGettingStatementThenOutcomeIsClientError() {
+
+    // Given Not Found
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 404 Not Found"));
+
+    // When Getting Statement
+    client
+        .getStatement(r -> r.id("4df42866-40e7-45b6-bf7c-8d5fccbdccd6"))
+        .onErrorComplete()
+        .block();
+
+    // Then Outcome Is Client Error
+    final var timer =
+        registry.get("xapi.client.requests").tags("outcome", "CLIENT_ERROR", "status", "404");
+    assertThat(timer.timer().count(), is(1L));
+  }
+}
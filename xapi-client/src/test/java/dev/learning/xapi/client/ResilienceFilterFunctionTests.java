@@ -0,0 +1,175 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+package dev.learning.xapi.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.UUID;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException.BadGateway;
+import org.springframework.web.reactive.function.client.WebClientResponseException.InternalServerError;
+import org.springframework.web.reactive.function.client.WebClientResponseException.ServiceUnavailable;
+
+/**
+ * ResilienceFilterFunction Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("ResilienceFilterFunction Tests")
+@SpringBootTest
+class ResilienceFilterFunctionTests {
+
+  @Autowired private WebClient.Builder webClientBuilder;
+
+  private MockWebServer mockWebServer;
+  private ResilienceFilterFunction filter;
+  private XapiClient client;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start();
+
+    filter =
+        ResilienceFilterFunction.builder()
+            .maxRetries(2)
+            .minBackoff(Duration.ofMillis(1))
+            .maxBackoff(Duration.ofMillis(10))
+            .failureThreshold(3)
+            .openDuration(Duration.ofMinutes(1))
+            .build();
+
+    webClientBuilder.baseUrl(mockWebServer.url("").toString()).filter(filter);
+
+    client = new XapiClient(webClientBuilder);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  void givenServiceUnavailableWhenGettingStatementThenRequestIsRetried() {
+
+    // Given Service Unavailable
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 503 Service Unavailable"));
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 200 OK"));
+
+    // When Getting Statement
+    final var response =
+        client.getStatement(r -> r.id("4df42866-40e7-45b6-bf7c-8d5fccbdccd6")).block();
+
+    // Then Request Is Retried
+    assertThat(response.getStatusCode().value(), is(200));
+    assertThat(mockWebServer.getRequestCount(), is(2));
+  }
+
+  @Test
+  void givenServiceUnavailableAfterLastRetryWhenGettingStatementThenResponseBodyIsKept() {
+
+    // Given Service Unavailable After Last Retry
+    for (var i = 0; i < 3; i++) {
+      mockWebServer.enqueue(
+          new MockResponse().setStatus("HTTP/1.1 503 Service Unavailable").setBody("Try later"));
+    }
+
+    // When Getting Statement
+    final var response = client.getStatement(r -> r.id("4df42866-40e7-45b6-bf7c-8d5fccbdccd6"));
+
+    // Then Response Body Is Kept
+    final var exception = assertThrows(ServiceUnavailable.class, response::block);
+    assertThat(exception.getResponseBodyAsString(), is("Try later"));
+    assertThat(mockWebServer.getRequestCount(), is(3));
+  }
+
+  @Test
+  void givenBadGatewayWhenPostingStatementThenRequestIsNotRetried() {
+
+    // Given Bad Gateway
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 502 Bad Gateway"));
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 200 OK"));
+
+    // When Posting Statement
+    final var response =
+        client.postStatement(
+            r ->
+                r.statement(
+                    s ->
+                        s.agentActor(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                            .verb(v -> v.id("http://adlnet.gov/expapi/verbs/attempted"))
+                            .activityObject(o -> o.id("https://example.com/activity/1"))));
+
+    // Then Request Is Not Retried
+    assertThrows(BadGateway.class, response::block);
+    assertThat(mockWebServer.getRequestCount(), is(1));
+  }
+
+  @Test
+  void givenBadGatewayWhenPuttingStatementThenRequestIsRetried() {
+
+    // Given Bad Gateway
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 502 Bad Gateway"));
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 204 No Content"));
+
+    // When Putting Statement
+    client
+        .putStatement(
+            r ->
+                r.statement(
+                    s ->
+                        s.id(UUID.fromString("4df42866-40e7-45b6-bf7c-8d5fccbdccd6"))
+                            .agentActor(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                            .verb(v -> v.id("http://adlnet.gov/expapi/verbs/attempted"))
+                            .activityObject(o -> o.id("https://example.com/activity/1"))))
+        .block();
+
+    // Then Request Is Retried
+    assertThat(mockWebServer.getRequestCount(), is(2));
+  }
+
+  @Test
+  void givenInternalServerErrorWhenGettingStatementThenRequestIsNotRetried() {
+
+    // Given Internal Server Error
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 500 Internal Server Error"));
+
+    // When Getting Statement
+    final var response = client.getStatement(r -> r.id("4df42866-40e7-45b6-bf7c-8d5fccbdccd6"));
+
+    // Then Request Is Not Retried
+    assertThrows(InternalServerError.class, response::block);
+    assertThat(mockWebServer.getRequestCount(), is(1));
+  }
+
+  @Test
+  void givenConsecutiveFailuresWhenGettingStatementThenCircuitBreakerIsOpen() {
+
+    // Given Consecutive Failures
+    for (var i = 0; i < 3; i++) {
+      mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 500 Internal Server Error"));
+      final var response = client.getStatement(r -> r.id("4df42866-40e7-45b6-bf7c-8d5fccbdccd6"));
+      assertThrows(InternalServerError.class, response::block);
+    }
+
+    // When Getting Statement
+    final var response = client.getStatement(r -> r.id("4df42866-40e7-45b6-bf7c-8d5fccbdccd6"));
+
+    // Then Circuit Breaker Is Open
+    assertThrows(CircuitBreakerOpenException.class, response::block);
+    assertThat(filter.isOpen(), is(true));
+    assertThat(mockWebServer.getRequestCount(), is(3));
+  }
+}
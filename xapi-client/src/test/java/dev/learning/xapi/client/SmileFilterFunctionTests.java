@@ -0,0 +1,213 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+package dev.learning.xapi.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.core.Is.is;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.learning.xapi.jackson.XapiSmile;
+import dev.learning.xapi.model.Statement;
+import dev.learning.xapi.model.StatementResult;
+import dev.learning.xapi.model.Verb;
+import java.util.List;
+import java.util.Locale;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * SmileFilterFunction Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("SmileFilterFunction Tests")
+@SpringBootTest
+class SmileFilterFunctionTests {
+
+  @Autowired private WebClient.Builder webClientBuilder;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  private final ObjectMapper smileMapper = XapiSmile.objectMapper(objectMapper);
+
+  private MockWebServer mockWebServer;
+  private XapiClient client;
+
+  private final Statement statement =
+      Statement.builder()
+          .agentActor(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+          .verb(Verb.ATTEMPTED)
+          .activityObject(
+              o ->
+                  o.id("https://example.com/activity/simplestatement")
+                      .definition(d -> d.addName(Locale.ENGLISH, "Simple Statement")))
+          .build();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start();
+
+    webClientBuilder.baseUrl(mockWebServer.url("").toString()).filter(new SmileFilterFunction());
+
+    client = new XapiClient(webClientBuilder);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  void whenPostingStatementThenContentTypeIsSmile() throws InterruptedException {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"19a74a3f-7354-4254-aa4a-1c39ab4f2ca7\"]")
+            .setHeader("Content-Type", "application/json"));
+
+    // When Posting Statement
+    client.postStatement(r -> r.statement(statement)).block();
+
+    final var recordedRequest = mockWebServer.takeRequest();
+
+    // Then Content Type Is Smile
+    assertThat(recordedRequest.getHeader("Content-Type"), is(XapiSmile.MEDIA_TYPE));
+  }
+
+  @Test
+  void whenPostingStatementThenBodyIsSmileStatement() throws Exception {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"19a74a3f-7354-4254-aa4a-1c39ab4f2ca7\"]")
+            .setHeader("Content-Type", "application/json"));
+
+    // When Posting Statement
+    client.postStatement(r -> r.statement(statement)).block();
+
+    final var recordedRequest = mockWebServer.takeRequest();
+
+    // Then Body Is Smile Statement
+    assertThat(
+        smileMapper.readValue(recordedRequest.getBody().readByteArray(), Statement.class),
+        is(statement));
+  }
+
+  @Test
+  void whenGettingStatementsThenSmileIsAccepted() throws InterruptedException {
+
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 200 OK"));
+
+    // When Getting Statements
+    client.getStatements().block();
+
+    final var recordedRequest = mockWebServer.takeRequest();
+
+    // Then Smile Is Accepted
+    assertThat(
+        recordedRequest.getHeader("Accept"), is(XapiSmile.MEDIA_TYPE + ", application/json;q=0.9"));
+  }
+
+  @Test
+  void whenGettingStatementsWithAttachmentsThenAcceptIsNotChanged() throws InterruptedException {
+
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 200 OK"));
+
+    // When Getting Statements With Attachments
+    client.getStatements(r -> r.attachments(true)).block();
+
+    final var recordedRequest = mockWebServer.takeRequest();
+
+    // Then Accept Is Not Changed
+    assertThat(recordedRequest.getHeader("Accept"), not(containsString(XapiSmile.MEDIA_TYPE)));
+  }
+
+  @Test
+  void whenGettingStatementsWithoutAttachmentsThenSmileIsAccepted() throws InterruptedException {
+
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 200 OK"));
+
+    // When Getting Statements Without Attachments
+    client.getStatements(r -> r.attachments(false)).block();
+
+    final var recordedRequest = mockWebServer.takeRequest();
+
+    // Then Smile Is Accepted
+    assertThat(recordedRequest.getHeader("Accept"), containsString(XapiSmile.MEDIA_TYPE));
+  }
+
+  @Test
+  void givenSmileResponseWhenGettingStatementsThenStatementsAreDecoded() throws Exception {
+
+    // Given Smile Response
+    final var statementResult = StatementResult.builder().statements(List.of(statement)).build();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody(new Buffer().write(smileMapper.writeValueAsBytes(statementResult)))
+            .setHeader("Content-Type", XapiSmile.MEDIA_TYPE));
+
+    // When Getting Statements
+    final var response = client.getStatements().block();
+
+    // Then Statements Are Decoded
+    assertThat(response.getBody().getStatements(), is(List.of(statement)));
+  }
+
+  @Test
+  void givenJsonResponseWhenGettingStatementsThenStatementsAreDecoded() throws Exception {
+
+    // Given Json Response
+    final var statementResult = StatementResult.builder().statements(List.of(statement)).build();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody(objectMapper.writeValueAsString(statementResult))
+            .setHeader("Content-Type", "application/json"));
+
+    // When Getting Statements
+    final var response = client.getStatements().block();
+
+    // Then Statements Are Decoded
+    assertThat(response.getBody().getStatements(), is(List.of(statement)));
+  }
+
+  @Test
+  void whenGettingStateThenAcceptIsNotChanged() throws InterruptedException {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hello World!")
+            .addHeader("Content-Type", "application/octet-stream"));
+
+    // When Getting State
+    client
+        .getState(
+            r ->
+                r.activityId("https://example.com/activity/1")
+                    .agent(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                    .stateId("bookmark"),
+            String.class)
+        .block();
+
+    final var recordedRequest = mockWebServer.takeRequest();
+
+    // Then Accept Is Not Changed
+    assertThat(recordedRequest.getHeader("Accept"), not(containsString(XapiSmile.MEDIA_TYPE)));
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+package dev.learning.xapi.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.learning.xapi.model.Statement;
+import dev.learning.xapi.model.Verb;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * StatementBatcher Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("StatementBatcher Tests")
+@SpringBootTest
+class StatementBatcherTests {
+
+  @Autowired private WebClient.Builder webClientBuilder;
+
+  private MockWebServer mockWebServer;
+  private XapiClient client;
+
+  private final Statement attemptedStatement =
+      Statement.builder()
+          .agentActor(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+          .verb(Verb.ATTEMPTED)
+          .activityObject(
+              o ->
+                  o.id("https://example.com/activity/simplestatement")
+                      .definition(d -> d.addName(Locale.ENGLISH, "Simple Statement")))
+          .build();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start();
+
+    webClientBuilder.baseUrl(mockWebServer.url("").toString());
+
+    client = new XapiClient(webClientBuilder);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  void whenBatchIsFullThenStatementsArePostedInOneRequest() throws InterruptedException {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody(
+                "[\"2eb84e56-441a-492c-9d7b-f8e9ddd3e15d\",\"19a74a3f-7354-4254-aa4a-1c39ab4f2ca7\"]")
+            .addHeader("Content-Type", "application/json"));
+
+    final var batcher = client.batching(2, 0, Duration.ofMinutes(1));
+
+    // When Batch Is Full
+    final var first = batcher.add(attemptedStatement);
+    final var second = batcher.add(attemptedStatement.withVerb(Verb.PASSED));
+
+    // Then Statements Are Posted In One Request
+    assertThat(first.block(), is(UUID.fromString("2eb84e56-441a-492c-9d7b-f8e9ddd3e15d")));
+    assertThat(second.block(), is(UUID.fromString("19a74a3f-7354-4254-aa4a-1c39ab4f2ca7")));
+    assertThat(mockWebServer.getRequestCount(), is(1));
+  }
+
+  @Test
+  void whenLingerTimeElapsesThenPartialBatchIsPosted() throws InterruptedException {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"2eb84e56-441a-492c-9d7b-f8e9ddd3e15d\"]")
+            .addHeader("Content-Type", "application/json"));
+
+    final var batcher = client.batching(100, 0, Duration.ofMillis(10));
+
+    // When Linger Time Elapses
+    final var id = batcher.add(attemptedStatement).block(Duration.ofSeconds(5));
+
+    // Then Partial Batch Is Posted
+    assertThat(id, is(UUID.fromString("2eb84e56-441a-492c-9d7b-f8e9ddd3e15d")));
+  }
+
+  @Test
+  void whenByteBudgetIsExceededThenBatchIsClosed() throws InterruptedException {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"2eb84e56-441a-492c-9d7b-f8e9ddd3e15d\"]")
+            .addHeader("Content-Type", "application/json"));
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"19a74a3f-7354-4254-aa4a-1c39ab4f2ca7\"]")
+            .addHeader("Content-Type", "application/json"));
+
+    final var batcher = client.batching(100, 1, Duration.ofMinutes(1));
+
+    // When Byte Budget Is Exceeded
+    batcher.add(attemptedStatement).block();
+    batcher.add(attemptedStatement).block();
+
+    // Then Batch Is Closed
+    assertThat(mockWebServer.getRequestCount(), is(2));
+  }
+
+  @Test
+  void whenAddingStatementToDisposedBatcherThenIllegalStateExceptionIsThrown() {
+
+    final var batcher = client.batching();
+
+    batcher.dispose();
+
+    // When Adding Statement To Disposed Batcher
+    final var result = batcher.add(attemptedStatement);
+
+    // Then IllegalStateException Is Thrown
+    assertThrows(IllegalStateException.class, result::block);
+  }
+}
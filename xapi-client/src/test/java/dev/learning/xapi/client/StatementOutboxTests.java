@@ -0,0 +1,385 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+package dev.learning.xapi.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.learning.xapi.model.Statement;
+import dev.learning.xapi.model.Verb;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * StatementOutbox Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("StatementOutbox Tests")
+@SpringBootTest
+class StatementOutboxTests {
+
+  @Autowired private WebClient.Builder webClientBuilder;
+
+  @TempDir private Path directory;
+
+  private MockWebServer mockWebServer;
+  private XapiClient client;
+
+  private final Statement attemptedStatement =
+      Statement.builder()
+          .agentActor(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+          .verb(Verb.ATTEMPTED)
+          .activityObject(
+              o ->
+                  o.id("https://example.com/activity/simplestatement")
+                      .definition(d -> d.addName(Locale.ENGLISH, "Simple Statement")))
+          .build();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start();
+
+    webClientBuilder.baseUrl(mockWebServer.url("").toString());
+
+    client = new XapiClient(webClientBuilder);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  void whenFlushingOutboxThenStatementsArePostedInOneRequest() throws Exception {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody(
+                "[\"2eb84e56-441a-492c-9d7b-f7e9c4d8f5a5\",\"4ed0209a-f50f-4f57-8602-ba5f981d211a\"]")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+
+    final var outbox = openOutbox();
+
+    outbox.add(attemptedStatement);
+    outbox.add(attemptedStatement);
+
+    // When Flushing Outbox
+    outbox.flush();
+    outbox.dispose();
+
+    // Then Statements Are Posted In One Request
+    assertThat(mockWebServer.getRequestCount(), is(1));
+    final var body = mockWebServer.takeRequest().getBody().readUtf8();
+    assertThat(new ObjectMapper().readTree(body).size(), is(2));
+  }
+
+  @Test
+  void givenFailedPostWhenReopeningOutboxThenStatementsArePostedAgain()
+      throws InterruptedException {
+
+    // Given Failed Post
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 503 Service Unavailable"));
+
+    final var outbox = openOutbox();
+    final var id = outbox.add(attemptedStatement);
+    outbox.flush();
+    outbox.dispose();
+    mockWebServer.takeRequest();
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"" + id + "\"]")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+
+    // When Reopening Outbox
+    final var reopened = openOutbox();
+    reopened.flush();
+    reopened.dispose();
+
+    // Then Statements Are Posted Again
+    assertThat(mockWebServer.getRequestCount(), is(2));
+    assertThat(mockWebServer.takeRequest().getBody().readUtf8().contains(id.toString()), is(true));
+  }
+
+  @Test
+  void givenAcknowledgedStatementsWhenReopeningOutboxThenStatementsAreNotPostedAgain() {
+
+    // Given Acknowledged Statements
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"2eb84e56-441a-492c-9d7b-f7e9c4d8f5a5\"]")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+
+    final var outbox = openOutbox();
+    outbox.add(attemptedStatement);
+    outbox.flush();
+    outbox.dispose();
+
+    // When Reopening Outbox
+    final var reopened = openOutbox();
+    reopened.flush();
+    reopened.dispose();
+
+    // Then Statements Are Not Posted Again
+    assertThat(mockWebServer.getRequestCount(), is(1));
+  }
+
+  @Test
+  void givenRejectedBatchWhenFlushingOutboxThenBatchIsPassedToRejectedHandler() {
+
+    // Given Rejected Batch
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 400 Bad Request"));
+
+    final List<Statement> rejected = new ArrayList<>();
+    final var outbox =
+        client.outbox(directory, 10, 1024 * 1024, Duration.ofHours(1), rejected::addAll);
+    outbox.add(attemptedStatement);
+
+    // When Flushing Outbox
+    outbox.flush();
+    outbox.dispose();
+
+    // Then Batch Is Passed To Rejected Handler
+    assertThat(rejected.size(), is(1));
+  }
+
+  @Test
+  void givenOneRejectedStatementWhenFlushingOutboxThenOnlyThatStatementIsRejected() {
+
+    // Given One Rejected Statement
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 400 Bad Request"));
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"2eb84e56-441a-492c-9d7b-f7e9c4d8f5a5\"]")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 400 Bad Request"));
+
+    final List<Statement> rejected = new ArrayList<>();
+    final var outbox =
+        client.outbox(directory, 10, 1024 * 1024, Duration.ofHours(1), rejected::addAll);
+    outbox.add(attemptedStatement);
+    final var id = outbox.add(attemptedStatement);
+
+    // When Flushing Outbox
+    outbox.flush();
+    outbox.dispose();
+
+    // Then Only That Statement Is Rejected
+    assertThat(mockWebServer.getRequestCount(), is(3));
+    assertThat(rejected.size(), is(1));
+    assertThat(rejected.get(0).getId(), is(id));
+  }
+
+  @Test
+  void givenDefaultOutboxWhenStatementIsRejectedThenStatementIsWrittenToDeadLetterFile()
+      throws Exception {
+
+    // Given Default Outbox
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 400 Bad Request"));
+
+    final var outbox = client.outbox(directory);
+    final var id = outbox.add(attemptedStatement);
+
+    // When Statement Is Rejected
+    outbox.flush();
+    outbox.dispose();
+
+    // Then Statement Is Written To Dead Letter File
+    final var lines = Files.readAllLines(directory.resolve("rejected.jsonl"));
+    assertThat(lines.size(), is(1));
+    assertThat(lines.get(0).contains(id.toString()), is(true));
+  }
+
+  @Test
+  void givenDamagedRecordWhenFlushingOutboxThenRecordIsQuarantinedAndSkipped() throws Exception {
+
+    // Given Damaged Record
+    final var outbox = client.outbox(directory, 10, 1, Duration.ofHours(1), r -> {});
+    outbox.add(attemptedStatement);
+    final var id = outbox.add(attemptedStatement);
+    outbox.dispose();
+
+    try (Stream<Path> files = Files.list(directory)) {
+      final var segment =
+          files.filter(p -> p.toString().endsWith(".log")).sorted().findFirst().get();
+      final var bytes = Files.readAllBytes(segment);
+      bytes[bytes.length - 2] ^= 1;
+      Files.write(segment, bytes);
+    }
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"" + id + "\"]")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+
+    // When Flushing Outbox
+    final var reopened = client.outbox(directory, 10, 1, Duration.ofHours(1), r -> {});
+    reopened.flush();
+    reopened.dispose();
+
+    // Then Record Is Quarantined And Skipped
+    assertThat(mockWebServer.getRequestCount(), is(1));
+    assertThat(mockWebServer.takeRequest().getBody().readUtf8().contains(id.toString()), is(true));
+    try (Stream<Path> files = Files.list(directory.resolve("quarantine"))) {
+      assertThat(files.count(), is(1L));
+    }
+  }
+
+  @Test
+  void givenUnauthorizedResponseWhenFlushingOutboxThenStatementsAreKept() throws Exception {
+
+    // Given Unauthorized Response
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 401 Unauthorized"));
+
+    final List<Statement> rejected = new ArrayList<>();
+    final var outbox =
+        client.outbox(directory, 10, 1024 * 1024, Duration.ofHours(1), rejected::addAll);
+    outbox.add(attemptedStatement);
+    final var id = outbox.add(attemptedStatement);
+
+    // When Flushing Outbox
+    outbox.flush();
+    outbox.dispose();
+
+    // Then Statements Are Kept
+    assertThat(mockWebServer.getRequestCount(), is(1));
+    assertThat(rejected.isEmpty(), is(true));
+    mockWebServer.takeRequest();
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"" + id + "\"]")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+
+    final var reopened = openOutbox();
+    reopened.flush();
+    reopened.dispose();
+
+    final var body = mockWebServer.takeRequest().getBody().readUtf8();
+    assertThat(new ObjectMapper().readTree(body).size(), is(2));
+  }
+
+  @Test
+  void givenInvalidRecordLengthWhenFlushingOutboxThenSegmentIsQuarantinedAndSkipped()
+      throws Exception {
+
+    // Given Invalid Record Length
+    final var outbox = client.outbox(directory, 10, 1, Duration.ofHours(1), r -> {});
+    outbox.add(attemptedStatement);
+    final var id = outbox.add(attemptedStatement);
+    outbox.dispose();
+
+    try (Stream<Path> files = Files.list(directory)) {
+      final var segment =
+          files.filter(p -> p.toString().endsWith(".log")).sorted().findFirst().get();
+      final var bytes = Files.readAllBytes(segment);
+      bytes[0] = 0x7f;
+      Files.write(segment, bytes);
+    }
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"" + id + "\"]")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+
+    // When Flushing Outbox
+    final var reopened = client.outbox(directory, 10, 1, Duration.ofHours(1), r -> {});
+    reopened.flush();
+    reopened.dispose();
+
+    // Then Segment Is Quarantined And Skipped
+    assertThat(mockWebServer.getRequestCount(), is(1));
+    assertThat(mockWebServer.takeRequest().getBody().readUtf8().contains(id.toString()), is(true));
+    try (Stream<Path> files = Files.list(directory.resolve("quarantine"))) {
+      assertThat(files.count(), is(1L));
+    }
+  }
+
+  @Test
+  void givenAcknowledgedSegmentsWhenFlushingOutboxThenSegmentsAreDeleted() throws Exception {
+
+    // Given Acknowledged Segments
+    for (var i = 0; i < 3; i++) {
+      mockWebServer.enqueue(
+          new MockResponse()
+              .setStatus("HTTP/1.1 200 OK")
+              .setBody("[\"2eb84e56-441a-492c-9d7b-f7e9c4d8f5a5\"]")
+              .addHeader("Content-Type", "application/json; charset=utf-8"));
+    }
+
+    // Every statement is written to its own segment
+    final var outbox = client.outbox(directory, 1, 1, Duration.ofHours(1), r -> {});
+    outbox.add(attemptedStatement);
+    outbox.add(attemptedStatement);
+    outbox.add(attemptedStatement);
+
+    // When Flushing Outbox
+    outbox.flush();
+    outbox.dispose();
+
+    // Then Segments Are Deleted
+    assertThat(mockWebServer.getRequestCount(), is(3));
+    try (Stream<Path> files = Files.list(directory)) {
+      assertThat(files.filter(p -> p.toString().endsWith(".log")).count(), is(1L));
+    }
+  }
+
+  @Test
+  void givenTornRecordWhenReopeningOutboxThenRecordIsDiscarded() throws Exception {
+
+    // Given Torn Record
+    final var outbox = openOutbox();
+    outbox.add(attemptedStatement);
+    outbox.dispose();
+
+    try (Stream<Path> files = Files.list(directory)) {
+      final var segment = files.filter(p -> p.toString().endsWith(".log")).findFirst().get();
+      Files.write(segment, new byte[] {0, 0, 1, 0, 1, 2}, StandardOpenOption.APPEND);
+    }
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"2eb84e56-441a-492c-9d7b-f7e9c4d8f5a5\"]")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+
+    // When Reopening Outbox
+    final var reopened = openOutbox();
+    reopened.flush();
+    reopened.dispose();
+
+    // Then Record Is Discarded
+    assertThat(mockWebServer.getRequestCount(), is(1));
+  }
+
+  private StatementOutbox openOutbox() {
+    return client.outbox(directory, 10, 1024 * 1024, Duration.ofHours(1), r -> {});
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+package dev.learning.xapi.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.learning.xapi.model.Statement;
+import dev.learning.xapi.model.StatementResult;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+
+/**
+ * StatementResultDecoder Tests.
+ *
+ * @author István Rátkai (Selindek)
+ */
+@DisplayName("StatementResultDecoder Tests")
+class StatementResultDecoderTests {
+
+  private final StatementResultDecoder decoder =
+      new StatementResultDecoder(new ObjectMapper().findAndRegisterModules());
+
+  private static final String BODY =
+      """
+      {
+        "statements" : [
+          {
+            "id" : "c0aaea0b-252b-4d9d-b7ad-46c541572570",
+            "result" : { "extensions" : { "https://example.com/ext" : [ { "a" : 1 } ] } }
+          },
+          {
+            "id" : "4ed0209a-f50f-4f57-8602-ba5f981d211a"
+          }
+        ],
+        "more" : "/statements/more/1"
+      }
+      """;
+
+  @Test
+  void whenDecodingSplitBodyThenStatementsAreEmittedOneByOne() {
+
+    // When Decoding Split Body
+    final var chunks =
+        decoder
+            .decode(split(BODY, 7), ResolvableType.forClass(StatementResult.class), null, null)
+            .cast(StatementResult.class)
+            .collectList()
+            .block();
+
+    // Then Statements Are Emitted One By One
+    assertThat(chunks.size(), is(3));
+    assertThat(
+        chunks.get(0).getStatements().get(0).getId(),
+        is(UUID.fromString("c0aaea0b-252b-4d9d-b7ad-46c541572570")));
+    assertThat(
+        chunks.get(1).getStatements().get(0).getId(),
+        is(UUID.fromString("4ed0209a-f50f-4f57-8602-ba5f981d211a")));
+    assertThat(chunks.get(2).getStatements().isEmpty(), is(true));
+    assertThat(chunks.get(2).getMore(), is(URI.create("/statements/more/1")));
+  }
+
+  @Test
+  void whenDecodingToMonoThenWholeResultIsDecoded() {
+
+    // When Decoding To Mono
+    final var result =
+        (StatementResult)
+            decoder
+                .decodeToMono(
+                    split(BODY, 7), ResolvableType.forClass(StatementResult.class), null, null)
+                .block();
+
+    // Then Whole Result Is Decoded
+    assertThat(result.getStatements().size(), is(2));
+    assertThat(result.getMore(), is(URI.create("/statements/more/1")));
+  }
+
+  @Test
+  void whenDecodingTruncatedBodyThenDecodingExceptionIsThrown() {
+
+    // When Decoding Truncated Body
+    final var flux =
+        decoder.decode(
+            split(BODY.substring(0, 100), 7),
+            ResolvableType.forClass(StatementResult.class),
+            null,
+            null);
+
+    // Then DecodingException Is Thrown
+    assertThrows(DecodingException.class, () -> flux.collectList().block());
+  }
+
+  @Test
+  void whenCheckingCanDecodeStatementThenResultIsFalse() {
+
+    // When Checking Can Decode Statement
+    final var result =
+        decoder.canDecode(ResolvableType.forClass(Statement.class), MediaType.APPLICATION_JSON);
+
+    // Then Result Is False
+    assertThat(result, is(false));
+  }
+
+  private static Flux<DataBuffer> split(String body, int size) {
+    final var bytes = body.getBytes(StandardCharsets.UTF_8);
+    return Flux.range(0, (bytes.length + size - 1) / size)
+        .map(
+            i -> {
+              final var length = Math.min(size, bytes.length - i * size);
+              return DefaultDataBufferFactory.sharedInstance.wrap(
+                  Arrays.copyOfRange(bytes, i * size, i * size + length));
+            });
+  }
+}
@@ -3,9 +3,11 @@
  */
 package dev.learning.xapi.client;
 
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.StringContains.containsString;
 import static org.hamcrest.core.StringStartsWith.startsWith;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
@@ -15,7 +17,11 @@ import dev.learning.xapi.model.Statement;
 import dev.learning.xapi.model.StatementResult;
 import dev.learning.xapi.model.SubStatement;
 import dev.learning.xapi.model.Verb;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.Instant;
 import java.util.Locale;
 import okhttp3.mockwebserver.MockResponse;
@@ -144,6 +150,113 @@ class XapiClientMultipartTests {
                 + "--\r\n"));
   }
 
+  @Test
+  void whenPostingStatementWithFileAttachmentThenBodyIsExpected()
+      throws InterruptedException, IOException {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"19a74a3f-7354-4254-aa4a-1c39ab4f2ca7\"]")
+            .setHeader("Content-Type", "application/json"));
+
+    final var file = Files.createTempFile("attachment", ".txt");
+    Files.writeString(file, "Simple attachment");
+
+    final var content = AttachmentContent.of(file);
+
+    // When Posting Statement With File Attachment
+    content
+        .toAttachment(
+            a ->
+                a.contentType("text/plain")
+                    .usageType(URI.create("http://adlnet.gov/expapi/attachments/text"))
+                    .addDisplay(Locale.ENGLISH, "text attachment"))
+        .flatMap(
+            attachment ->
+                client.postStatement(
+                    r ->
+                        r.statement(
+                                Statement.builder()
+                                    .agentActor(
+                                        a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                                    .addAttachment(attachment)
+                                    .verb(Verb.ATTEMPTED)
+                                    .activityObject(
+                                        o ->
+                                            o.id("https://example.com/activity/simplestatement")
+                                                .definition(
+                                                    d ->
+                                                        d.addName(
+                                                            Locale.ENGLISH, "Simple Statement")))
+                                    .build())
+                            .addAttachmentContent(attachment, content)))
+        .block();
+
+    Files.delete(file);
+
+    final var recordedRequest = mockWebServer.takeRequest();
+
+    // Then Body Is Expected
+    final var boundary = "--" + recordedRequest.getHeader("content-type").substring(25);
+
+    assertThat(
+        recordedRequest.getBody().readUtf8(),
+        is(
+            boundary
+                + "\r\nContent-Type: application/json\r\nContent-Length: 486\r\n\r\n{\"actor\":{\"name\":\"A N Other\",\"mbox\":\"mailto:another@example.com\"},\"verb\":{\"id\":\"http://adlnet.gov/expapi/verbs/attempted\",\"display\":{\"und\":\"attempted\"}},\"object\":{\"id\":\"https://example.com/activity/simplestatement\",\"definition\":{\"name\":{\"en\":\"Simple Statement\"}}},\"attachments\":[{\"usageType\":\"http://adlnet.gov/expapi/attachments/text\",\"display\":{\"en\":\"text attachment\"},\"contentType\":\"text/plain\",\"length\":17,\"sha2\":\"b154d3fd46a5068da42ba05a8b9c971688ab5a57eb5c3a0e50a23c42a86786e5\"}]}\r\n"
+                + boundary
+                + "\r\nContent-Type: text/plain\r\nContent-Transfer-Encoding: binary\r\nX-Experience-API-Hash: b154d3fd46a5068da42ba05a8b9c971688ab5a57eb5c3a0e50a23c42a86786e5\r\n\r\nSimple attachment\r\n"
+                + boundary
+                + "--\r\n"));
+  }
+
+  @Test
+  void whenPostingStatementWithStreamAttachmentThenAttachmentContentIsExpected()
+      throws InterruptedException {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"19a74a3f-7354-4254-aa4a-1c39ab4f2ca7\"]")
+            .setHeader("Content-Type", "application/json"));
+
+    final var content =
+        AttachmentContent.of(
+            () -> new ByteArrayInputStream("Simple attachment".getBytes(StandardCharsets.UTF_8)));
+
+    // When Posting Statement With Stream Attachment
+    content
+        .toAttachment(
+            a ->
+                a.contentType("text/plain")
+                    .usageType(URI.create("http://adlnet.gov/expapi/attachments/text"))
+                    .addDisplay(Locale.ENGLISH, "text attachment"))
+        .flatMap(
+            attachment ->
+                client.postStatements(
+                    r ->
+                        r.statements(
+                                Statement.builder()
+                                    .agentActor(
+                                        a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                                    .addAttachment(attachment)
+                                    .verb(Verb.ATTEMPTED)
+                                    .activityObject(
+                                        o -> o.id("https://example.com/activity/simplestatement"))
+                                    .build())
+                            .addAttachmentContent(attachment, content)))
+        .block();
+
+    final var recordedRequest = mockWebServer.takeRequest();
+
+    // Then Attachment Content Is Expected
+    assertThat(
+        recordedRequest.getBody().readUtf8(),
+        containsString(
+            "X-Experience-API-Hash: b154d3fd46a5068da42ba05a8b9c971688ab5a57eb5c3a0e50a23c42a86786e5\r\n\r\nSimple attachment\r\n"));
+  }
+
   @Test
   void whenPostingStatementWithBinaryAttachmentThenBodyIsExpected() throws InterruptedException {
 
@@ -482,4 +595,59 @@ class XapiClientMultipartTests {
         is(
             "StatementResult(statements=[Statement(id=183aabbe-ef9e-49c9-82a3-16ce5135b25b, actor=Agent(super=Actor(name=A N Other, mbox=mailto:another@example.com, mboxSha1sum=null, openid=null, account=null), objectType=AGENT), verb=Verb(id=http://adlnet.gov/expapi/verbs/attempted, display={und=attempted}), object=Activity(objectType=ACTIVITY, id=https://example.com/activity/simplestatement, definition=ActivityDefinition(name={en=Simple Statement}, description=null, type=null, moreInfo=null, interactionType=null, correctResponsesPattern=null, choices=null, scale=null, source=null, target=null, steps=null, extensions=null)), result=null, context=null, timestamp=2023-03-29T12:42:27.923571Z, stored=2023-03-29T12:42:27.923571Z, authority=Agent(super=Actor(name=null, mbox=null, mboxSha1sum=null, openid=null, account=Account(homePage=http://localhost, name=admin)), objectType=AGENT), version=null, attachments=[Attachment(usageType=http://adlnet.gov/expapi/attachments/code, display={en=binary attachment}, description=null, contentType=application/octet-stream, length=6, sha2=0ff3c6749b3eeaae17254fdf0e2de1f32b21c592f474bf39b62b398e8a787eef, fileUrl=null, content=[64, 65, 66, 67, 68, 69]), Attachment(usageType=http://adlnet.gov/expapi/attachments/text, display={en=text attachment}, description=null, contentType=text/plain, length=17, sha2=b154d3fd46a5068da42ba05a8b9c971688ab5a57eb5c3a0e50a23c42a86786e5, fileUrl=null, content=[83, 105, 109, 112, 108, 101, 32, 97, 116, 116, 97, 99, 104, 109, 101, 110, 116])]), Statement(id=bbd3babf-61bf-4038-81fe-8342a4cea9bf, actor=Agent(super=Actor(name=A N Other, mbox=mailto:another@example.com, mboxSha1sum=null, openid=null, account=null), objectType=AGENT), verb=Verb(id=http://adlnet.gov/expapi/verbs/attempted, display={und=attempted}), object=Activity(objectType=ACTIVITY, id=https://example.com/activity/simplestatement, definition=ActivityDefinition(name={en=Simple Statement}, description=null, type=null, moreInfo=null, interactionType=null, correctResponsesPattern=null, choices=null, scale=null, source=null, target=null, steps=null, extensions=null)), result=null, context=null, timestamp=2023-03-29T12:42:27.923571Z, stored=2023-03-29T12:42:27.923571Z, authority=Agent(super=Actor(name=null, mbox=null, mboxSha1sum=null, openid=null, account=Account(homePage=http://localhost, name=admin)), objectType=AGENT), version=null, attachments=[Attachment(usageType=http://adlnet.gov/expapi/attachments/code, display={en=binary attachment}, description=null, contentType=application/octet-stream, length=6, sha2=0ff3c6749b3eeaae17254fdf0e2de1f32b21c592f474bf39b62b398e8a787eef, fileUrl=null, content=[64, 65, 66, 67, 68, 69])])], more=null)"));
   }
+
+  @SuppressWarnings("null")
+  @Test
+  void givenAttachmentFileThresholdWhenGettingStatementWithAttachmentThenContentIsWrittenToFile()
+      throws IOException {
+
+    final var body =
+        """
+            ---------314159265358979323846
+            Content-Type:application/json
+
+            {"id":"183aabbe-ef9e-49c9-82a3-16ce5135b25b","actor":{"name":"A N Other","mbox":"mailto:another@example.com","objectType":"Agent"},"verb":{"id":"http://adlnet.gov/expapi/verbs/attempted","display":{"und":"attempted"}},"object":{"objectType":"Activity","id":"https://example.com/activity/simplestatement","definition":{"name":{"en":"Simple Statement"}}},"attachments":[{"usageType":"http://adlnet.gov/expapi/attachments/code","display":{"en":"binary attachment"},"contentType":"application/octet-stream","length":6,"sha2":"0ff3c6749b3eeaae17254fdf0e2de1f32b21c592f474bf39b62b398e8a787eef"},{"usageType":"http://adlnet.gov/expapi/attachments/text","display":{"en":"text attachment"},"contentType":"text/plain","length":17,"sha2":"b154d3fd46a5068da42ba05a8b9c971688ab5a57eb5c3a0e50a23c42a86786e5"}]}
+            ---------314159265358979323846
+            Content-Type:application/octet-stream
+            Content-Transfer-Encoding:binary
+            X-Experience-API-Hash:0ff3c6749b3eeaae17254fdf0e2de1f32b21c592f474bf39b62b398e8a787eef
+
+            @ABCDE
+            ---------314159265358979323846
+            Content-Type:text/plain
+            Content-Transfer-Encoding:binary
+            X-Experience-API-Hash:b154d3fd46a5068da42ba05a8b9c971688ab5a57eb5c3a0e50a23c42a86786e5
+
+            Simple attachment
+            ---------314159265358979323846--"""
+            .replace("\n", "\r\n");
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody(body)
+            .addHeader("Content-Type", "multipart/mixed; boundary=-------314159265358979323846"));
+
+    // Given Attachment File Threshold
+    final var reader = new StatementHttpMessageReader();
+    reader.setAttachmentFileThreshold(10);
+    webClientBuilder.codecs(c -> c.customCodecs().register(reader));
+    client = new XapiClient(webClientBuilder);
+
+    // When Getting Statement With Attachment
+    final var response =
+        client
+            .getStatement(r -> r.id("183aabbe-ef9e-49c9-82a3-16ce5135b25b").attachments(true))
+            .block();
+
+    // Then Content Is Written To File
+    final var attachments = response.getBody().getAttachments();
+    assertThat(new String(attachments.get(0).getContent()), is("@ABCDE"));
+    assertThat(reader.getAttachmentFile(attachments.get(0)), is(nullValue()));
+    assertThat(attachments.get(1).getContent(), is(nullValue()));
+    assertThat(
+        Files.readString(reader.getAttachmentFile(attachments.get(1))), is("Simple attachment"));
+
+    Files.delete(reader.getAttachmentFile(attachments.get(1)));
+  }
 }
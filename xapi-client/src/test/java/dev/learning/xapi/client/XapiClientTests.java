@@ -1409,6 +1409,106 @@ class XapiClientTests {
     assertThat(response.getBody(), is(Arrays.asList("State1", "State2", "State3")));
   }
 
+  @Test
+  void whenGettingMultipleStateDocumentsThenBodiesAreInRequestOrder() {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("first")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("second")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+
+    final List<GetStateRequest> requests =
+        List.of(
+            GetStateRequest.builder()
+                .activityId("https://example.com/activity/1")
+                .agent(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                .stateId("first")
+                .build(),
+            GetStateRequest.builder()
+                .activityId("https://example.com/activity/1")
+                .agent(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                .stateId("second")
+                .build());
+
+    // When Getting Multiple State Documents
+    final var responses = client.getStates(requests, String.class, 1).collectList().block();
+
+    // Then Bodies Are In Request Order
+    assertThat(responses.size(), is(2));
+    assertThat(responses.get(0).getBody(), is("first"));
+    assertThat(responses.get(1).getBody(), is("second"));
+  }
+
+  @Test
+  void whenGettingStatesContentsThenEachStateIsRequested() throws InterruptedException {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("[\"bookmark\"]")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hello World!")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+
+    // When Getting States Contents
+    final var contents =
+        client
+            .getStatesContents(
+                GetStatesRequest.builder()
+                    .activityId("https://example.com/activity/1")
+                    .agent(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                    .registration("67828e3a-d116-4e18-8af3-2d2c59e27be6")
+                    .build(),
+                String.class,
+                4)
+            .collectList()
+            .block();
+
+    // Then Each State Is Requested
+    assertThat(contents.size(), is(1));
+    assertThat(contents.get(0).getT1(), is("bookmark"));
+    assertThat(contents.get(0).getT2().getBody(), is("Hello World!"));
+    mockWebServer.takeRequest();
+    assertThat(
+        mockWebServer.takeRequest().getPath(),
+        is(
+            "/activities/state?activityId=https%3A%2F%2Fexample.com%2Factivity%2F1&agent=%7B%22name%22%3A%22A%20N%20Other%22%2C%22mbox%22%3A%22mailto%3Aanother%40example.com%22%7D&registration=67828e3a-d116-4e18-8af3-2d2c59e27be6&stateId=bookmark"));
+  }
+
+  @Test
+  void givenMissingStateIdsWhenGettingStatesContentsThenMissingResponseBodyExceptionIsThrown() {
+
+    // Given Missing State Ids
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+
+    // When Getting States Contents
+    final var contents =
+        client
+            .getStatesContents(
+                GetStatesRequest.builder()
+                    .activityId("https://example.com/activity/1")
+                    .agent(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+                    .build(),
+                String.class,
+                4)
+            .collectList();
+
+    // Then MissingResponseBodyException Is Thrown
+    assertThrows(MissingResponseBodyException.class, contents::block);
+  }
+
   // Deleting Multiple States
 
   @Test
@@ -2320,6 +2420,123 @@ class XapiClientTests {
     assertThat(recordedRequest.getHeader("content-type"), is("application/json"));
   }
 
+  @Test
+  void whenPuttingASingleActivityProfileWithIfMatchThenIfMatchHeaderIsSent()
+      throws InterruptedException {
+
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 204 No Content"));
+
+    // When Putting A Single Activity Profile With If Match
+    client
+        .putActivityProfile(
+            r ->
+                r.activityId("https://example.com/activity/1")
+                    .profileId("bookmark")
+                    .activityProfile("Hello World!")
+                    .ifMatch("\"abc\""))
+        .block();
+
+    final var recordedRequest = mockWebServer.takeRequest();
+
+    // Then If Match Header Is Sent
+    assertThat(recordedRequest.getHeader("If-Match"), is("\"abc\""));
+  }
+
+  // Modifying Single Activity Profile
+
+  @Test
+  void givenConcurrentModificationWhenModifyingActivityProfileThenModificationIsRetried()
+      throws InterruptedException {
+
+    // Given Concurrent Modification
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hello")
+            .addHeader("ETag", "\"abc\"")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 412 Precondition Failed"));
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hi")
+            .addHeader("ETag", "\"def\"")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 204 No Content"));
+
+    // When Modifying Activity Profile
+    final var response =
+        client
+            .modifyActivityProfile(
+                GetActivityProfileRequest.builder()
+                    .activityId("https://example.com/activity/1")
+                    .profileId("greeting")
+                    .build(),
+                String.class,
+                p -> p + " World!")
+            .block();
+
+    // Then Modification Is Retried
+    assertThat(response.getStatusCode().value(), is(204));
+    mockWebServer.takeRequest();
+    assertThat(mockWebServer.takeRequest().getHeader("If-Match"), is("\"abc\""));
+    mockWebServer.takeRequest();
+    final var recordedRequest = mockWebServer.takeRequest();
+    assertThat(recordedRequest.getHeader("If-Match"), is("\"def\""));
+    assertThat(recordedRequest.getBody().readUtf8().contains("Hi World!"), is(true));
+  }
+
+  @Test
+  void givenMissingProfileWhenModifyingActivityProfileThenIfNoneMatchIsSent()
+      throws InterruptedException {
+
+    // Given Missing Profile
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 404 Not Found"));
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 204 No Content"));
+
+    // When Modifying Activity Profile
+    client
+        .modifyActivityProfile(
+            GetActivityProfileRequest.builder()
+                .activityId("https://example.com/activity/1")
+                .profileId("greeting")
+                .build(),
+            String.class,
+            p -> p == null ? "Hello World!" : p)
+        .block();
+
+    // Then If None Match Is Sent
+    mockWebServer.takeRequest();
+    final var recordedRequest = mockWebServer.takeRequest();
+    assertThat(recordedRequest.getHeader("If-None-Match"), is("*"));
+    assertThat(recordedRequest.getHeader("If-Match"), is(nullValue()));
+  }
+
+  @Test
+  void givenProfileWithoutETagWhenModifyingActivityProfileThenMissingETagExceptionIsThrown() {
+
+    // Given Profile Without ETag
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("Hello")
+            .addHeader("Content-Type", "text/plain; charset=utf-8"));
+
+    // When Modifying Activity Profile
+    final var response =
+        client.modifyActivityProfile(
+            GetActivityProfileRequest.builder()
+                .activityId("https://example.com/activity/1")
+                .profileId("greeting")
+                .build(),
+            String.class,
+            p -> p + " World!");
+
+    // Then MissingETagException Is Thrown
+    assertThrows(MissingETagException.class, response::block);
+    assertThat(mockWebServer.getRequestCount(), is(1));
+  }
+
   // Deleting Single Activity Profile
 
   @Test
@@ -2713,6 +2930,133 @@ class XapiClientTests {
     assertThrows(NoSuchElementException.class, iterator::next);
   }
 
+  @Test
+  void whenGettingStatementsFluxViaMultipeResponsesThenResultIsExpected()
+      throws InterruptedException {
+    final var body1 =
+        """
+        {
+          "statements" : [
+            {
+              "id" : "c0aaea0b-252b-4d9d-b7ad-46c541572570"
+            }
+          ],
+          "more" : "/statements/more/1"
+        }
+        """;
+    final var body2 =
+        """
+        {
+          "statements" : [
+            {
+              "id" : "4ed0209a-f50f-4f57-8602-ba5f981d211a"
+            }
+          ],
+          "more" : ""
+        }
+        """;
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody(body1)
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody(body2)
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+
+    // When Getting Statements Flux Via Multipe Responses
+    final var statements = client.getStatementsFlux(r -> {}).collectList().block();
+
+    // Then Result Is Expected
+    assertThat(statements.size(), is(2));
+    assertThat(
+        statements.get(0).getId(), is(UUID.fromString("c0aaea0b-252b-4d9d-b7ad-46c541572570")));
+    assertThat(
+        statements.get(1).getId(), is(UUID.fromString("4ed0209a-f50f-4f57-8602-ba5f981d211a")));
+    assertThat(mockWebServer.takeRequest().getPath(), is("/statements"));
+    assertThat(mockWebServer.takeRequest().getPath(), is("/statements/more/1"));
+  }
+
+  @Test
+  void givenEmptyResponseWhenGettingStatementsFluxThenResultIsEmpty() {
+
+    // Given Empty Response
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody("{}")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+
+    // When Getting Statements Flux
+    final var statements = client.getStatementsFlux(r -> {}).collectList().block();
+
+    // Then Result Is Empty
+    assertThat(statements.isEmpty(), is(true));
+  }
+
+  @Test
+  void whenExportingStatementsThenShardsAreRequestedInOrder() throws InterruptedException {
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody(
+                "{\"statements\":[{\"id\":\"c0aaea0b-252b-4d9d-b7ad-46c541572570\"}],\"more\":\"\"}")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setStatus("HTTP/1.1 200 OK")
+            .setBody(
+                "{\"statements\":[{\"id\":\"4ed0209a-f50f-4f57-8602-ba5f981d211a\"}],\"more\":\"\"}")
+            .addHeader("Content-Type", "application/json; charset=utf-8"));
+
+    // When Exporting Statements
+    final var statements =
+        client
+            .exportStatements(
+                GetStatementsRequest.builder()
+                    .since(Instant.parse("2016-01-01T00:00:00Z"))
+                    .until(Instant.parse("2016-01-03T00:00:00Z"))
+                    .ascending(true)
+                    .build(),
+                2,
+                1,
+                true)
+            .collectList()
+            .block();
+
+    // Then Shards Are Requested In Order
+    assertThat(statements.size(), is(2));
+    assertThat(
+        statements.get(0).getId(), is(UUID.fromString("c0aaea0b-252b-4d9d-b7ad-46c541572570")));
+    assertThat(
+        statements.get(1).getId(), is(UUID.fromString("4ed0209a-f50f-4f57-8602-ba5f981d211a")));
+    assertThat(
+        mockWebServer.takeRequest().getPath(),
+        is(
+            "/statements?since=2016-01-01T00%3A00%3A00Z&until=2016-01-02T00%3A00%3A00Z&ascending=true"));
+    assertThat(
+        mockWebServer.takeRequest().getPath(),
+        is(
+            "/statements?since=2016-01-02T00%3A00%3A00Z&until=2016-01-03T00%3A00%3A00Z&ascending=true"));
+  }
+
+  @Test
+  void givenNoUntilWhenExportingStatementsThenIllegalArgumentExceptionIsThrown() {
+
+    // Given No Until
+    final var request =
+        GetStatementsRequest.builder().since(Instant.parse("2016-01-01T00:00:00Z")).build();
+
+    // When Exporting Statements
+    // Then IllegalArgumentException Is Thrown
+    assertThrows(
+        IllegalArgumentException.class, () -> client.exportStatements(request, 2, 1, true));
+  }
+
   @Test
   void whenVoidingStatementThenBodyIsExpected() throws InterruptedException {
 
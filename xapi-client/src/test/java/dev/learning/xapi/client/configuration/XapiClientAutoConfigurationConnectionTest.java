@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+package dev.learning.xapi.client.configuration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import dev.learning.xapi.client.XapiClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.http.codec.autoconfigure.CodecsAutoConfiguration;
+import org.springframework.boot.jackson2.autoconfigure.Jackson2AutoConfiguration;
+import org.springframework.boot.reactor.autoconfigure.ReactorAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * XapiClientAutoConfigurationConnection Test.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("XapiClientAutoConfigurationConnection Test")
+@SpringBootTest(
+    classes = {
+      XapiClientAutoConfiguration.class,
+      WebClientTestConfiguration.class,
+      CodecsAutoConfiguration.class,
+      ReactorAutoConfiguration.class,
+      Jackson2AutoConfiguration.class
+    },
+    properties = {
+      "xapi.client.baseUrl = http://127.0.0.1:55124/",
+      "xapi.client.connection.maxConnections = 4",
+      "xapi.client.connection.pendingAcquireTimeout = 5s",
+      "xapi.client.connection.maxIdleTime = 30s",
+      "xapi.client.connection.responseTimeout = 5s",
+      "xapi.client.connection.compression = true",
+      "xapi.client.connection.eventLoopThreads = 1"
+    })
+class XapiClientAutoConfigurationConnectionTest {
+
+  @Autowired private XapiClient client;
+
+  @Autowired private ConnectionProvider xapiClientConnectionProvider;
+
+  @Autowired private LoopResources xapiClientLoopResources;
+
+  private static MockWebServer mockWebServer;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start(55124);
+  }
+
+  @AfterAll
+  static void tearDown() throws Exception {
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  void whenConfiguringConnectionThenRequestsAreSent() throws InterruptedException {
+
+    // When Configuring Connection
+    mockWebServer.enqueue(new MockResponse().setStatus("HTTP/1.1 200 OK"));
+    client.getStatement(r -> r.id("4df42866-40e7-45b6-bf7c-8d5fccbdccd6")).block();
+    final var recordedRequest = mockWebServer.takeRequest();
+
+    // Then Requests Are Sent (Compressed responses are accepted)
+    assertThat(recordedRequest.getHeader("Accept-Encoding"), is("gzip"));
+  }
+
+  @Test
+  void whenConfiguringConnectionThenConnectionResourcesAreBeans() {
+
+    // When Configuring Connection
+    // Then Connection Resources Are Beans (They are disposed with the context)
+    assertThat(xapiClientConnectionProvider.maxConnections(), is(4));
+    assertThat(xapiClientLoopResources.isDisposed(), is(false));
+  }
+}
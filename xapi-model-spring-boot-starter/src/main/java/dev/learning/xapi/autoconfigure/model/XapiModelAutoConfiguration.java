@@ -5,13 +5,19 @@
 package dev.learning.xapi.autoconfigure.model;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.cfg.CoercionAction;
 import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
 import com.fasterxml.jackson.databind.type.LogicalType;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.learning.xapi.jackson.XapiCanonicalModule;
+import dev.learning.xapi.jackson.XapiSmile;
 import dev.learning.xapi.jackson.XapiStrictLocaleModule;
 import dev.learning.xapi.jackson.XapiStrictNullValuesModule;
 import dev.learning.xapi.jackson.XapiStrictObjectTypeModule;
+import dev.learning.xapi.jackson.XapiStrictStatementModule;
 import dev.learning.xapi.jackson.XapiStrictTimestampModule;
+import dev.learning.xapi.model.validation.StatementValidator;
 import dev.learning.xapi.model.validation.disableable.ValidatorDisabler;
 import dev.learning.xapi.model.validation.internal.validators.ActivityDefinitionValidator;
 import dev.learning.xapi.model.validation.internal.validators.ActorValidator;
@@ -26,13 +32,20 @@ import dev.learning.xapi.model.validation.internal.validators.StatementRevisionV
 import dev.learning.xapi.model.validation.internal.validators.StatementVerbValidator;
 import dev.learning.xapi.model.validation.internal.validators.StatementsValidator;
 import dev.learning.xapi.model.validation.internal.validators.VariantValidatorForUuid;
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.jackson2.autoconfigure.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.boot.jackson2.autoconfigure.Jackson2Properties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.validation.beanvalidation.SpringConstraintValidatorFactory;
 
 /**
  * XapiModelAutoConfiguration.
@@ -66,6 +79,10 @@ public class XapiModelAutoConfiguration {
       name = "xapi.model.validateObjectType",
       havingValue = "true",
       matchIfMissing = true)
+  @ConditionalOnProperty(
+      name = "xapi.model.strictStatementDeserializer",
+      havingValue = "false",
+      matchIfMissing = true)
   public Jackson2ObjectMapperBuilderCustomizer validateObjectTypeCustomizer() {
     return builder ->
         builder.postConfigurer(
@@ -82,6 +99,10 @@ public class XapiModelAutoConfiguration {
       name = "xapi.model.validateLocale",
       havingValue = "true",
       matchIfMissing = true)
+  @ConditionalOnProperty(
+      name = "xapi.model.strictStatementDeserializer",
+      havingValue = "false",
+      matchIfMissing = true)
   public Jackson2ObjectMapperBuilderCustomizer validateLocaleCustomizer() {
     return builder ->
         builder.postConfigurer(
@@ -98,6 +119,10 @@ public class XapiModelAutoConfiguration {
       name = "xapi.model.validateTimestamp",
       havingValue = "true",
       matchIfMissing = true)
+  @ConditionalOnProperty(
+      name = "xapi.model.strictStatementDeserializer",
+      havingValue = "false",
+      matchIfMissing = true)
   public Jackson2ObjectMapperBuilderCustomizer validateTimestampCustomizer() {
     return builder ->
         builder.postConfigurer(
@@ -114,12 +139,61 @@ public class XapiModelAutoConfiguration {
       name = "xapi.model.validateNullValues",
       havingValue = "true",
       matchIfMissing = true)
+  @ConditionalOnProperty(
+      name = "xapi.model.strictStatementDeserializer",
+      havingValue = "false",
+      matchIfMissing = true)
   public Jackson2ObjectMapperBuilderCustomizer validateNullValuesCustomizer() {
     return builder ->
         builder.postConfigurer(
             objectMapper -> objectMapper.registerModule(new XapiStrictNullValuesModule()));
   }
 
+  /**
+   * StrictStatementDeserializerCustomizer. Replaces the strict objectType, Locale, timestamp and
+   * null value modules with the single-pass {@link XapiStrictStatementModule}, which checks
+   * Statements and the other xAPI objects, e.g. a bare Agent.
+   *
+   * @return the customizer bean
+   */
+  @Bean
+  @ConditionalOnProperty(name = "xapi.model.strictStatementDeserializer", havingValue = "true")
+  public Jackson2ObjectMapperBuilderCustomizer strictStatementDeserializerCustomizer() {
+    return builder ->
+        builder.postConfigurer(
+            objectMapper -> objectMapper.registerModule(new XapiStrictStatementModule()));
+  }
+
+  /**
+   * XapiCanonicalModule which shares equal Verbs, Activities, URIs and Locales between the
+   * deserialized objects. The hit rates of its caches can be read from this bean.
+   *
+   * @param cacheSize the maximum number of canonical instances of each cache
+   * @return the module bean
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(name = "xapi.model.canonicalize", havingValue = "true")
+  public XapiCanonicalModule xapiCanonicalModule(
+      @Value("${xapi.model.canonicalCacheSize:" + XapiCanonicalModule.DEFAULT_CACHE_SIZE + "}")
+          int cacheSize) {
+    return new XapiCanonicalModule(cacheSize);
+  }
+
+  /**
+   * CanonicalizeCustomizer.
+   *
+   * @param xapiCanonicalModule the module which shares the canonical instances
+   * @return the customizer bean
+   */
+  @Bean
+  @ConditionalOnProperty(name = "xapi.model.canonicalize", havingValue = "true")
+  public Jackson2ObjectMapperBuilderCustomizer canonicalizeCustomizer(
+      XapiCanonicalModule xapiCanonicalModule) {
+    return builder ->
+        builder.postConfigurer(objectMapper -> objectMapper.registerModule(xapiCanonicalModule));
+  }
+
   /**
    * ValidatePropertiesCustomizer.
    *
@@ -432,4 +506,57 @@ public class XapiModelAutoConfiguration {
       }
     };
   }
+
+  /**
+   * StatementValidator.
+   *
+   * <p>The constraint validators of the {@link StatementValidator} are created by the bean factory,
+   * so the bean post processors above disable them in the same way as the validators of Bean
+   * Validation.
+   *
+   * <p>Lists of at least {@code xapi.model.validationParallelismThreshold} Statements are validated
+   * in parallel on the common {@link ForkJoinPool}.
+   *
+   * @param beanFactory the bean factory which creates the constraint validators
+   * @param parallelismThreshold the minimum number of Statements which are validated in parallel
+   * @return the statement validator bean
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public StatementValidator statementValidator(
+      AutowireCapableBeanFactory beanFactory,
+      @Value("${xapi.model.validationParallelismThreshold:"
+              + StatementValidator.DEFAULT_PARALLELISM_THRESHOLD
+              + "}")
+          int parallelismThreshold) {
+    return new StatementValidator(
+        new SpringConstraintValidatorFactory(beanFactory),
+        ForkJoinPool.commonPool(),
+        parallelismThreshold);
+  }
+
+  /**
+   * Reads and writes xAPI objects in the non-standard Smile format if the {@code xapi.model.smile}
+   * property is set and jackson-dataformat-smile is on the classpath.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(SmileFactory.class)
+  @ConditionalOnProperty(name = "xapi.model.smile", havingValue = "true")
+  static class SmileConfiguration {
+
+    /**
+     * Creates a message converter of the {@value XapiSmile#MEDIA_TYPE} media type. Its
+     * ObjectMapper is a copy of the xAPI JSON ObjectMapper, so the strict modules apply to Smile
+     * requests, too.
+     *
+     * @param objectMapper the xAPI JSON ObjectMapper
+     * @return the message converter bean
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    MappingJackson2SmileHttpMessageConverter xapiSmileHttpMessageConverter(
+        ObjectMapper objectMapper) {
+      return new MappingJackson2SmileHttpMessageConverter(XapiSmile.objectMapper(objectMapper));
+    }
+  }
 }
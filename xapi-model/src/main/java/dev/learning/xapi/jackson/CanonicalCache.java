@@ -0,0 +1,158 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, concurrent cache of canonical instances.
+ *
+ * <p>Equal values which are looked up by the same key are replaced by the first instance which was
+ * put into the cache, so that they are stored only once when the deserialized objects are kept in
+ * memory. When the cache is full, all its entries are evicted at once, like Jackson does for its
+ * interned property names. This keeps the lookups lock-free and adapts the cache to a changing
+ * working set.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the canonical instances
+ * @author Thomas Turrell-Croft
+ * @see XapiCanonicalModule
+ */
+public class CanonicalCache<K, V> {
+
+  private final int maxSize;
+
+  private final Map<K, V> entries = new ConcurrentHashMap<>();
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private final LongAdder evictionCount = new LongAdder();
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize the maximum number of canonical instances
+   * @throws IllegalArgumentException if the maximum size is not positive
+   */
+  public CanonicalCache(int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("Max size must be positive");
+    }
+
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Gets the canonical instance of the given key.
+   *
+   * @param key the key
+   * @return the canonical instance or null
+   */
+  public V get(K key) {
+
+    final var value = entries.get(key);
+
+    if (value == null) {
+      missCount.increment();
+    } else {
+      hitCount.increment();
+    }
+
+    return value;
+  }
+
+  /**
+   * Puts the given value into the cache unless another thread has put a canonical instance of the
+   * key in the meantime. This method does not count as a lookup.
+   *
+   * @param key the key
+   * @param value the value
+   * @return the canonical instance, which is the given value or the one which was cached before
+   */
+  public V put(K key, V value) {
+
+    if (entries.size() >= maxSize) {
+      evictionCount.add(entries.size());
+      entries.clear();
+    }
+
+    final var previous = entries.putIfAbsent(key, value);
+
+    return previous == null ? value : previous;
+  }
+
+  /**
+   * Gets the canonical instance of the given key, or puts the given value into the cache when
+   * there is none.
+   *
+   * @param key the key
+   * @param value the value
+   * @return the canonical instance
+   */
+  public V intern(K key, V value) {
+
+    final var cached = get(key);
+
+    return cached == null ? put(key, value) : cached;
+  }
+
+  /** Removes all the canonical instances. */
+  public void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Gets the number of lookups which found a canonical instance.
+   *
+   * @return the number of cache hits
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Gets the number of lookups which did not find a canonical instance.
+   *
+   * @return the number of cache misses
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Gets the ratio of the lookups which found a canonical instance.
+   *
+   * @return the hit rate between 0 and 1, or 0 if there was no lookup
+   */
+  public double getHitRate() {
+
+    final var hits = getHitCount();
+    final var lookups = hits + getMissCount();
+
+    return lookups == 0 ? 0 : (double) hits / lookups;
+  }
+
+  /**
+   * Gets the number of canonical instances which were evicted to keep the size limit.
+   *
+   * @return the number of evictions
+   */
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  /**
+   * Gets the number of canonical instances.
+   *
+   * @return the size of the cache
+   */
+  public int getSize() {
+    return entries.size();
+  }
+}
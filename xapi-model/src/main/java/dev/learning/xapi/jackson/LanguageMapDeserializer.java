@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import dev.learning.xapi.model.LanguageMap;
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Deserializer of unmodifiable {@link LanguageMap} objects.
+ *
+ * <p>The entries are read into a temporary LanguageMap, which is then copied by {@link
+ * LanguageMap#copyOf(java.util.Map)}. The Locale keys and the String values are read by the
+ * deserializers which are registered in the ObjectMapper, so the strict and the canonical modules
+ * apply to the language maps, too. When a language map is merged, the result is a new unmodifiable
+ * LanguageMap with the entries of both maps.
+ *
+ * @author Thomas Turrell-Croft
+ */
+public class LanguageMapDeserializer extends StdDeserializer<LanguageMap>
+    implements ResolvableDeserializer {
+
+  private static final long serialVersionUID = -4510325364627815096L;
+
+  // These fields are not Serializable, but this class is never serialized.
+  private KeyDeserializer keyDeserializer; // NOSONAR
+
+  private JsonDeserializer<Object> valueDeserializer; // NOSONAR
+
+  /** Default constructor. */
+  public LanguageMapDeserializer() {
+    super(LanguageMap.class);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+    keyDeserializer = ctxt.findKeyDeserializer(ctxt.constructType(Locale.class), null);
+    valueDeserializer =
+        ctxt.findContextualValueDeserializer(ctxt.constructType(String.class), null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public LanguageMap deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    return LanguageMap.copyOf(read(p, ctxt, new LanguageMap()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public LanguageMap deserialize(JsonParser p, DeserializationContext ctxt, LanguageMap intoValue)
+      throws IOException {
+    return LanguageMap.copyOf(read(p, ctxt, new LanguageMap(intoValue)));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Boolean supportsUpdate(DeserializationConfig config) {
+    return Boolean.TRUE;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isCachable() {
+    return true;
+  }
+
+  private LanguageMap read(JsonParser p, DeserializationContext ctxt, LanguageMap languageMap)
+      throws IOException {
+
+    var token = p.currentToken();
+
+    if (token == JsonToken.START_OBJECT) {
+      token = p.nextToken();
+    } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+      return (LanguageMap) ctxt.handleUnexpectedToken(LanguageMap.class, p);
+    }
+
+    while (token == JsonToken.FIELD_NAME) {
+      final var key = (Locale) keyDeserializer.deserializeKey(p.currentName(), ctxt);
+
+      final var value =
+          p.nextToken() == JsonToken.VALUE_NULL
+              ? valueDeserializer.getNullValue(ctxt)
+              : valueDeserializer.deserialize(p, ctxt);
+
+      languageMap.put(key, (String) value);
+      token = p.nextToken();
+    }
+
+    return languageMap;
+  }
+}
@@ -0,0 +1,537 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.AsPropertyTypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import dev.learning.xapi.model.Activity;
+import dev.learning.xapi.model.Group;
+import dev.learning.xapi.model.SubStatement;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Custom TypeResolverBuilder which resolves the objectType of xAPI objects without buffering their
+ * properties where possible.
+ *
+ * <p>The default {@link AsPropertyTypeDeserializer} copies every property which comes before the
+ * objectType into a {@link TokenBuffer}, and all of them when the objectType is missing. It also
+ * buffers the objectType itself, because it is a visible property.
+ *
+ * @author Thomas Turrell-Croft
+ */
+public class ObjectTypeResolverBuilder extends StdTypeResolverBuilder {
+
+  @Override
+  public TypeDeserializer buildTypeDeserializer(
+      DeserializationConfig config, JavaType baseType, Collection<NamedType> subtypes) {
+    final var subTypeValidator = verifyBaseTypeValidity(config, baseType);
+    final var idRes = idResolver(config, baseType, subTypeValidator, subtypes, false, true);
+    final var defaultImpl = defineDefaultImpl(config, baseType);
+
+    return new ObjectTypePropertyDeserializer(
+        baseType,
+        idRes,
+        _typeProperty,
+        _typeIdVisible,
+        defaultImpl,
+        _includeAs,
+        _strictTypeIdHandling(config, baseType),
+        typeIds(baseType, subtypes));
+  }
+
+  /**
+   * Returns a type id of each concrete subtype of the base type.
+   *
+   * @param baseType the base type
+   * @param subtypes the named subtypes of the base type
+   * @return the type ids of the concrete subtypes
+   */
+  protected static Map<Class<?>, String> typeIds(
+      JavaType baseType, Collection<NamedType> subtypes) {
+
+    final var typeIds = new HashMap<Class<?>, String>();
+
+    if (subtypes != null) {
+      for (final var subtype : subtypes) {
+        final var type = subtype.getType();
+        if (subtype.hasName()
+            && baseType.getRawClass().isAssignableFrom(type)
+            && !Modifier.isAbstract(type.getModifiers())) {
+          typeIds.putIfAbsent(type, subtype.getName());
+        }
+      }
+    }
+
+    return typeIds;
+  }
+
+  /**
+   * Custom {@link AsPropertyTypeDeserializer} which avoids the {@link TokenBuffer} in these cases:
+   *
+   * <ul>
+   *   <li>The base type has only one concrete type, e.g. the members of a Group or the context
+   *       Activities. The object is read directly and its objectType is checked as it passes.
+   *   <li>A property which only one of the types has comes before the objectType, e.g. the
+   *       definition of an Activity or the member of a Group. Only the properties before it are
+   *       buffered, and the objectType which follows must select the same type.
+   *   <li>The objectType is the first property. It is passed on without buffering it.
+   * </ul>
+   *
+   * <p>The same objects are accepted and rejected as by the {@link AsPropertyTypeDeserializer}.
+   * Properties which more than one type has, like {@code id} or {@code mbox}, cannot select the
+   * type, because the objectType which may follow them decides.
+   */
+  public static class ObjectTypePropertyDeserializer extends AsPropertyTypeDeserializer {
+
+    private static final long serialVersionUID = -3504874924461226741L;
+
+    // The properties which only one type has
+    private static final Map<String, Class<?>> IDENTIFYING_PROPERTIES =
+        Map.of(
+            "definition", Activity.class,
+            "member", Group.class,
+            "actor", SubStatement.class,
+            "verb", SubStatement.class,
+            "object", SubStatement.class,
+            "result", SubStatement.class,
+            "context", SubStatement.class,
+            "timestamp", SubStatement.class,
+            "attachments", SubStatement.class);
+
+    private final Map<Class<?>, String> typeIds; // NOSONAR
+
+    // The only type of the base type, if there is only one
+    private final Class<?> singleType;
+
+    /**
+     * Constructor for ObjectTypePropertyDeserializer.
+     *
+     * @param baseType the base type
+     * @param idRes the type id resolver
+     * @param typeProperty the type property name
+     * @param typeIdVisible whether type id is visible
+     * @param defaultImpl the default implementation
+     * @param includeAs the inclusion type
+     * @param strictTypeIdHandling whether a missing type id is rejected
+     * @param typeIds a type id of each concrete subtype of the base type
+     */
+    public ObjectTypePropertyDeserializer(
+        JavaType baseType,
+        TypeIdResolver idRes,
+        String typeProperty,
+        boolean typeIdVisible,
+        JavaType defaultImpl,
+        As includeAs,
+        boolean strictTypeIdHandling,
+        Map<Class<?>, String> typeIds) {
+      super(
+          baseType,
+          idRes,
+          typeProperty,
+          typeIdVisible,
+          defaultImpl,
+          includeAs,
+          strictTypeIdHandling);
+
+      this.typeIds = Map.copyOf(typeIds);
+
+      final var onlyType = typeIds.size() == 1 ? typeIds.keySet().iterator().next() : null;
+      this.singleType =
+          defaultImpl == null || defaultImpl.getRawClass() == onlyType ? onlyType : null;
+    }
+
+    /**
+     * Constructor for ObjectTypePropertyDeserializer.
+     *
+     * @param src the source deserializer
+     * @param property the bean property
+     */
+    public ObjectTypePropertyDeserializer(AsPropertyTypeDeserializer src, BeanProperty property) {
+      super(src, property);
+
+      if (src instanceof final ObjectTypePropertyDeserializer deserializer) {
+        this.typeIds = deserializer.typeIds;
+        this.singleType = deserializer.singleType;
+      } else {
+        this.typeIds = Map.of();
+        this.singleType = null;
+      }
+    }
+
+    @Override
+    public TypeDeserializer forProperty(BeanProperty prop) {
+      return (prop == _property) ? this : new ObjectTypePropertyDeserializer(this, prop);
+    }
+
+    @Override
+    public Object deserializeTypedFromObject(JsonParser p, DeserializationContext ctxt)
+        throws IOException {
+
+      var t = p.currentToken();
+
+      if (typeIds.isEmpty()
+          || (t != JsonToken.START_OBJECT && t != JsonToken.FIELD_NAME)
+          || p.canReadTypeId()
+          || ctxt.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+          || !ctxt.isEnabled(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE)) {
+        return super.deserializeTypedFromObject(p, ctxt);
+      }
+
+      if (singleType != null) {
+        return deserialize(p, ctxt, singleType, null);
+      }
+
+      // The other types must reject an identifying property
+      final var identifying =
+          ctxt.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+              && ctxt.getConfig().getProblemHandlers() == null;
+
+      if (t == JsonToken.START_OBJECT) {
+        t = p.nextToken();
+      }
+
+      TokenBuffer tb = null;
+
+      for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+        final var name = p.currentName();
+        p.nextToken();
+
+        if (name.equals(_typePropertyName)) {
+          final var typeId = p.getValueAsString();
+          if (typeId != null) {
+            return _deserializeTypedForId(p, ctxt, tb, typeId);
+          }
+        }
+
+        final var type = IDENTIFYING_PROPERTIES.get(name);
+        if (identifying && type != null && typeIds.containsKey(type)) {
+          return deserialize(replay(p, ctxt, tb, name), ctxt, type, name);
+        }
+
+        if (tb == null) {
+          tb = ctxt.bufferForInputBuffering(p);
+        }
+        tb.writeFieldName(name);
+        tb.copyCurrentStructure(p);
+      }
+
+      return _deserializeTypedUsingDefaultImpl(p, ctxt, tb, _msgForMissingId);
+    }
+
+    @Override
+    protected Object _deserializeTypedForId(
+        JsonParser p, DeserializationContext ctxt, TokenBuffer tb, String typeId)
+        throws IOException {
+
+      if (tb != null || !_typeIdVisible || !p.hasToken(JsonToken.VALUE_STRING)) {
+        return super._deserializeTypedForId(p, ctxt, tb, typeId);
+      }
+
+      final var deserializer = _findDeserializer(ctxt, typeId);
+
+      // The objectType is the first property
+      return deserializer.deserialize(new FieldNameParser(p, p.currentName()), ctxt);
+    }
+
+    /**
+     * Checks the type id before the type is resolved.
+     *
+     * @param p the parser
+     * @param typeId the type id
+     * @throws IOException if the type id is not allowed
+     */
+    protected void checkTypeId(JsonParser p, String typeId) throws IOException {
+      // All type ids are resolved
+    }
+
+    // Reads an object of the given type and checks that its objectType selects the same type
+    private Object deserialize(
+        JsonParser p, DeserializationContext ctxt, Class<?> type, String property)
+        throws IOException {
+
+      final var deserializer = _findDeserializer(ctxt, typeIds.get(type));
+
+      return deserializer.deserialize(new ObjectTypeParser(p, ctxt, type, property), ctxt);
+    }
+
+    // Puts the buffered properties and the name of the current property back in front of it
+    private static JsonParser replay(
+        JsonParser p, DeserializationContext ctxt, TokenBuffer tb, String name)
+        throws IOException {
+
+      if (tb == null) {
+        return new FieldNameParser(p, name);
+      }
+
+      tb.writeFieldName(name);
+      final var sequence = JsonParserSequence.createFlattened(true, tb.asParser(p), p);
+      sequence.nextToken();
+
+      return sequence;
+    }
+
+    // The deserializer which the AsPropertyTypeDeserializer uses for an object without type id
+    private JsonDeserializer<Object> findDefaultDeserializer(DeserializationContext ctxt)
+        throws IOException {
+
+      final var deserializer = _findDefaultImplDeserializer(ctxt);
+      if (deserializer != null) {
+        return deserializer;
+      }
+
+      final var type =
+          _strictTypeIdHandling ? _handleMissingTypeId(ctxt, _msgForMissingId) : _baseType;
+
+      return type == null ? null : ctxt.findContextualValueDeserializer(type, _property);
+    }
+
+    /**
+     * Parser of an object whose type has been chosen before its objectType is read. It checks
+     * that the objectType, or the default type when it is missing, is the chosen type.
+     */
+    private final class ObjectTypeParser extends JsonParserDelegate {
+
+      private final DeserializationContext ctxt;
+
+      private final Class<?> type;
+
+      // The identifying property, or null if the base type has only one type
+      private final String property;
+
+      private int depth = 1;
+
+      private boolean typeIdNext;
+
+      private boolean typeIdFound;
+
+      private ObjectTypeParser(
+          JsonParser p, DeserializationContext ctxt, Class<?> type, String property)
+          throws IOException {
+        super(p);
+        this.ctxt = ctxt;
+        this.type = type;
+        this.property = property;
+
+        typeIdNext = p.hasToken(JsonToken.FIELD_NAME) && _typePropertyName.equals(p.currentName());
+      }
+
+      @Override
+      public JsonToken nextToken() throws IOException {
+
+        final var token = delegate.nextToken();
+
+        if (token == null || depth == 0) {
+          return token;
+        }
+
+        if (token.isStructStart()) {
+          typeIdNext = false;
+          depth++;
+        } else if (token.isStructEnd()) {
+          depth--;
+          if (depth == 0 && !typeIdFound) {
+            check(findDefaultDeserializer(ctxt), null);
+          }
+        } else if (depth == 1 && token == JsonToken.FIELD_NAME) {
+          typeIdNext = !typeIdFound && _typePropertyName.equals(delegate.currentName());
+        } else if (typeIdNext) {
+          typeIdNext = false;
+
+          // The first objectType which is not null is the type id
+          final var typeId = delegate.getValueAsString();
+          if (typeId != null) {
+            typeIdFound = true;
+            checkTypeId(this, typeId);
+            check(_findDeserializer(ctxt, typeId), typeId);
+          }
+        }
+
+        return token;
+      }
+
+      @Override
+      public JsonToken nextValue() throws IOException {
+
+        final var token = nextToken();
+
+        return token == JsonToken.FIELD_NAME ? nextToken() : token;
+      }
+
+      @Override
+      public JsonParser skipChildren() throws IOException {
+
+        final var token = delegate.currentToken();
+
+        if (depth > 0 && token != null && token.isStructStart()) {
+          delegate.skipChildren();
+          depth--;
+        }
+
+        return this;
+      }
+
+      private void check(JsonDeserializer<?> deserializer, String typeId) throws IOException {
+
+        if (deserializer != null && deserializer.handledType() == type) {
+          return;
+        }
+
+        if (property != null) {
+          // The selected type does not have the identifying property
+          ctxt.handleUnknownProperty(
+              this,
+              deserializer,
+              deserializer == null ? _baseType.getRawClass() : deserializer.handledType(),
+              property);
+        }
+
+        throw ctxt.invalidTypeIdException(_baseType, typeId, "objectType selects another type");
+      }
+    }
+  }
+
+  /**
+   * Parser which is at the name of the given property, before the current value of the given
+   * parser.
+   */
+  private static final class FieldNameParser extends JsonParserDelegate {
+
+    private final String name;
+
+    private boolean pending = true;
+
+    private FieldNameParser(JsonParser p, String name) {
+      super(p);
+      this.name = name;
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+
+      if (pending) {
+        pending = false;
+        return delegate.currentToken();
+      }
+
+      return delegate.nextToken();
+    }
+
+    @Override
+    public JsonToken nextValue() throws IOException {
+
+      if (pending) {
+        pending = false;
+        return delegate.currentToken();
+      }
+
+      return delegate.nextValue();
+    }
+
+    @Override
+    public JsonParser skipChildren() throws IOException {
+
+      if (!pending) {
+        delegate.skipChildren();
+      }
+
+      return this;
+    }
+
+    @Override
+    public JsonToken currentToken() {
+      return pending ? JsonToken.FIELD_NAME : delegate.currentToken();
+    }
+
+    @Override
+    public JsonToken getCurrentToken() {
+      return currentToken();
+    }
+
+    @Override
+    public int currentTokenId() {
+      return pending ? JsonToken.FIELD_NAME.id() : delegate.currentTokenId();
+    }
+
+    @Override
+    public int getCurrentTokenId() {
+      return currentTokenId();
+    }
+
+    @Override
+    public boolean hasCurrentToken() {
+      return pending || delegate.hasCurrentToken();
+    }
+
+    @Override
+    public boolean hasToken(JsonToken t) {
+      return pending ? t == JsonToken.FIELD_NAME : delegate.hasToken(t);
+    }
+
+    @Override
+    public boolean hasTokenId(int id) {
+      return pending ? id == JsonToken.FIELD_NAME.id() : delegate.hasTokenId(id);
+    }
+
+    @Override
+    public boolean isExpectedStartArrayToken() {
+      return !pending && delegate.isExpectedStartArrayToken();
+    }
+
+    @Override
+    public boolean isExpectedStartObjectToken() {
+      return !pending && delegate.isExpectedStartObjectToken();
+    }
+
+    @Override
+    public boolean isExpectedNumberIntToken() {
+      return !pending && delegate.isExpectedNumberIntToken();
+    }
+
+    @Override
+    public String currentName() throws IOException {
+      return pending ? name : delegate.currentName();
+    }
+
+    @Override
+    public String getCurrentName() throws IOException {
+      return currentName();
+    }
+
+    @Override
+    public String getText() throws IOException {
+      return pending ? name : delegate.getText();
+    }
+
+    @Override
+    public String getValueAsString() throws IOException {
+      return pending ? name : delegate.getValueAsString();
+    }
+
+    @Override
+    public String getValueAsString(String defaultValue) throws IOException {
+      return pending ? name : delegate.getValueAsString(defaultValue);
+    }
+  }
+}
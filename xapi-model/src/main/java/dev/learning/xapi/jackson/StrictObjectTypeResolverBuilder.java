@@ -15,19 +15,19 @@ import com.fasterxml.jackson.databind.jsontype.NamedType;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
 import com.fasterxml.jackson.databind.jsontype.impl.AsPropertyTypeDeserializer;
-import com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
 import com.fasterxml.jackson.databind.util.TokenBuffer;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 
 /**
  * Custom TypeResolverBuilder which accepts only valid strings as type identifiers.
  *
  * @author István Rátkai (Selindek)
  */
-public class StrictObjectTypeResolverBuilder extends StdTypeResolverBuilder {
+public class StrictObjectTypeResolverBuilder extends ObjectTypeResolverBuilder {
 
   @Override
   public TypeDeserializer buildTypeDeserializer(
@@ -37,14 +37,20 @@ public class StrictObjectTypeResolverBuilder extends StdTypeResolverBuilder {
     final var defaultImpl = defineDefaultImpl(config, baseType);
 
     return new StrictObjectTypePropertyDeserializer(
-        baseType, idRes, _typeProperty, _typeIdVisible, defaultImpl, _includeAs);
+        baseType,
+        idRes,
+        _typeProperty,
+        _typeIdVisible,
+        defaultImpl,
+        _includeAs,
+        typeIds(baseType, subtypes));
   }
 
   /**
    * Custom {@link AsPropertyTypeDeserializer} which accepts only valid objectType as property
    * value.
    */
-  public static class StrictObjectTypePropertyDeserializer extends AsPropertyTypeDeserializer {
+  public static class StrictObjectTypePropertyDeserializer extends ObjectTypePropertyDeserializer {
 
     private static final long serialVersionUID = 1139909729567678431L;
 
@@ -69,7 +75,29 @@ public class StrictObjectTypeResolverBuilder extends StdTypeResolverBuilder {
         boolean typeIdVisible,
         JavaType defaultImpl,
         As includeAs) {
-      super(baseType, idRes, typeProperty, typeIdVisible, defaultImpl, includeAs, true);
+      this(baseType, idRes, typeProperty, typeIdVisible, defaultImpl, includeAs, Map.of());
+    }
+
+    /**
+     * Constructor for StrictObjectTypePropertyDeserializer.
+     *
+     * @param baseType the base type
+     * @param idRes the type id resolver
+     * @param typeProperty the type property name
+     * @param typeIdVisible whether type id is visible
+     * @param defaultImpl the default implementation
+     * @param includeAs the inclusion type
+     * @param typeIds a type id of each concrete subtype of the base type
+     */
+    public StrictObjectTypePropertyDeserializer(
+        JavaType baseType,
+        TypeIdResolver idRes,
+        String typeProperty,
+        boolean typeIdVisible,
+        JavaType defaultImpl,
+        As includeAs,
+        Map<Class<?>, String> typeIds) {
+      super(baseType, idRes, typeProperty, typeIdVisible, defaultImpl, includeAs, true, typeIds);
     }
 
     /**
@@ -93,13 +121,18 @@ public class StrictObjectTypeResolverBuilder extends StdTypeResolverBuilder {
         JsonParser p, DeserializationContext ctxt, TokenBuffer tb, String typeId)
         throws IOException {
 
+      checkTypeId(p, typeId);
+
+      return super._deserializeTypedForId(p, ctxt, tb, typeId);
+    }
+
+    @Override
+    protected void checkTypeId(JsonParser p, String typeId) throws IOException {
+
       // This is the actual custom logic.
       if (!validObjectTypes.contains(typeId)) {
         throw new InvalidTypeIdException(p, "Invalid objectType", _baseType, typeId);
       }
-      // Everything else is just unavoidable duplication of the original code.
-
-      return super._deserializeTypedForId(p, ctxt, tb, typeId);
     }
   }
 }
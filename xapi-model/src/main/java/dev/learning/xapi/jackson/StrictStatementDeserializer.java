@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.util.AccessPattern;
+import java.io.IOException;
+
+/**
+ * Strict Statement deserializer.
+ *
+ * <p>Reads a Statement or another xAPI object with its default deserializer from a parser which
+ * rejects the null literals and invalid objectType properties in a single pass over the tokens.
+ * The objects nested in it are read with their default deserializers from the same parser.
+ *
+ * @author Thomas Turrell-Croft
+ */
+public class StrictStatementDeserializer extends DelegatingDeserializer {
+
+  private static final long serialVersionUID = 4386295328715064528L;
+
+  // The attribute of the context while the tokens are read from a strict parser
+  private static final Object STRICT = StrictStatementDeserializer.class;
+
+  private final Class<?> type;
+
+  /**
+   * Constructor for StrictStatementDeserializer.
+   *
+   * @param defaultDeserializer the default deserializer of the xAPI object
+   * @param type the type of the xAPI object
+   */
+  public StrictStatementDeserializer(JsonDeserializer<?> defaultDeserializer, Class<?> type) {
+    super(defaultDeserializer);
+    this.type = type;
+  }
+
+  /**
+   * Returns whether the given type can be read by this deserializer.
+   *
+   * @param type the type of the object
+   * @return true if the type is a Statement or another xAPI object
+   */
+  public static boolean supports(Class<?> type) {
+    return StrictStatementParser.supports(type);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+    return new StrictStatementDeserializer(newDelegatee, type);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+
+    if (ctxt.getAttribute(STRICT) != null) {
+      // The tokens are already checked by the parser of the enclosing object
+      return _delegatee.deserialize(p, ctxt);
+    }
+
+    ctxt.setAttribute(STRICT, Boolean.TRUE);
+    try {
+      return _delegatee.deserialize(new StrictStatementParser(p, ctxt, type), ctxt);
+    } finally {
+      ctxt.setAttribute(STRICT, null);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object deserializeWithType(
+      JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer)
+      throws IOException {
+
+    if (ctxt.getAttribute(STRICT) != null) {
+      return _delegatee.deserializeWithType(p, ctxt, typeDeserializer);
+    }
+
+    // The objectType must be checked before the type deserializer reads it
+    ctxt.setAttribute(STRICT, Boolean.TRUE);
+    try {
+      return _delegatee.deserializeWithType(
+          new StrictStatementParser(p, ctxt, type), ctxt, typeDeserializer);
+    } finally {
+      ctxt.setAttribute(STRICT, null);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object getNullValue(DeserializationContext ctxt) throws JsonMappingException {
+    throw ctxt.instantiationException(type, "null literal is not allowed");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public AccessPattern getNullAccessPattern() {
+    return AccessPattern.DYNAMIC;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object getAbsentValue(DeserializationContext ctxt) throws JsonMappingException {
+    return null;
+  }
+}
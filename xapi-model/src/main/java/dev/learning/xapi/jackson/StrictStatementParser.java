@@ -0,0 +1,553 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.exc.InvalidTypeIdException;
+import dev.learning.xapi.model.About;
+import dev.learning.xapi.model.Account;
+import dev.learning.xapi.model.Activity;
+import dev.learning.xapi.model.ActivityDefinition;
+import dev.learning.xapi.model.Actor;
+import dev.learning.xapi.model.Agent;
+import dev.learning.xapi.model.Attachment;
+import dev.learning.xapi.model.Context;
+import dev.learning.xapi.model.ContextActivities;
+import dev.learning.xapi.model.Group;
+import dev.learning.xapi.model.InteractionComponent;
+import dev.learning.xapi.model.Person;
+import dev.learning.xapi.model.Result;
+import dev.learning.xapi.model.Score;
+import dev.learning.xapi.model.Statement;
+import dev.learning.xapi.model.StatementObject;
+import dev.learning.xapi.model.StatementReference;
+import dev.learning.xapi.model.StatementResult;
+import dev.learning.xapi.model.SubStatement;
+import dev.learning.xapi.model.SubStatementObject;
+import dev.learning.xapi.model.Verb;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parser which checks the null literals and objectType properties of a Statement or of another xAPI
+ * object while its tokens are read.
+ *
+ * <p>It applies the rules of the {@link XapiStrictNullValuesModule} and the {@link
+ * XapiStrictObjectTypeModule} from a fixed description of the xAPI properties, so the deserializers
+ * of the nested objects need no wrappers or custom type deserializers. The properties of an Agent,
+ * Group, Activity, SubStatement and StatementRef which can be the same object are checked together,
+ * because the objectType may come after them.
+ *
+ * @author Thomas Turrell-Croft
+ */
+final class StrictStatementParser extends JsonParserDelegate {
+
+  private static final String OBJECT_TYPE = "objectType";
+
+  private static final Set<String> OBJECT_TYPES =
+      Set.of("Activity", "Agent", "Person", "Group", "SubStatement", "StatementRef");
+
+  // The kinds of the xAPI objects which can be read on their own
+  private static final Map<Class<?>, Kind> ROOTS =
+      Map.ofEntries(
+          Map.entry(Statement.class, Kind.STATEMENT),
+          Map.entry(StatementResult.class, Kind.STATEMENT_RESULT),
+          Map.entry(Actor.class, Kind.ACTOR),
+          Map.entry(Agent.class, Kind.AGENT),
+          Map.entry(Group.class, Kind.GROUP),
+          Map.entry(Person.class, Kind.PERSON),
+          Map.entry(Account.class, Kind.ACCOUNT),
+          Map.entry(Verb.class, Kind.VERB),
+          Map.entry(StatementObject.class, Kind.OBJECT),
+          Map.entry(SubStatementObject.class, Kind.SUB_OBJECT),
+          Map.entry(Activity.class, Kind.ACTIVITY),
+          Map.entry(SubStatement.class, Kind.SUB_STATEMENT),
+          Map.entry(StatementReference.class, Kind.STATEMENT_REF),
+          Map.entry(ActivityDefinition.class, Kind.DEFINITION),
+          Map.entry(InteractionComponent.class, Kind.INTERACTION_COMPONENT),
+          Map.entry(Result.class, Kind.RESULT),
+          Map.entry(Score.class, Kind.SCORE),
+          Map.entry(Context.class, Kind.CONTEXT),
+          Map.entry(ContextActivities.class, Kind.CONTEXT_ACTIVITIES),
+          Map.entry(Attachment.class, Kind.ATTACHMENT),
+          Map.entry(About.class, Kind.ABOUT));
+
+  private final DeserializationContext ctxt;
+
+  // The kinds of the open objects and arrays. The kind of an array is the kind of its elements.
+  private Kind[] kinds = new Kind[8];
+
+  private boolean[] arrays = new boolean[8];
+
+  // The types of the open objects, resolved from their first objectType
+  private Kind[] types = new Kind[8];
+
+  private boolean[] nullTypes = new boolean[8];
+
+  private int depth = -1;
+
+  // The kind of the value of the current property
+  private Kind member;
+
+  /**
+   * Constructor for StrictStatementParser.
+   *
+   * @param p the parser of the object, at the start of the object
+   * @param ctxt the context of the deserialization
+   * @param type the type of the object, which must be supported
+   * @throws IOException if the name of the current property cannot be read
+   */
+  StrictStatementParser(JsonParser p, DeserializationContext ctxt, Class<?> type)
+      throws IOException {
+    super(p);
+    this.ctxt = ctxt;
+
+    final var kind = ROOTS.get(type);
+    final var token = p.currentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.FIELD_NAME) {
+      push(kind, false);
+    }
+    if (token == JsonToken.FIELD_NAME) {
+      member = property(kind, p.currentName());
+    }
+  }
+
+  /**
+   * Returns whether objects of the given type can be checked by this parser.
+   *
+   * @param type the type of the object
+   * @return true if the type is a supported xAPI object
+   */
+  static boolean supports(Class<?> type) {
+    return ROOTS.containsKey(type);
+  }
+
+  @Override
+  public JsonToken nextToken() throws IOException {
+
+    final var token = delegate.nextToken();
+
+    if (token != null && depth >= 0) {
+      check(token);
+    }
+
+    return token;
+  }
+
+  @Override
+  public JsonToken nextValue() throws IOException {
+
+    final var token = nextToken();
+
+    return token == JsonToken.FIELD_NAME ? nextToken() : token;
+  }
+
+  @Override
+  public JsonParser skipChildren() throws IOException {
+
+    final var token = currentToken();
+    if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+      return this;
+    }
+
+    // Nothing is checked in an unknown value
+    if (depth >= 0 && kinds[depth] == Kind.ANY) {
+      delegate.skipChildren();
+      depth--;
+      return this;
+    }
+
+    var open = 1;
+    while (open > 0) {
+      final var next = nextToken();
+      if (next == null) {
+        break;
+      }
+      if (next.isStructStart()) {
+        open++;
+      } else if (next.isStructEnd()) {
+        open--;
+      }
+    }
+
+    return this;
+  }
+
+  private void check(JsonToken token) throws IOException {
+
+    switch (token) {
+      case FIELD_NAME -> member = property(kinds[depth], delegate.currentName());
+      case START_OBJECT -> push(value(), false);
+      case START_ARRAY -> push(value(), true);
+      case END_OBJECT -> {
+        checkNullType();
+        depth--;
+      }
+      case END_ARRAY -> depth--;
+      case VALUE_NULL -> checkNull(value());
+      default -> checkType(value());
+    }
+  }
+
+  // The kind of the current value
+  private Kind value() {
+    return arrays[depth] ? kinds[depth] : member;
+  }
+
+  private void push(Kind kind, boolean array) {
+
+    depth++;
+
+    if (depth == kinds.length) {
+      kinds = Arrays.copyOf(kinds, depth * 2);
+      arrays = Arrays.copyOf(arrays, depth * 2);
+      types = Arrays.copyOf(types, depth * 2);
+      nullTypes = Arrays.copyOf(nullTypes, depth * 2);
+    }
+
+    kinds[depth] = array ? kind.elements() : kind.object();
+    arrays[depth] = array;
+    types[depth] = null;
+    nullTypes[depth] = false;
+  }
+
+  private void checkNull(Kind kind) throws IOException {
+
+    if (kind == Kind.OBJECT_TYPE) {
+      // The type of the object may still be unknown
+      nullTypes[depth] = true;
+    } else if (!kind.nullable) {
+      throw nullLiteral(kind.type);
+    }
+  }
+
+  // The first objectType which is not null is the type id of the object
+  private void checkType(Kind kind) throws IOException {
+
+    if (kind != Kind.OBJECT_TYPE || types[depth] != null) {
+      return;
+    }
+
+    final var typeId = delegate.getText();
+
+    if (delegate.currentToken() != JsonToken.VALUE_STRING || !OBJECT_TYPES.contains(typeId)) {
+      throw new InvalidTypeIdException(
+          this, "Invalid objectType", ctxt.constructType(kinds[depth].type), typeId);
+    }
+
+    types[depth] = kinds[depth].resolve(typeId);
+  }
+
+  // Only Agents and Activities have an objectType which can be null
+  private void checkNullType() throws IOException {
+
+    if (!nullTypes[depth]) {
+      return;
+    }
+
+    final var kind = kinds[depth];
+    if (types[depth] == null && (kind == Kind.GROUP || kind == Kind.STATEMENT_REF)) {
+      // The missing type id is rejected by the type deserializer
+      return;
+    }
+
+    final var type = types[depth] != null ? types[depth] : kinds[depth].resolve(null);
+
+    if (type != Kind.AGENT && type != Kind.ACTIVITY) {
+      throw nullLiteral(String.class);
+    }
+  }
+
+  private IOException nullLiteral(Class<?> type) {
+    return ctxt.instantiationException(type, "null literal is not allowed");
+  }
+
+  private static Kind property(Kind kind, String name) {
+
+    if (kind.typed && OBJECT_TYPE.equals(name)) {
+      return Kind.OBJECT_TYPE;
+    }
+
+    return switch (kind) {
+      case STATEMENT -> statement(name);
+      case STATEMENT_RESULT -> statementResult(name);
+      case ACTOR, AGENT, GROUP -> actor(kind, name);
+      case OBJECT, SUB_OBJECT -> object(kind, name);
+      case PERSON -> person(name);
+      case ACTIVITY -> activity(name);
+      case SUB_STATEMENT -> subStatement(name);
+      case STATEMENT_REF -> "id".equals(name) ? Kind.VALUE : Kind.ANY;
+      case ACCOUNT -> "homePage".equals(name) || "name".equals(name) ? Kind.VALUE : Kind.ANY;
+      case VERB -> verb(name);
+      case DEFINITION -> definition(name);
+      case INTERACTION_COMPONENT -> interactionComponent(name);
+      case RESULT -> result(name);
+      case SCORE -> score(name);
+      case CONTEXT -> context(name);
+      case CONTEXT_ACTIVITIES -> contextActivities(name);
+      case ATTACHMENT -> attachment(name);
+      case LANGUAGE_MAP -> Kind.VALUE;
+      case ABOUT -> "version".equals(name) ? Kind.STRINGS : Kind.ANY;
+      default -> Kind.ANY;
+    };
+  }
+
+  private static Kind statement(String name) {
+    return switch (name) {
+      case "id", "timestamp", "stored", "version" -> Kind.VALUE;
+      case "actor", "authority" -> Kind.ACTOR;
+      case "verb" -> Kind.VERB;
+      case "object" -> Kind.OBJECT;
+      case "result" -> Kind.RESULT;
+      case "context" -> Kind.CONTEXT;
+      case "attachments" -> Kind.ATTACHMENTS;
+      default -> Kind.ANY;
+    };
+  }
+
+  private static Kind statementResult(String name) {
+    return switch (name) {
+      case "statements" -> Kind.STATEMENTS;
+      case "more" -> Kind.VALUE;
+      default -> Kind.ANY;
+    };
+  }
+
+  private static Kind actor(Kind kind, String name) {
+    return switch (name) {
+      case "name", "mbox", "mbox_sha1sum", "openid" -> Kind.VALUE;
+      case "account" -> Kind.ACCOUNT;
+      case "member" -> kind == Kind.AGENT ? Kind.ANY : Kind.AGENTS;
+      default -> Kind.ANY;
+    };
+  }
+
+  // The properties of all the types which the object can have
+  private static Kind object(Kind kind, String name) {
+    return switch (name) {
+      case "id", "name", "mbox", "mbox_sha1sum", "openid" -> Kind.VALUE;
+      case "account" -> Kind.ACCOUNT;
+      case "member" -> Kind.AGENTS;
+      case "definition" -> Kind.DEFINITION;
+      default -> kind == Kind.OBJECT ? subStatement(name) : Kind.ANY;
+    };
+  }
+
+  private static Kind subStatement(String name) {
+    return switch (name) {
+      case "timestamp" -> Kind.VALUE;
+      case "actor" -> Kind.ACTOR;
+      case "verb" -> Kind.VERB;
+      case "object" -> Kind.SUB_OBJECT;
+      case "result" -> Kind.RESULT;
+      case "context" -> Kind.CONTEXT;
+      case "attachments" -> Kind.ATTACHMENTS;
+      default -> Kind.ANY;
+    };
+  }
+
+  private static Kind person(String name) {
+    return switch (name) {
+      case "objectType" -> Kind.VALUE;
+      case "name", "mbox", "mbox_sha1sum", "openid" -> Kind.STRINGS;
+      case "account" -> Kind.ACCOUNTS;
+      default -> Kind.ANY;
+    };
+  }
+
+  private static Kind activity(String name) {
+    return switch (name) {
+      case "id" -> Kind.VALUE;
+      case "definition" -> Kind.DEFINITION;
+      default -> Kind.ANY;
+    };
+  }
+
+  private static Kind verb(String name) {
+    return switch (name) {
+      case "id" -> Kind.VALUE;
+      case "display" -> Kind.LANGUAGE_MAP;
+      default -> Kind.ANY;
+    };
+  }
+
+  private static Kind definition(String name) {
+    return switch (name) {
+      case "type", "moreInfo" -> Kind.VALUE;
+      case "name", "description" -> Kind.LANGUAGE_MAP;
+      case "interactionType" -> Kind.ENUM;
+      case "correctResponsesPattern" -> Kind.STRINGS;
+      case "choices", "scale", "source", "target", "steps" -> Kind.INTERACTION_COMPONENTS;
+      default -> Kind.ANY;
+    };
+  }
+
+  private static Kind interactionComponent(String name) {
+    return switch (name) {
+      case "id" -> Kind.VALUE;
+      case "description" -> Kind.LANGUAGE_MAP;
+      default -> Kind.ANY;
+    };
+  }
+
+  private static Kind result(String name) {
+    return switch (name) {
+      case "success", "completion", "response", "duration" -> Kind.VALUE;
+      case "score" -> Kind.SCORE;
+      default -> Kind.ANY;
+    };
+  }
+
+  private static Kind score(String name) {
+    return switch (name) {
+      case "scaled", "raw", "min", "max" -> Kind.VALUE;
+      default -> Kind.ANY;
+    };
+  }
+
+  private static Kind context(String name) {
+    return switch (name) {
+      case "registration", "revision", "platform", "language" -> Kind.VALUE;
+      case "instructor" -> Kind.ACTOR;
+      case "team" -> Kind.GROUP;
+      case "contextActivities" -> Kind.CONTEXT_ACTIVITIES;
+      case "statement" -> Kind.STATEMENT_REF;
+      default -> Kind.ANY;
+    };
+  }
+
+  private static Kind contextActivities(String name) {
+    return switch (name) {
+      case "parent", "grouping", "category", "other" -> Kind.ACTIVITIES;
+      default -> Kind.ANY;
+    };
+  }
+
+  private static Kind attachment(String name) {
+    return switch (name) {
+      case "usageType", "contentType", "length", "sha2", "fileUrl" -> Kind.VALUE;
+      case "display", "description" -> Kind.LANGUAGE_MAP;
+      default -> Kind.ANY;
+    };
+  }
+
+  /** The kinds of the values of the xAPI objects. */
+  private enum Kind {
+
+    /** An extension, unknown or ignored value. Nothing is checked in it. */
+    ANY(true, false, Object.class),
+
+    /** A scalar value, e.g. a String, UUID, URI or Instant. */
+    VALUE(false, false, Object.class),
+
+    /** An enum value. */
+    ENUM(true, false, Enum.class),
+
+    /** The objectType of an object whose type is not known in advance. */
+    OBJECT_TYPE(true, false, String.class),
+
+    /** A language map, whose values must not be null. */
+    LANGUAGE_MAP(true, false, Object.class),
+
+    STRINGS(true, false, String.class),
+    STATEMENTS(true, false, Statement.class),
+    AGENTS(true, false, Agent.class),
+    ACCOUNTS(true, false, Account.class),
+    ACTIVITIES(true, false, Activity.class),
+    INTERACTION_COMPONENTS(true, false, InteractionComponent.class),
+    ATTACHMENTS(true, false, Attachment.class),
+
+    STATEMENT(false, false, Statement.class),
+    STATEMENT_RESULT(false, false, StatementResult.class),
+    ACTOR(false, true, Actor.class),
+    AGENT(false, true, Agent.class),
+    GROUP(false, true, Group.class),
+    PERSON(false, false, Person.class),
+    ACCOUNT(false, false, Account.class),
+    VERB(false, false, Verb.class),
+    OBJECT(false, true, StatementObject.class),
+    SUB_OBJECT(false, true, SubStatementObject.class),
+    ACTIVITY(false, true, Activity.class),
+    SUB_STATEMENT(false, true, SubStatement.class),
+    STATEMENT_REF(false, true, StatementReference.class),
+    DEFINITION(false, false, ActivityDefinition.class),
+    INTERACTION_COMPONENT(false, false, InteractionComponent.class),
+    RESULT(false, false, Result.class),
+    SCORE(false, false, Score.class),
+    CONTEXT(false, false, Context.class),
+    CONTEXT_ACTIVITIES(false, false, ContextActivities.class),
+    ATTACHMENT(false, false, Attachment.class),
+    ABOUT(false, false, About.class);
+
+    private final boolean nullable;
+
+    // Whether the objectType of the object is checked
+    private final boolean typed;
+
+    private final Class<?> type;
+
+    Kind(boolean nullable, boolean typed, Class<?> type) {
+      this.nullable = nullable;
+      this.typed = typed;
+      this.type = type;
+    }
+
+    // The kind of the elements of an array. Arrays of single values are unwrapped.
+    private Kind elements() {
+      return switch (this) {
+        case ANY, ENUM, OBJECT_TYPE, LANGUAGE_MAP -> ANY;
+        case STRINGS -> VALUE;
+        case STATEMENTS -> STATEMENT;
+        case AGENTS -> AGENT;
+        case ACCOUNTS -> ACCOUNT;
+        case ACTIVITIES -> ACTIVITY;
+        case INTERACTION_COMPONENTS -> INTERACTION_COMPONENT;
+        case ATTACHMENTS -> ATTACHMENT;
+        default -> this;
+      };
+    }
+
+    // The kind of an object. A single object is accepted as a list.
+    private Kind object() {
+      return switch (this) {
+        case ANY, VALUE, ENUM, OBJECT_TYPE, STRINGS -> ANY;
+        case STATEMENTS, AGENTS, ACCOUNTS, ACTIVITIES, INTERACTION_COMPONENTS, ATTACHMENTS ->
+            elements();
+        default -> this;
+      };
+    }
+
+    // The type of a typed object with the given type id, or its default type
+    private Kind resolve(String typeId) {
+
+      if (this == ACTOR) {
+        return "Group".equals(typeId) ? GROUP : AGENT;
+      }
+
+      if (this == OBJECT || this == SUB_OBJECT) {
+        if ("Agent".equals(typeId)) {
+          return AGENT;
+        }
+        if ("Group".equals(typeId)) {
+          return GROUP;
+        }
+        if ("StatementRef".equals(typeId)) {
+          return STATEMENT_REF;
+        }
+        if (this == OBJECT && "SubStatement".equals(typeId)) {
+          return SUB_STATEMENT;
+        }
+        return ACTIVITY;
+      }
+
+      return this;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import dev.learning.xapi.jackson.model.strict.XapiTimestamp;
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Strict Timestamp serializer.
+ *
+ * <p>Writes {@link Instant}s as ISO 8601 strings in the same format as {@link Instant#toString()},
+ * without creating intermediate strings.
+ *
+ * <p>This serializer is not registered by any of the xAPI modules. It always writes strings, so it
+ * ignores {@code SerializationFeature.WRITE_DATES_AS_TIMESTAMPS} and {@code @JsonFormat}
+ * annotations. Register it explicitly where that is acceptable, e.g. {@code new
+ * SimpleModule().addSerializer(Instant.class, new StrictTimestampSerializer())}.
+ *
+ * @author Thomas Turrell-Croft
+ */
+public class StrictTimestampSerializer extends StdSerializer<Instant> {
+
+  private static final long serialVersionUID = 4512388276113207547L;
+
+  /** Default constructor. */
+  public StrictTimestampSerializer() {
+    super(Instant.class);
+  }
+
+  @Override
+  public void serialize(Instant value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+
+    final var chars = new char[30];
+    final var length = XapiTimestamp.format(value, chars);
+
+    if (length < 0) {
+      gen.writeString(value.toString());
+    } else {
+      gen.writeString(chars, 0, length);
+    }
+  }
+}
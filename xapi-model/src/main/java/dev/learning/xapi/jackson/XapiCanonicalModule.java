@@ -0,0 +1,294 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import dev.learning.xapi.model.Activity;
+import dev.learning.xapi.model.LanguageMap;
+import dev.learning.xapi.model.Verb;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+/**
+ * Provides xAPI JSON module which replaces equal {@link Verb}, {@link Activity}, {@link URI} and
+ * {@link Locale} objects by shared canonical instances during deserialization.
+ *
+ * <p>Statements reuse a small number of Verbs, Activity ids and languages, so a large number of
+ * Statements which are kept in memory hold many copies of the same objects. This module keeps the
+ * first instance of each value in a {@link CanonicalCache} and returns it instead of the copies
+ * which are read afterwards. URIs and Locales are looked up by their JSON string before they are
+ * parsed, Verbs and Activities without a definition after they are read. Activities with a
+ * definition are never shared. The keys of maps have their own caches, because Jackson may read a
+ * key differently from a value, e.g. the {@code und} Locale.
+ *
+ * <p>The canonical instances are shared by all the objects which are read by the ObjectMapper. They
+ * cannot be modified, because the {@link LanguageMap} objects which are read are unmodifiable, too.
+ *
+ * @author Thomas Turrell-Croft
+ */
+public class XapiCanonicalModule extends SimpleModule {
+
+  private static final long serialVersionUID = 5385167466826430187L;
+
+  /** The default maximum number of canonical instances of each cache. */
+  public static final int DEFAULT_CACHE_SIZE = 8192;
+
+  // The caches are not Serializable, but this class is never serialized.
+  private final CanonicalCache<String, URI> uriCache; // NOSONAR
+
+  private final CanonicalCache<String, Locale> localeCache; // NOSONAR
+
+  private final CanonicalCache<String, URI> uriKeyCache; // NOSONAR
+
+  private final CanonicalCache<String, Locale> localeKeyCache; // NOSONAR
+
+  private final CanonicalCache<VerbKey, Verb> verbCache; // NOSONAR
+
+  private final CanonicalCache<Activity, Activity> activityCache; // NOSONAR
+
+  /** XapiCanonicalModule constructor with caches of {@value #DEFAULT_CACHE_SIZE} instances. */
+  public XapiCanonicalModule() {
+    this(DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * XapiCanonicalModule constructor.
+   *
+   * @param cacheSize the maximum number of canonical instances of each cache
+   * @throws IllegalArgumentException if the cache size is not positive
+   */
+  public XapiCanonicalModule(int cacheSize) {
+    super("xAPI Canonical Module");
+
+    uriCache = new CanonicalCache<>(cacheSize);
+    localeCache = new CanonicalCache<>(cacheSize);
+    uriKeyCache = new CanonicalCache<>(cacheSize);
+    localeKeyCache = new CanonicalCache<>(cacheSize);
+    verbCache = new CanonicalCache<>(cacheSize);
+    activityCache = new CanonicalCache<>(cacheSize);
+
+    setDeserializerModifier(new CanonicalDeserializationModifier());
+  }
+
+  /**
+   * Gets the cache of the URIs, which are looked up by their JSON string.
+   *
+   * @return the URI cache
+   */
+  public CanonicalCache<String, URI> getUriCache() {
+    return uriCache;
+  }
+
+  /**
+   * Gets the cache of the Locales, which are looked up by their JSON string.
+   *
+   * @return the Locale cache
+   */
+  public CanonicalCache<String, Locale> getLocaleCache() {
+    return localeCache;
+  }
+
+  /**
+   * Gets the cache of the URI keys of maps, e.g. of extensions.
+   *
+   * @return the URI key cache
+   */
+  public CanonicalCache<String, URI> getUriKeyCache() {
+    return uriKeyCache;
+  }
+
+  /**
+   * Gets the cache of the Locale keys of maps, e.g. of language maps.
+   *
+   * @return the Locale key cache
+   */
+  public CanonicalCache<String, Locale> getLocaleKeyCache() {
+    return localeKeyCache;
+  }
+
+  /**
+   * Gets the cache of the Verbs, which are looked up by their id and display.
+   *
+   * @return the Verb cache
+   */
+  public CanonicalCache<?, Verb> getVerbCache() {
+    return verbCache;
+  }
+
+  /**
+   * Gets the cache of the Activities without a definition.
+   *
+   * @return the Activity cache
+   */
+  public CanonicalCache<Activity, Activity> getActivityCache() {
+    return activityCache;
+  }
+
+  private Object canonicalVerb(Object value) {
+    final var verb = (Verb) value;
+
+    return verbCache.intern(new VerbKey(verb.getId(), verb.getDisplay()), verb);
+  }
+
+  private Object canonicalActivity(Object value) {
+    final var activity = (Activity) value;
+
+    return activity.getDefinition() == null ? activityCache.intern(activity, activity) : activity;
+  }
+
+  // The Verb equals method compares the id only
+  private record VerbKey(URI id, LanguageMap display) {}
+
+  private class CanonicalDeserializationModifier extends BeanDeserializerModifier {
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonDeserializer<?> modifyDeserializer(
+        DeserializationConfig config, BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+
+      final var beanClass = beanDesc.getBeanClass();
+
+      if (beanClass == URI.class) {
+        return new CanonicalStringDeserializer<>(deserializer, uriCache);
+      }
+      if (beanClass == Locale.class) {
+        return new CanonicalStringDeserializer<>(deserializer, localeCache);
+      }
+      if (beanClass == Verb.class) {
+        return new CanonicalDeserializer(deserializer, XapiCanonicalModule.this::canonicalVerb);
+      }
+      if (beanClass == Activity.class) {
+        return new CanonicalDeserializer(
+            deserializer, XapiCanonicalModule.this::canonicalActivity);
+      }
+      return deserializer;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public KeyDeserializer modifyKeyDeserializer(
+        DeserializationConfig config, JavaType type, KeyDeserializer deserializer) {
+
+      if (type.hasRawClass(URI.class)) {
+        return new CanonicalKeyDeserializer<>(deserializer, uriKeyCache);
+      }
+      if (type.hasRawClass(Locale.class)) {
+        return new CanonicalKeyDeserializer<>(deserializer, localeKeyCache);
+      }
+      return deserializer;
+    }
+  }
+
+  private static class CanonicalStringDeserializer<T> extends DelegatingDeserializer {
+
+    private static final long serialVersionUID = 2937614588061839573L;
+
+    // This field is not Serializable, but this class is never serialized.
+    private final CanonicalCache<String, T> cache; // NOSONAR
+
+    private CanonicalStringDeserializer(
+        JsonDeserializer<?> defaultDeserializer, CanonicalCache<String, T> cache) {
+      super(defaultDeserializer);
+      this.cache = cache;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+      return new CanonicalStringDeserializer<>(newDelegatee, cache);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+
+      if (!p.hasToken(JsonToken.VALUE_STRING)) {
+        return _delegatee.deserialize(p, ctxt);
+      }
+
+      final var text = p.getText();
+      final var cached = cache.get(text);
+
+      if (cached != null) {
+        return cached;
+      }
+
+      final var value = (T) _delegatee.deserialize(p, ctxt);
+
+      return value == null ? null : cache.put(text, value);
+    }
+  }
+
+  private static class CanonicalDeserializer extends DelegatingDeserializer {
+
+    private static final long serialVersionUID = -6212850936283151337L;
+
+    // This field is not Serializable, but this class is never serialized.
+    private final UnaryOperator<Object> canonical; // NOSONAR
+
+    private CanonicalDeserializer(
+        JsonDeserializer<?> defaultDeserializer, UnaryOperator<Object> canonical) {
+      super(defaultDeserializer);
+      this.canonical = canonical;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+      return new CanonicalDeserializer(newDelegatee, canonical);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+
+      final var value = _delegatee.deserialize(p, ctxt);
+
+      return value == null ? null : canonical.apply(value);
+    }
+  }
+
+  private static class CanonicalKeyDeserializer<T> extends KeyDeserializer {
+
+    private final KeyDeserializer defaultDeserializer;
+
+    private final CanonicalCache<String, T> cache;
+
+    private CanonicalKeyDeserializer(
+        KeyDeserializer defaultDeserializer, CanonicalCache<String, T> cache) {
+      this.defaultDeserializer = defaultDeserializer;
+      this.cache = cache;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object deserializeKey(String key, DeserializationContext ctxt) throws IOException {
+
+      final var cached = cache.get(key);
+
+      if (cached != null) {
+        return cached;
+      }
+
+      final var value = (T) defaultDeserializer.deserializeKey(key, ctxt);
+
+      return value == null ? null : cache.put(key, value);
+    }
+  }
+}
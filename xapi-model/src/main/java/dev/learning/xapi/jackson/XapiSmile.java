@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Support of the binary Jackson Smile format for xAPI objects, e.g. Statements, StatementResults
+ * and documents.
+ *
+ * <p>Smile is <strong>not</strong> part of the xAPI specification. It should be used only between
+ * services which both opt in, e.g. for internal requests or for storing Statements. It requires
+ * the optional {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile} dependency.
+ *
+ * @author Thomas Turrell-Croft
+ */
+public final class XapiSmile {
+
+  /** The non-standard media type of Smile content. */
+  public static final String MEDIA_TYPE = "application/x-jackson-smile";
+
+  private XapiSmile() {}
+
+  /**
+   * Creates an ObjectMapper which reads and writes Smile with the same configuration and modules
+   * as the given JSON ObjectMapper, so the strict modules apply to Smile content, too.
+   *
+   * <p>Repeated string values, e.g. the ids of Verbs and Activities in a page of Statements, are
+   * written only once.
+   *
+   * @param objectMapper the JSON ObjectMapper
+   * @return the Smile ObjectMapper
+   */
+  public static ObjectMapper objectMapper(ObjectMapper objectMapper) {
+    return objectMapper.copyWith(
+        SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build());
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import dev.learning.xapi.jackson.StrictLocaleDeserializer.StrictLocaleKeyDeserializer;
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Provides xAPI JSON module for strict deserialization of Statements in a single pass.
+ *
+ * <p>Statements and other xAPI objects are rejected in the same cases as with the {@link XapiStrictNullValuesModule},
+ * {@link XapiStrictObjectTypeModule}, {@link XapiStrictLocaleModule} and {@link
+ * XapiStrictTimestampModule}, which must not be registered together with this module. The null
+ * literals and objectType properties are checked by the {@link StrictStatementDeserializer} while
+ * the tokens are read, instead of wrapping the deserializer of every type. They apply to every xAPI
+ * object which is read on its own, e.g. to an Agent or a Person, too. The objects nested in it are
+ * checked by the same parser. Null literals are also rejected in the properties of an Agent, Group,
+ * Activity, SubStatement or StatementRef which its objectType does not have, which are unknown
+ * properties.
+ *
+ * @author Thomas Turrell-Croft
+ */
+public class XapiStrictStatementModule extends SimpleModule {
+
+  private static final long serialVersionUID = -2749164803316236307L;
+
+  /**
+   * XapiStrictStatementModule constructor. Adds the {@link StrictStatementDeserializer} and the
+   * strict Locale and timestamp deserializers to the ObjectMapper.
+   */
+  public XapiStrictStatementModule() {
+    super("xAPI Strict Statement Module");
+
+    setDeserializerModifier(new StrictStatementDeserializationModifier());
+
+    addDeserializer(Locale.class, new StrictLocaleDeserializer());
+    addKeyDeserializer(Locale.class, new StrictLocaleKeyDeserializer());
+
+    addDeserializer(Instant.class, new StrictTimestampDeserializer());
+  }
+
+  private static class StrictStatementDeserializationModifier extends BeanDeserializerModifier {
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonDeserializer<?> modifyDeserializer(
+        DeserializationConfig config, BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+
+      if (StrictStatementDeserializer.supports(beanDesc.getBeanClass())) {
+        return new StrictStatementDeserializer(deserializer, beanDesc.getBeanClass());
+      }
+      return deserializer;
+    }
+  }
+}
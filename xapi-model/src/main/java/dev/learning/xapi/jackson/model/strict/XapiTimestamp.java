@@ -14,10 +14,30 @@ import java.time.format.DateTimeFormatterBuilder;
 /**
  * Utility class for parsing ISO 8601 timestamps according to the strict xAPI rules.
  *
+ * <p>The common {@code yyyy-MM-ddTHH:mm:ss[.fffffffff](Z|±HH:MM)} shapes and timestamps without
+ * offset are parsed by a hand-written scanner without intermediate objects. Any other text is
+ * parsed by a {@link DateTimeFormatter}, so the accepted timestamps are the same either way.
+ *
  * @author István Rátkai (Selindek)
  */
 public class XapiTimestamp {
 
+  // Permit +00:00, +0000 and +00
+  private static final DateTimeFormatter FORMATTER =
+      new DateTimeFormatterBuilder()
+          .append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+          .appendPattern("[XXXXX][XXXX][X]")
+          .toFormatter();
+
+  private static final long SECONDS_PER_DAY = 86400;
+
+  // Days from 0000-01-01 to 1970-01-01
+  private static final long DAYS_0000_TO_1970 = 719528;
+
+  private static final int[] NANOS_SCALE = {
+    100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+  };
+
   private XapiTimestamp() {
     // Should not be instantiated
   }
@@ -37,22 +57,249 @@ public class XapiTimestamp {
       throw new XapiTimestampParseException("Negative timezone offset can not be zero");
     }
 
-    // Permit +00:00, +0000 and +00
-    final var formatter =
-        new DateTimeFormatterBuilder()
-            .append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
-            .appendPattern("[XXXXX][XXXX][X]")
-            .toFormatter();
+    final var instant = parseFast(text);
+    if (instant != null) {
+      return instant;
+    }
 
-    final var dt = formatter.parseBest(text, Instant::from, LocalDateTime::from);
+    final var dt = FORMATTER.parseBest(text, Instant::from, LocalDateTime::from);
 
-    if (dt instanceof final Instant instant) {
-      return instant;
+    if (dt instanceof final Instant parsed) {
+      return parsed;
     } else {
       return Instant.from(ZonedDateTime.of((LocalDateTime) dt, ZoneOffset.UTC));
     }
   }
 
+  /**
+   * Formats an {@link Instant} exactly like {@link Instant#toString()}, e.g. {@code
+   * 2015-11-18T12:17:00.123Z}.
+   *
+   * @param instant the instant to format
+   * @return the ISO 8601 timestamp string
+   */
+  public static String format(Instant instant) {
+
+    final var chars = new char[30];
+    final var length = format(instant, chars);
+
+    return length < 0 ? instant.toString() : new String(chars, 0, length);
+  }
+
+  /**
+   * Formats an {@link Instant} exactly like {@link Instant#toString()} into a buffer.
+   *
+   * @param instant the instant to format
+   * @param chars the buffer of at least 30 characters
+   * @return the number of characters written, or -1 if the year is not between 0 and 9999
+   */
+  public static int format(Instant instant, char[] chars) {
+
+    final var seconds = instant.getEpochSecond();
+    final var epochDay = Math.floorDiv(seconds, SECONDS_PER_DAY);
+    final var secondOfDay = (int) Math.floorMod(seconds, SECONDS_PER_DAY);
+
+    // Converts the epoch day to year, month and day (see LocalDate.ofEpochDay)
+    var zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+    var adjust = 0L;
+    if (zeroDay < 0) {
+      final var adjustCycles = (zeroDay + 1) / 146097 - 1;
+      adjust = adjustCycles * 400;
+      zeroDay += -adjustCycles * 146097;
+    }
+    var yearEst = (400 * zeroDay + 591) / 146097;
+    var doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+    if (doyEst < 0) {
+      yearEst--;
+      doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+    }
+    yearEst += adjust;
+    final var marchDoy0 = (int) doyEst;
+    final var marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+    final var month = (marchMonth0 + 2) % 12 + 1;
+    final var day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+    final var year = yearEst + marchMonth0 / 10;
+
+    if (year < 0 || year > 9999) {
+      return -1;
+    }
+
+    writeDigits(chars, 0, (int) year, 4);
+    chars[4] = '-';
+    writeDigits(chars, 5, month, 2);
+    chars[7] = '-';
+    writeDigits(chars, 8, day, 2);
+    chars[10] = 'T';
+    writeDigits(chars, 11, secondOfDay / 3600, 2);
+    chars[13] = ':';
+    writeDigits(chars, 14, secondOfDay / 60 % 60, 2);
+    chars[16] = ':';
+    writeDigits(chars, 17, secondOfDay % 60, 2);
+
+    var position = 19;
+    final var nanos = instant.getNano();
+    if (nanos > 0) {
+      // Like Instant.toString, the fraction is written in groups of three digits
+      chars[position++] = '.';
+      if (nanos % 1_000_000 == 0) {
+        writeDigits(chars, position, nanos / 1_000_000, 3);
+        position += 3;
+      } else if (nanos % 1_000 == 0) {
+        writeDigits(chars, position, nanos / 1_000, 6);
+        position += 6;
+      } else {
+        writeDigits(chars, position, nanos, 9);
+        position += 9;
+      }
+    }
+    chars[position++] = 'Z';
+
+    return position;
+  }
+
+  /*
+   * Parses the common shapes: yyyy-MM-ddTHH:mm:ss, an optional fraction of 1 to 9 digits and an
+   * optional Z or ±HH:MM offset. Returns null for any other text or for field values which need
+   * the resolving rules of the formatter.
+   */
+  private static Instant parseFast(String text) {
+
+    final var length = text.length();
+    if (length < 19
+        || text.charAt(4) != '-'
+        || text.charAt(7) != '-'
+        || text.charAt(10) != 'T'
+        || text.charAt(13) != ':'
+        || text.charAt(16) != ':') {
+      return null;
+    }
+
+    final var year = digits(text, 0, 4);
+    final var month = digits(text, 5, 2);
+    final var day = digits(text, 8, 2);
+    final var hour = digits(text, 11, 2);
+    final var minute = digits(text, 14, 2);
+    final var second = digits(text, 17, 2);
+
+    if (year < 0
+        || month < 1
+        || month > 12
+        || day < 1
+        || day > lengthOfMonth(year, month)
+        || hour < 0
+        || hour > 23
+        || minute < 0
+        || minute > 59
+        || second < 0
+        || second > 59) {
+      return null;
+    }
+
+    var position = 19;
+    var nanos = 0;
+
+    if (position < length && text.charAt(position) == '.') {
+      position++;
+      final var start = position;
+      while (position < length && position - start < 9) {
+        final var c = text.charAt(position);
+        if (c < '0' || c > '9') {
+          break;
+        }
+        nanos = nanos * 10 + (c - '0');
+        position++;
+      }
+      final var count = position - start;
+      if (count == 0) {
+        return null;
+      }
+      nanos *= NANOS_SCALE[count - 1];
+    }
+
+    var offsetSeconds = 0;
+
+    if (position < length) {
+      final var c = text.charAt(position);
+      if (c == '+' || c == '-') {
+        if (position + 6 != length || text.charAt(position + 3) != ':') {
+          return null;
+        }
+        final var offsetHours = digits(text, position + 1, 2);
+        final var offsetMinutes = digits(text, position + 4, 2);
+        if (offsetHours < 0 || offsetHours > 18 || offsetMinutes < 0 || offsetMinutes > 59) {
+          return null;
+        }
+        offsetSeconds = offsetHours * 3600 + offsetMinutes * 60;
+        if (offsetSeconds > 18 * 3600) {
+          return null;
+        }
+        if (c == '-') {
+          offsetSeconds = -offsetSeconds;
+        }
+      } else if (c != 'Z' || position + 1 != length) {
+        return null;
+      }
+    }
+
+    final var epochSecond =
+        toEpochDay(year, month, day) * SECONDS_PER_DAY
+            + hour * 3600L
+            + minute * 60L
+            + second
+            - offsetSeconds;
+
+    return Instant.ofEpochSecond(epochSecond, nanos);
+  }
+
+  // Returns the value of the ASCII digits or -1 if any character is not a digit
+  private static int digits(String text, int start, int count) {
+
+    var value = 0;
+    for (var i = start; i < start + count; i++) {
+      final var c = text.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static void writeDigits(char[] chars, int start, int value, int count) {
+
+    for (var i = start + count - 1; i >= start; i--) {
+      chars[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+
+  private static boolean isLeapYear(int year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    return switch (month) {
+      case 2 -> isLeapYear(year) ? 29 : 28;
+      case 4, 6, 9, 11 -> 30;
+      default -> 31;
+    };
+  }
+
+  // Non-negative years only (see LocalDate.toEpochDay)
+  private static long toEpochDay(int year, int month, int day) {
+
+    long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+    total += (367 * month - 362) / 12;
+    total += day - 1;
+    if (month > 2) {
+      total--;
+      if (!isLeapYear(year)) {
+        total--;
+      }
+    }
+    return total - DAYS_0000_TO_1970;
+  }
+
   /**
    * Exception used to indicate a problem while parsing a timestamp in strict xAPI mode.
    *
@@ -99,10 +99,7 @@ public class ActivityDefinition {
      */
     public Builder addName(Locale key, String value) {
 
-      if (this.name == null) {
-        this.name = new LanguageMap();
-      }
-
+      this.name = LanguageMap.modifiable(this.name);
       this.name.put(key, value);
       return this;
     }
@@ -116,10 +113,7 @@ public class ActivityDefinition {
      * @see ActivityDefinition#description
      */
     public Builder addDescription(Locale key, String value) {
-      if (this.description == null) {
-        this.description = new LanguageMap();
-      }
-
+      this.description = LanguageMap.modifiable(this.description);
       this.description.put(key, value);
       return this;
     }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.databind.annotation.JsonTypeResolver;
+import dev.learning.xapi.jackson.ObjectTypeResolverBuilder;
 import dev.learning.xapi.model.validation.constraints.HasScheme;
 import dev.learning.xapi.model.validation.constraints.Mbox;
 import jakarta.validation.Valid;
@@ -39,6 +41,7 @@ import lombok.experimental.SuperBuilder;
     defaultImpl = Agent.class,
     visible = true,
     include = As.EXISTING_PROPERTY)
+@JsonTypeResolver(ObjectTypeResolverBuilder.class)
 @JsonSubTypes({
   @JsonSubTypes.Type(value = Agent.class, name = "Agent"),
   @JsonSubTypes.Type(value = Agent.class, name = "Person"),
@@ -80,10 +80,7 @@ public class Attachment {
      */
     public Builder addDisplay(Locale key, String value) {
 
-      if (this.display == null) {
-        this.display = new LanguageMap();
-      }
-
+      this.display = LanguageMap.modifiable(this.display);
       this.display.put(key, value);
       return this;
     }
@@ -97,10 +94,7 @@ public class Attachment {
      * @see Attachment#description
      */
     public Builder addDescription(Locale key, String value) {
-      if (this.description == null) {
-        this.description = new LanguageMap();
-      }
-
+      this.description = LanguageMap.modifiable(this.description);
       this.description.put(key, value);
       return this;
     }
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.model;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SequencedCollection;
+import java.util.SequencedSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Unmodifiable {@link LanguageMap} which stores its entries in two arrays instead of a linked hash
+ * table.
+ *
+ * <p>Language maps usually have one or two entries, which are found faster by a linear search than
+ * by hashing. The inherited hash table is never allocated. All the methods which would modify this
+ * map throw an {@link UnsupportedOperationException}.
+ *
+ * @author Thomas Turrell-Croft
+ * @see LanguageMap#copyOf(Map)
+ */
+final class CompactLanguageMap extends LanguageMap {
+
+  private static final long serialVersionUID = -2286531096497935176L;
+
+  private final Locale[] keys;
+
+  private final String[] values;
+
+  CompactLanguageMap(Map<Locale, String> languageMap) {
+    super();
+
+    final var size = languageMap.size();
+    keys = new Locale[size];
+    values = new String[size];
+
+    var i = 0;
+    for (final var entry : languageMap.entrySet()) {
+      keys[i] = Objects.requireNonNull(entry.getKey());
+      values[i] = entry.getValue();
+      i++;
+    }
+  }
+
+  private CompactLanguageMap(Locale[] keys, String[] values) {
+    super();
+    this.keys = keys;
+    this.values = values;
+  }
+
+  private int indexOf(Object key) {
+    for (var i = 0; i < keys.length; i++) {
+      if (keys[i].equals(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  List<Locale> keyList() {
+    return Arrays.asList(keys);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEmpty() {
+    return keys.length == 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String get(Object key) {
+    final var index = indexOf(key);
+    return index < 0 ? null : values[index];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getOrDefault(Object key, String defaultValue) {
+    final var index = indexOf(key);
+    return index < 0 ? defaultValue : values[index];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean containsValue(Object value) {
+    for (final var v : values) {
+      if (Objects.equals(v, value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void forEach(BiConsumer<? super Locale, ? super String> action) {
+    for (var i = 0; i < keys.length; i++) {
+      action.accept(keys[i], values[i]);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<Locale> keySet() {
+    return new View<>(i -> keys[i]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Collection<String> values() {
+    return Collections.unmodifiableList(Arrays.asList(values));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<Map.Entry<Locale, String>> entrySet() {
+    return new View<>(i -> new SimpleImmutableEntry<>(keys[i], values[i]));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public SequencedSet<Locale> sequencedKeySet() {
+    return Collections.unmodifiableSequencedSet(new LinkedHashSet<>(keySet()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public SequencedCollection<String> sequencedValues() {
+    return Collections.unmodifiableList(Arrays.asList(values));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public SequencedSet<Map.Entry<Locale, String>> sequencedEntrySet() {
+    return Collections.unmodifiableSequencedSet(new LinkedHashSet<>(entrySet()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public LanguageMap reversed() {
+    final var reversedKeys = keys.clone();
+    final var reversedValues = values.clone();
+    Collections.reverse(Arrays.asList(reversedKeys));
+    Collections.reverse(Arrays.asList(reversedValues));
+    return new CompactLanguageMap(reversedKeys, reversedValues);
+  }
+
+  /** Returns this map, which cannot be modified. */
+  @Override
+  public Object clone() { // NOSONAR
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void put(String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String put(Locale key, String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void putAll(Map<? extends Locale, ? extends String> m) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String putIfAbsent(Locale key, String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String putFirst(Locale key, String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String putLast(Locale key, String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String remove(Object key) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean remove(Object key, Object value) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String replace(Locale key, String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean replace(Locale key, String oldValue, String newValue) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void replaceAll(BiFunction<? super Locale, ? super String, ? extends String> function) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String computeIfAbsent(
+      Locale key, Function<? super Locale, ? extends String> mappingFunction) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String computeIfPresent(
+      Locale key, BiFunction<? super Locale, ? super String, ? extends String> remappingFunction) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String compute(
+      Locale key, BiFunction<? super Locale, ? super String, ? extends String> remappingFunction) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String merge(
+      Locale key,
+      String value,
+      BiFunction<? super String, ? super String, ? extends String> remappingFunction) {
+    throw new UnsupportedOperationException();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  // Unmodifiable set of the keys or of the entries in insertion order
+  private class View<E> extends AbstractSet<E> {
+
+    private final IntFunction<E> element;
+
+    private View(IntFunction<E> element) {
+      this.element = element;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<E> iterator() {
+      return new Iterator<>() {
+
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+          return index < keys.length;
+        }
+
+        @Override
+        public E next() {
+          if (index >= keys.length) {
+            throw new NoSuchElementException();
+          }
+          return element.apply(index++);
+        }
+      };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+      return keys.length;
+    }
+  }
+}
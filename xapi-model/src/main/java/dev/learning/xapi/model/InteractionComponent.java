@@ -48,10 +48,7 @@ public class InteractionComponent {
      * @see InteractionComponent#description
      */
     public Builder addDescription(Locale key, String value) {
-      if (this.description == null) {
-        this.description = new LanguageMap();
-      }
-
+      this.description = LanguageMap.modifiable(this.description);
       this.description.put(key, value);
       return this;
     }
@@ -4,23 +4,32 @@
 
 package dev.learning.xapi.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import dev.learning.xapi.jackson.CanonicalCache;
+import dev.learning.xapi.jackson.LanguageMapDeserializer;
 import dev.learning.xapi.jackson.LocaleSerializer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Locale.LanguageRange;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * A language map is a dictionary where the key is a RFC 5646 Language Tag, and the value is a
  * string in the language specified in the tag.
  *
+ * <p>The language maps which are deserialized from JSON are unmodifiable. They store their entries
+ * in arrays, which take much less memory than the hash table of a {@link LinkedHashMap}.
+ *
  * @author Thomas Turrell-Croft
  * @see <a href="https://github.com/adlnet/xAPI-Spec/blob/master/xAPI-Data.md#lang-maps">Language
  *     Maps</a>
  */
 @JsonSerialize(keyUsing = LocaleSerializer.LocaleKeySerializer.class)
+@JsonDeserialize(using = LanguageMapDeserializer.class)
 public class LanguageMap extends LinkedHashMap<Locale, String> {
 
   private static final long serialVersionUID = 7375610804995032187L;
@@ -28,6 +37,10 @@ public class LanguageMap extends LinkedHashMap<Locale, String> {
   /** Cached undefined locale instance to avoid repeated object creation. */
   private static final Locale UNDEFINED_LOCALE = Locale.forLanguageTag("und");
 
+  /** Cached results of the locale lookups, which are repeated with the same language ranges. */
+  private static final CanonicalCache<LookupKey, Optional<Locale>> LOOKUP_CACHE =
+      new CanonicalCache<>(1024);
+
   /** Constructs an empty LanguageMap. */
   public LanguageMap() {
     super();
@@ -42,6 +55,36 @@ public class LanguageMap extends LinkedHashMap<Locale, String> {
     super(languageMap);
   }
 
+  /**
+   * Returns an unmodifiable LanguageMap with the same mappings as the specified Map, in the same
+   * order. If the specified Map is an unmodifiable LanguageMap, it is returned.
+   *
+   * @param languageMap the map whose mappings are to be placed in the returned LanguageMap
+   * @return an unmodifiable LanguageMap
+   * @throws NullPointerException if the map is null or contains a null key
+   */
+  public static LanguageMap copyOf(Map<Locale, String> languageMap) {
+
+    if (languageMap instanceof final CompactLanguageMap compactLanguageMap) {
+      return compactLanguageMap;
+    }
+
+    return new CompactLanguageMap(languageMap);
+  }
+
+  /**
+   * Returns the given language map if it can be modified, otherwise a modifiable copy of it. Used
+   * by the builders, which add entries to the language maps.
+   */
+  static LanguageMap modifiable(LanguageMap languageMap) {
+
+    if (languageMap == null) {
+      return new LanguageMap();
+    }
+
+    return languageMap instanceof CompactLanguageMap ? new LanguageMap(languageMap) : languageMap;
+  }
+
   /**
    * Puts a value in the language map with the undefined locale as a key. If the language map
    * previously contained a mapping for the undefined locale, the old value is replaced.
@@ -73,7 +116,7 @@ public class LanguageMap extends LinkedHashMap<Locale, String> {
   public String get(List<LanguageRange> languageRanges) {
 
     // Return best match
-    final var best = Locale.lookup(languageRanges, keySet());
+    final var best = lookup(languageRanges);
     if (best != null) {
       return get(best);
     }
@@ -93,4 +136,26 @@ public class LanguageMap extends LinkedHashMap<Locale, String> {
     // Map must be empty
     return null;
   }
+
+  private Locale lookup(List<LanguageRange> languageRanges) {
+
+    final var locales = keyList();
+    var best = LOOKUP_CACHE.get(new LookupKey(languageRanges, locales));
+
+    if (best == null) {
+      best =
+          LOOKUP_CACHE.put(
+              new LookupKey(List.copyOf(languageRanges), List.copyOf(locales)),
+              Optional.ofNullable(Locale.lookup(languageRanges, locales)));
+    }
+
+    return best.orElse(null);
+  }
+
+  /** Returns the keys of this language map in their order. */
+  List<Locale> keyList() {
+    return new ArrayList<>(keySet());
+  }
+
+  private record LookupKey(List<LanguageRange> languageRanges, List<Locale> locales) {}
 }
@@ -9,6 +9,8 @@ import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.databind.annotation.JsonTypeResolver;
+import dev.learning.xapi.jackson.ObjectTypeResolverBuilder;
 
 /**
  * This interface represents the xAPI SubStatement object.
@@ -26,6 +28,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
     defaultImpl = Activity.class,
     visible = true,
     include = As.EXISTING_PROPERTY)
+@JsonTypeResolver(ObjectTypeResolverBuilder.class)
 @JsonSubTypes({
   @JsonSubTypes.Type(value = Activity.class, name = "Activity"),
   @JsonSubTypes.Type(value = Agent.class, name = "Agent"),
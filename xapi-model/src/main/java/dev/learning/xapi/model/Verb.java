@@ -424,10 +424,7 @@ public class Verb {
      * @see Verb#display
      */
     public Builder addDisplay(Locale key, String value) {
-      if (this.display == null) {
-        this.display = new LanguageMap();
-      }
-
+      this.display = LanguageMap.modifiable(this.display);
       this.display.put(key, value);
       return this;
     }
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.model;
+
+import java.time.Duration;
+import java.time.Period;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * A parsed ISO 8601:2004 duration, as used by {@link Result#getDuration()}.
+ *
+ * <p>Supports the formats P[n]W and P[n]Y[n]M[n]DT[n]H[n]M[n]S, case-insensitively, where only
+ * the seconds may have a fraction. Parse the duration of a Result once and keep the {@link
+ * XapiDuration} or its {@link #toDuration()} instead of parsing the text again.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class XapiDuration {
+
+  private static final int YEARS = 0;
+  private static final int MONTHS = 1;
+  private static final int WEEKS = 2;
+  private static final int DAYS = 3;
+  private static final int HOURS = 4;
+  private static final int MINUTES = 5;
+  private static final int SECONDS = 6;
+  private static final int NANOS = 7;
+
+  private static final int[] NANOS_SCALE = {
+    100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+  };
+
+  /** The number of years. */
+  private long years;
+
+  /** The number of months. */
+  private long months;
+
+  /** The number of weeks. */
+  private long weeks;
+
+  /** The number of days. */
+  private long days;
+
+  /** The number of hours. */
+  private long hours;
+
+  /** The number of minutes. */
+  private long minutes;
+
+  /** The number of whole seconds. */
+  private long seconds;
+
+  /** The fraction of the seconds in nanoseconds. Digits after the ninth are ignored. */
+  private int nanos;
+
+  /**
+   * Parses an xAPI duration.
+   *
+   * @param text the ISO 8601 duration, e.g. {@code PT1M23.5S}
+   * @return the parsed duration
+   * @throws DateTimeParseException if the text is not a valid duration or a component is too
+   *     large
+   */
+  public static XapiDuration parse(String text) {
+
+    final var components = new long[8];
+    final int error;
+
+    try {
+      error = scan(text, components);
+    } catch (final ArithmeticException e) {
+      throw new DateTimeParseException("Duration component is too large", text, 0, e);
+    }
+
+    if (error >= 0) {
+      throw new DateTimeParseException("Text cannot be parsed to an xAPI duration", text, error);
+    }
+
+    return new XapiDuration(
+        components[YEARS],
+        components[MONTHS],
+        components[WEEKS],
+        components[DAYS],
+        components[HOURS],
+        components[MINUTES],
+        components[SECONDS],
+        (int) components[NANOS]);
+  }
+
+  /**
+   * Checks whether a text is a valid xAPI duration, without allocating any objects.
+   *
+   * @param text the text to check
+   * @return true if the text is a valid ISO 8601 duration
+   */
+  public static boolean isValid(String text) {
+    return scan(text, null) < 0;
+  }
+
+  /**
+   * Converts this duration to a {@link Duration}. Weeks are 7 days and days are 24 hours.
+   *
+   * @return the exact duration
+   * @throws UnsupportedTemporalTypeException if the duration has years or months, which do not
+   *     have an exact length
+   * @throws ArithmeticException if the duration is too large
+   */
+  public Duration toDuration() {
+
+    if (years != 0 || months != 0) {
+      throw new UnsupportedTemporalTypeException(
+          "Years and months do not have an exact duration");
+    }
+
+    var total = Math.addExact(Math.multiplyExact(weeks, 7L), days);
+    total = Math.addExact(Math.multiplyExact(total, 24L), hours);
+    total = Math.addExact(Math.multiplyExact(total, 60L), minutes);
+    total = Math.addExact(Math.multiplyExact(total, 60L), seconds);
+
+    return Duration.ofSeconds(total, nanos);
+  }
+
+  /**
+   * Gets the date part of this duration as a {@link Period}. Weeks are converted to days.
+   *
+   * @return the years, months and days of this duration
+   * @throws ArithmeticException if a component does not fit in an int
+   */
+  public Period toPeriod() {
+    return Period.of(
+        Math.toIntExact(years),
+        Math.toIntExact(months),
+        Math.toIntExact(Math.addExact(Math.multiplyExact(weeks, 7L), days)));
+  }
+
+  /*
+   * Scans the text in a single pass. Returns -1 if the text is valid, otherwise the index of the
+   * first invalid character. The components are only computed if the array is not null.
+   */
+  private static int scan(String text, long[] components) {
+
+    final var length = text.length();
+
+    if (length < 2 || upperCase(text.charAt(0)) != 'P') {
+      return 0;
+    }
+
+    var time = false;
+    var last = -1;
+    var i = 1;
+
+    while (i < length) {
+
+      if (upperCase(text.charAt(i)) == 'T') {
+        if (time) {
+          return i;
+        }
+        time = true;
+        i++;
+        continue;
+      }
+
+      final var start = i;
+      var value = 0L;
+      while (i < length && isDigit(text.charAt(i))) {
+        if (components != null) {
+          value = Math.addExact(Math.multiplyExact(value, 10L), text.charAt(i) - '0');
+        }
+        i++;
+      }
+      if (i == start) {
+        return i;
+      }
+
+      var fraction = -1;
+      if (time && i < length && text.charAt(i) == '.') {
+        i++;
+        final var fractionStart = i;
+        fraction = 0;
+        while (i < length && isDigit(text.charAt(i))) {
+          if (i - fractionStart < 9) {
+            fraction = fraction * 10 + text.charAt(i) - '0';
+          }
+          i++;
+        }
+        final var digits = i - fractionStart;
+        if (digits == 0) {
+          return i;
+        }
+        fraction *= NANOS_SCALE[Math.min(digits, 9) - 1];
+      }
+
+      if (i == length) {
+        return i;
+      }
+
+      final var unit = unit(upperCase(text.charAt(i)), time);
+
+      if (unit <= last
+          || (unit == WEEKS && (start != 1 || i + 1 != length))
+          || (fraction >= 0 && unit != SECONDS)) {
+        return i;
+      }
+
+      if (components != null) {
+        components[unit] = value;
+        if (fraction >= 0) {
+          components[NANOS] = fraction;
+        }
+      }
+
+      last = unit;
+      i++;
+    }
+
+    // PT without any components
+    return time && last < 0 ? length : -1;
+  }
+
+  // Returns -1 for an unknown designator
+  private static int unit(char designator, boolean time) {
+
+    if (time) {
+      return switch (designator) {
+        case 'H' -> HOURS;
+        case 'M' -> MINUTES;
+        case 'S' -> SECONDS;
+        default -> -1;
+      };
+    }
+
+    return switch (designator) {
+      case 'Y' -> YEARS;
+      case 'M' -> MONTHS;
+      case 'W' -> WEEKS;
+      case 'D' -> DAYS;
+      default -> -1;
+    };
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  // Only ASCII letters are case-insensitive
+  private static char upperCase(char c) {
+    return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+  }
+}
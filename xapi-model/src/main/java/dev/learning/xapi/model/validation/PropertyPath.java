@@ -0,0 +1,191 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.model.validation;
+
+import jakarta.validation.ElementKind;
+import jakarta.validation.Path;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Immutable {@link Path} of a {@link StatementConstraintViolation}.
+ *
+ * <p>The paths are rendered like the paths of Hibernate Validator, e.g. {@code
+ * context.contextActivities.parent[0].id} or {@code result.extensions<K>[foo].<map key>}.
+ *
+ * @author Thomas Turrell-Croft
+ */
+final class PropertyPath implements Path {
+
+  /** The path of the validated Statement itself. */
+  static final PropertyPath ROOT = new PropertyPath(null, null, null, null, false);
+
+  private final PropertyPath parent;
+
+  private final PathNode node;
+
+  // The index or key of the container element which the next node is in
+  private final Integer index;
+
+  private final Object key;
+
+  private final boolean mapKey;
+
+  private PropertyPath(
+      PropertyPath parent, PathNode node, Integer index, Object key, boolean mapKey) {
+    this.parent = parent;
+    this.node = node;
+    this.index = index;
+    this.key = key;
+    this.mapKey = mapKey;
+  }
+
+  /**
+   * Appends a property node.
+   *
+   * @param name the name of the property
+   * @return the path of the property
+   */
+  PropertyPath property(String name) {
+    return append(name, ElementKind.PROPERTY);
+  }
+
+  /**
+   * Appends the node of a class-level constraint.
+   *
+   * @return the path of the bean
+   */
+  PropertyPath bean() {
+    return append(null, ElementKind.BEAN);
+  }
+
+  /**
+   * Appends the node of a constraint on the elements of a container, e.g. {@code <list element>}.
+   *
+   * @param name the name of the container element node
+   * @return the path of the container element
+   */
+  PropertyPath containerElement(String name) {
+    return append(name, ElementKind.CONTAINER_ELEMENT);
+  }
+
+  /**
+   * Selects an element of the list property of this path.
+   *
+   * @param i the index of the element
+   * @return the path whose next node is in the list
+   */
+  PropertyPath index(int i) {
+    return new PropertyPath(parent, node, i, null, false);
+  }
+
+  /**
+   * Selects a key of the map property of this path.
+   *
+   * @param k the key
+   * @return the path whose next node is in the map
+   */
+  PropertyPath key(Object k) {
+    return new PropertyPath(parent, node, null, k, true);
+  }
+
+  private PropertyPath append(String name, ElementKind kind) {
+
+    final var inIterable = index != null || mapKey;
+
+    return new PropertyPath(
+        this, new PathNode(name, kind, inIterable, index, key, mapKey), null, null, false);
+  }
+
+  private List<Path.Node> nodes() {
+
+    final var nodes = new ArrayDeque<Path.Node>();
+    for (var path = this; path.node != null; path = path.parent) {
+      nodes.addFirst(path.node);
+    }
+    return List.copyOf(nodes);
+  }
+
+  @Override
+  public Iterator<Path.Node> iterator() {
+    return nodes().iterator();
+  }
+
+  @Override
+  public String toString() {
+
+    final var builder = new StringBuilder();
+    for (final var n : nodes()) {
+      final var pathNode = (PathNode) n;
+      if (pathNode.isInIterable()) {
+        if (pathNode.mapKey) {
+          builder.append("<K>");
+        }
+        builder
+            .append('[')
+            .append(pathNode.getIndex() != null ? pathNode.getIndex() : pathNode.getKey())
+            .append(']');
+      }
+      if (pathNode.getName() != null) {
+        if (!builder.isEmpty()) {
+          builder.append('.');
+        }
+        builder.append(pathNode.getName());
+      }
+    }
+    return builder.toString();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof PropertyPath other && nodes().equals(other.nodes());
+  }
+
+  @Override
+  public int hashCode() {
+    return nodes().hashCode();
+  }
+
+  private record PathNode(
+      String name, ElementKind kind, boolean inIterable, Integer index, Object key, boolean mapKey)
+      implements Path.Node {
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public boolean isInIterable() {
+      return inIterable;
+    }
+
+    @Override
+    public Integer getIndex() {
+      return index;
+    }
+
+    @Override
+    public Object getKey() {
+      return key;
+    }
+
+    @Override
+    public ElementKind getKind() {
+      return kind;
+    }
+
+    @Override
+    public <T extends Path.Node> T as(Class<T> nodeType) {
+      return nodeType.cast(this);
+    }
+
+    @Override
+    public String toString() {
+      return name == null ? "" : name;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.model.validation;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import java.util.Objects;
+import lombok.Value;
+
+/**
+ * {@link ConstraintViolation} reported by the {@link StatementValidator}.
+ *
+ * <p>It has no {@link ConstraintDescriptor}, because the constraints are checked without the
+ * metadata of a Bean Validation provider.
+ *
+ * <p>Like the violations of Hibernate Validator, two violations are equal if they have the same
+ * message and path and the same instances of the root bean, the leaf bean and the invalid value.
+ * So adding a violation to a set does not hash a whole batch of Statements.
+ *
+ * @param <T> the type of the validated Statement or list of Statements
+ * @author Thomas Turrell-Croft
+ */
+@Value
+class StatementConstraintViolation<T> implements ConstraintViolation<T> {
+
+  String message;
+
+  String messageTemplate;
+
+  T rootBean;
+
+  Class<T> rootBeanClass;
+
+  Object leafBean;
+
+  PropertyPath propertyPath;
+
+  Object invalidValue;
+
+  @Override
+  public Object[] getExecutableParameters() {
+    return null; // NOSONAR
+  }
+
+  @Override
+  public Object getExecutableReturnValue() {
+    return null;
+  }
+
+  @Override
+  public ConstraintDescriptor<?> getConstraintDescriptor() {
+    return null;
+  }
+
+  @Override
+  public <U> U unwrap(Class<U> type) {
+
+    if (type.isInstance(this)) {
+      return type.cast(this);
+    }
+
+    throw new ValidationException("Type " + type + " is not supported");
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+
+    return obj instanceof final StatementConstraintViolation<?> other
+        && Objects.equals(message, other.message)
+        && Objects.equals(messageTemplate, other.messageTemplate)
+        && Objects.equals(propertyPath, other.propertyPath)
+        && rootBean == other.rootBean
+        && leafBean == other.leafBean
+        && invalidValue == other.invalidValue;
+  }
+
+  @Override
+  public int hashCode() {
+
+    var result = Objects.hash(message, messageTemplate, propertyPath);
+    result = 31 * result + System.identityHashCode(rootBean);
+    result = 31 * result + System.identityHashCode(leafBean);
+    return 31 * result + System.identityHashCode(invalidValue);
+  }
+
+  @Override
+  public String toString() {
+    return "ConstraintViolation{propertyPath=" + propertyPath + ", message=" + message + "}";
+  }
+}
@@ -0,0 +1,772 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.model.validation;
+
+import dev.learning.xapi.model.Account;
+import dev.learning.xapi.model.Activity;
+import dev.learning.xapi.model.ActivityDefinition;
+import dev.learning.xapi.model.Actor;
+import dev.learning.xapi.model.Attachment;
+import dev.learning.xapi.model.Context;
+import dev.learning.xapi.model.ContextActivities;
+import dev.learning.xapi.model.CoreStatement;
+import dev.learning.xapi.model.Group;
+import dev.learning.xapi.model.Result;
+import dev.learning.xapi.model.Statement;
+import dev.learning.xapi.model.StatementReference;
+import dev.learning.xapi.model.SubStatement;
+import dev.learning.xapi.model.Verb;
+import dev.learning.xapi.model.validation.constraints.HasScheme;
+import dev.learning.xapi.model.validation.constraints.Mbox;
+import dev.learning.xapi.model.validation.constraints.NotUndetermined;
+import dev.learning.xapi.model.validation.constraints.ScaledScore;
+import dev.learning.xapi.model.validation.constraints.Statements;
+import dev.learning.xapi.model.validation.constraints.VaildScore;
+import dev.learning.xapi.model.validation.constraints.ValidActivityDefinition;
+import dev.learning.xapi.model.validation.constraints.ValidActor;
+import dev.learning.xapi.model.validation.constraints.ValidAuthority;
+import dev.learning.xapi.model.validation.constraints.ValidDuration;
+import dev.learning.xapi.model.validation.constraints.ValidStatementPlatform;
+import dev.learning.xapi.model.validation.constraints.ValidStatementRevision;
+import dev.learning.xapi.model.validation.constraints.ValidStatementVerb;
+import dev.learning.xapi.model.validation.constraints.Variant;
+import dev.learning.xapi.model.validation.internal.validators.ActivityDefinitionValidator;
+import dev.learning.xapi.model.validation.internal.validators.ActorValidator;
+import dev.learning.xapi.model.validation.internal.validators.AuthorityValidator;
+import dev.learning.xapi.model.validation.internal.validators.DurationValidator;
+import dev.learning.xapi.model.validation.internal.validators.HasSchemeValidatorForUri;
+import dev.learning.xapi.model.validation.internal.validators.MboxValidator;
+import dev.learning.xapi.model.validation.internal.validators.NotUndeterminedValidator;
+import dev.learning.xapi.model.validation.internal.validators.ScaledScoreValidator;
+import dev.learning.xapi.model.validation.internal.validators.ScoreValidator;
+import dev.learning.xapi.model.validation.internal.validators.StatementPlatformValidator;
+import dev.learning.xapi.model.validation.internal.validators.StatementRevisionValidator;
+import dev.learning.xapi.model.validation.internal.validators.StatementVerbValidator;
+import dev.learning.xapi.model.validation.internal.validators.StatementsValidator;
+import dev.learning.xapi.model.validation.internal.validators.VariantValidatorForUuid;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Validates a {@link Statement} against the same xAPI rules as the Bean Validation constraints of
+ * the model, in a single hand-written traversal of the Statement.
+ *
+ * <p>The reported {@link ConstraintViolation}s have the same property paths and the same default
+ * messages as the violations reported by Hibernate Validator, but no constraint descriptors.
+ *
+ * <p>The rules are checked by the constraint validators of the model, which are obtained from a
+ * {@link ConstraintValidatorFactory}. So the {@link
+ * dev.learning.xapi.model.validation.disableable.ValidatorDisabler}s of the validators are
+ * honoured, e.g. when the validators are created by Spring and the {@code xapi.model.validate*}
+ * properties are set.
+ *
+ * @author Thomas Turrell-Croft
+ */
+public class StatementValidator {
+
+  /** The default minimum number of Statements of a list which are validated in parallel. */
+  public static final int DEFAULT_PARALLELISM_THRESHOLD = 256;
+
+  private static final String NOT_NULL_TEMPLATE =
+      "{jakarta.validation.constraints.NotNull.message}";
+  private static final String NOT_NULL = "must not be null";
+
+  private static final String NOT_BLANK_TEMPLATE =
+      "{jakarta.validation.constraints.NotBlank.message}";
+  private static final String NOT_BLANK = "must not be blank";
+
+  private static final String PATTERN_TEMPLATE = "{jakarta.validation.constraints.Pattern.message}";
+  private static final String VERSION = "must match \"^1\\.0(\\.\\d)?$\"";
+
+  private static final String VARIANT_TEMPLATE = message(Variant.class);
+  private static final String VARIANT = VARIANT_TEMPLATE.replace("{variant}", "2");
+
+  private static final String ACTIVITY_DEFINITION = message(ValidActivityDefinition.class);
+  private static final String ACTOR = message(ValidActor.class);
+  private static final String AUTHORITY = message(ValidAuthority.class);
+  private static final String DURATION = message(ValidDuration.class);
+  private static final String HAS_SCHEME = message(HasScheme.class);
+  private static final String MBOX = message(Mbox.class);
+  private static final String NOT_UNDETERMINED = message(NotUndetermined.class);
+  private static final String SCALED_SCORE = message(ScaledScore.class);
+  private static final String SCORE = message(VaildScore.class);
+  private static final String STATEMENT_PLATFORM = message(ValidStatementPlatform.class);
+  private static final String STATEMENT_REVISION = message(ValidStatementRevision.class);
+  private static final String STATEMENT_VERB = message(ValidStatementVerb.class);
+  private static final String STATEMENTS = message(Statements.class);
+
+  private static final String LIST_ELEMENT = "<list element>";
+  private static final String MAP_KEY = "<map key>";
+
+  private static final PropertyPath STATEMENTS_PATH = PropertyPath.ROOT.property("statements");
+
+  @SuppressWarnings("unchecked")
+  private static final Class<List<Statement>> STATEMENT_LIST =
+      (Class<List<Statement>>) (Class<?>) List.class;
+
+  // The number of Statements which are validated by a single task
+  private static final int CHUNK_SIZE = 64;
+
+  private final ActivityDefinitionValidator activityDefinitionValidator;
+  private final ActorValidator actorValidator;
+  private final AuthorityValidator authorityValidator;
+  private final DurationValidator durationValidator;
+  private final HasSchemeValidatorForUri hasSchemeValidator;
+  private final MboxValidator mboxValidator;
+  private final NotUndeterminedValidator notUndeterminedValidator;
+  private final ScaledScoreValidator scaledScoreValidator;
+  private final ScoreValidator scoreValidator;
+  private final StatementPlatformValidator statementPlatformValidator;
+  private final StatementRevisionValidator statementRevisionValidator;
+  private final StatementVerbValidator statementVerbValidator;
+  private final VariantValidatorForUuid variantValidator;
+  private final StatementsValidator statementsValidator;
+
+  private final Executor executor;
+
+  private final int parallelismThreshold;
+
+  /** Creates a StatementValidator whose constraint validators are all enabled. */
+  public StatementValidator() {
+    this(new DefaultConstraintValidatorFactory());
+  }
+
+  /**
+   * Creates a StatementValidator whose constraint validators are created by a factory.
+   *
+   * @param factory the factory of the constraint validators, e.g. the {@link
+   *     ConstraintValidatorFactory} of a {@link jakarta.validation.ValidatorFactory}
+   */
+  public StatementValidator(ConstraintValidatorFactory factory) {
+    this(factory, ForkJoinPool.commonPool(), DEFAULT_PARALLELISM_THRESHOLD);
+  }
+
+  /**
+   * Creates a StatementValidator which validates large lists of Statements in parallel.
+   *
+   * @param factory the factory of the constraint validators
+   * @param executor the executor of the parallel validation, e.g. a {@link ForkJoinPool} or a
+   *     virtual thread per task executor
+   * @param parallelismThreshold the minimum number of Statements of a list which are validated in
+   *     parallel
+   */
+  public StatementValidator(
+      ConstraintValidatorFactory factory, Executor executor, int parallelismThreshold) {
+
+    this.executor = executor;
+    this.parallelismThreshold = parallelismThreshold;
+
+    activityDefinitionValidator = factory.getInstance(ActivityDefinitionValidator.class);
+    actorValidator = factory.getInstance(ActorValidator.class);
+    authorityValidator = factory.getInstance(AuthorityValidator.class);
+    durationValidator = factory.getInstance(DurationValidator.class);
+    hasSchemeValidator = factory.getInstance(HasSchemeValidatorForUri.class);
+    mboxValidator = factory.getInstance(MboxValidator.class);
+    notUndeterminedValidator = factory.getInstance(NotUndeterminedValidator.class);
+    scaledScoreValidator = factory.getInstance(ScaledScoreValidator.class);
+    scoreValidator = factory.getInstance(ScoreValidator.class);
+    statementPlatformValidator = factory.getInstance(StatementPlatformValidator.class);
+    statementRevisionValidator = factory.getInstance(StatementRevisionValidator.class);
+    statementVerbValidator = factory.getInstance(StatementVerbValidator.class);
+    variantValidator = factory.getInstance(VariantValidatorForUuid.class);
+    statementsValidator = factory.getInstance(StatementsValidator.class);
+  }
+
+  /**
+   * Validates a Statement.
+   *
+   * @param statement the Statement to validate
+   * @return the constraint violations, or an empty set if the Statement is valid
+   */
+  public Set<ConstraintViolation<Statement>> validate(Statement statement) {
+
+    final var violations = new Violations<>(statement, Statement.class);
+    validateStatement(statement, PropertyPath.ROOT, violations);
+    return violations.toSet();
+  }
+
+  /**
+   * Validates a list of Statements, e.g. the Statements of a POST request.
+   *
+   * <p>The property paths of the violations start with the index of the Statement, e.g. {@code
+   * statements[17].actor.mbox}. If the list has at least {@code parallelismThreshold} Statements,
+   * they are validated in chunks on the executor of this validator, while the ids of the Statements
+   * are checked for duplicates.
+   *
+   * @param statements the Statements to validate
+   * @return the constraint violations ordered by the index of the Statement, or an empty set if all
+   *     Statements are valid
+   */
+  public Set<ConstraintViolation<List<Statement>>> validate(List<Statement> statements) {
+
+    if (statements.size() < parallelismThreshold) {
+      final var violations = new Violations<>(statements, STATEMENT_LIST);
+      validateIds(statements, violations);
+      validateStatements(statements, 0, statements.size(), violations);
+      return violations.toSet();
+    }
+
+    final var ids =
+        CompletableFuture.supplyAsync(
+            () -> {
+              final var violations = new Violations<>(statements, STATEMENT_LIST);
+              validateIds(statements, violations);
+              return violations;
+            },
+            executor);
+
+    final List<CompletableFuture<Violations<List<Statement>>>> chunks = new ArrayList<>();
+    for (var from = 0; from < statements.size(); from += CHUNK_SIZE) {
+      final var start = from;
+      final var end = Math.min(from + CHUNK_SIZE, statements.size());
+      chunks.add(
+          CompletableFuture.supplyAsync(
+              () -> {
+                final var violations = new Violations<>(statements, STATEMENT_LIST);
+                validateStatements(statements, start, end, violations);
+                return violations;
+              },
+              executor));
+    }
+
+    final var violations = join(ids);
+    for (final var chunk : chunks) {
+      violations.addAll(join(chunk));
+    }
+    return violations.toSet();
+  }
+
+  /**
+   * Checks whether a Statement is valid.
+   *
+   * @param statement the Statement to validate
+   * @return true if the Statement has no constraint violations
+   */
+  public boolean isValid(Statement statement) {
+    return validate(statement).isEmpty();
+  }
+
+  private void validateIds(List<Statement> statements, Violations<?> violations) {
+
+    if (!statementsValidator.isValid(statements, null)) {
+      violations.add(STATEMENTS_PATH, STATEMENTS, statements, statements);
+    }
+  }
+
+  private void validateStatements(
+      List<Statement> statements, int from, int to, Violations<?> violations) {
+
+    for (var i = from; i < to; i++) {
+      final var statement = statements.get(i);
+      if (statement != null) {
+        validateStatement(statement, STATEMENTS_PATH.index(i), violations);
+      }
+    }
+  }
+
+  private static <T> Violations<T> join(CompletableFuture<Violations<T>> future) {
+
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private void validateStatement(
+      Statement statement, PropertyPath path, Violations<?> violations) {
+
+    validateCoreStatement(statement, path, violations);
+
+    if (!statementVerbValidator.isValid(statement, null)) {
+      violations.add(path.bean(), STATEMENT_VERB, statement, statement);
+    }
+
+    validateVariant(statement.getId(), statement, path.property("id"), violations);
+
+    final var object = statement.getObject();
+    if (object == null) {
+      violations.addNotNull(path.property("object"), statement);
+    } else {
+      final var objectPath = path.property("object");
+      if (!actorValidator.isValid(object, null)) {
+        violations.add(objectPath, ACTOR, statement, object);
+      }
+      if (object instanceof final SubStatement subStatement) {
+        validateSubStatement(subStatement, objectPath, violations);
+      } else {
+        validateSubStatementObject(object, objectPath, violations);
+      }
+    }
+
+    final var authority = statement.getAuthority();
+    if (authority != null) {
+      final var authorityPath = path.property("authority");
+      if (!actorValidator.isValid(authority, null)) {
+        violations.add(authorityPath, ACTOR, statement, authority);
+      }
+      if (!authorityValidator.isValid(authority, null)) {
+        violations.add(authorityPath, AUTHORITY, statement, authority);
+      }
+      validateActor(authority, authorityPath, violations);
+    }
+
+    final var version = statement.getVersion();
+    if (version != null && !isVersion(version)) {
+      violations.add(path.property("version"), VERSION, PATTERN_TEMPLATE, statement, version);
+    }
+  }
+
+  private void validateSubStatement(
+      SubStatement subStatement, PropertyPath path, Violations<?> violations) {
+
+    validateCoreStatement(subStatement, path, violations);
+
+    final var object = subStatement.getObject();
+    if (object == null) {
+      violations.addNotNull(path.property("object"), subStatement);
+    } else {
+      final var objectPath = path.property("object");
+      if (!actorValidator.isValid(object, null)) {
+        violations.add(objectPath, ACTOR, subStatement, object);
+      }
+      validateSubStatementObject(object, objectPath, violations);
+    }
+  }
+
+  // The rules which are common to Statements and SubStatements, except the object
+  private void validateCoreStatement(
+      CoreStatement statement, PropertyPath path, Violations<?> violations) {
+
+    if (!statementPlatformValidator.isValid(statement, null)) {
+      violations.add(path.bean(), STATEMENT_PLATFORM, statement, statement);
+    }
+
+    if (!statementRevisionValidator.isValid(statement, null)) {
+      violations.add(path.bean(), STATEMENT_REVISION, statement, statement);
+    }
+
+    final var actor = statement.getActor();
+    if (actor == null) {
+      violations.addNotNull(path.property("actor"), statement);
+    } else {
+      final var actorPath = path.property("actor");
+      if (!actorValidator.isValid(actor, null)) {
+        violations.add(actorPath, ACTOR, statement, actor);
+      }
+      validateActor(actor, actorPath, violations);
+    }
+
+    final var verb = statement.getVerb();
+    if (verb == null) {
+      violations.addNotNull(path.property("verb"), statement);
+    } else {
+      validateVerb(verb, path.property("verb"), violations);
+    }
+
+    final var result = statement.getResult();
+    if (result != null) {
+      validateResult(result, path.property("result"), violations);
+    }
+
+    final var context = statement.getContext();
+    if (context != null) {
+      validateContext(context, path.property("context"), violations);
+    }
+
+    final var attachments = statement.getAttachments();
+    if (attachments != null) {
+      final var attachmentsPath = path.property("attachments");
+      for (var i = 0; i < attachments.size(); i++) {
+        final var attachment = attachments.get(i);
+        if (attachment != null) {
+          validateAttachment(attachment, attachmentsPath.index(i), violations);
+        }
+      }
+    }
+  }
+
+  private void validateSubStatementObject(
+      Object object, PropertyPath path, Violations<?> violations) {
+
+    if (object instanceof final Activity activity) {
+      validateActivity(activity, path, violations);
+    } else if (object instanceof final Actor actor) {
+      validateActor(actor, path, violations);
+    } else if (object instanceof final StatementReference statementReference) {
+      validateStatementReference(statementReference, path, violations);
+    }
+  }
+
+  private void validateActor(Actor actor, PropertyPath path, Violations<?> violations) {
+
+    final var mbox = actor.getMbox();
+    if (!mboxValidator.isValid(mbox, null)) {
+      violations.add(path.property("mbox"), MBOX, actor, mbox);
+    }
+
+    validateScheme(actor.getOpenid(), actor, path.property("openid"), violations);
+
+    final var account = actor.getAccount();
+    if (account != null) {
+      validateAccount(account, path.property("account"), violations);
+    }
+
+    if (actor instanceof final Group group && group.getMember() != null) {
+      final var members = group.getMember();
+      final var memberPath = path.property("member");
+      for (var i = 0; i < members.size(); i++) {
+        final var member = members.get(i);
+        if (member != null) {
+          final var elementPath = memberPath.index(i);
+          if (!actorValidator.isValid(member, null)) {
+            violations.add(elementPath.containerElement(LIST_ELEMENT), ACTOR, group, member);
+          }
+          validateActor(member, elementPath, violations);
+        }
+      }
+    }
+  }
+
+  private void validateAccount(Account account, PropertyPath path, Violations<?> violations) {
+
+    final var homePage = account.getHomePage();
+    if (homePage == null) {
+      violations.addNotNull(path.property("homePage"), account);
+    } else {
+      validateScheme(homePage, account, path.property("homePage"), violations);
+    }
+
+    if (isBlank(account.getName())) {
+      violations.add(
+          path.property("name"), NOT_BLANK, NOT_BLANK_TEMPLATE, account, account.getName());
+    }
+  }
+
+  private void validateVerb(Verb verb, PropertyPath path, Violations<?> violations) {
+
+    final var id = verb.getId();
+    if (id == null) {
+      violations.addNotNull(path.property("id"), verb);
+    } else {
+      validateScheme(id, verb, path.property("id"), violations);
+    }
+  }
+
+  private void validateActivity(Activity activity, PropertyPath path, Violations<?> violations) {
+
+    final var id = activity.getId();
+    if (id == null) {
+      violations.addNotNull(path.property("id"), activity);
+    } else {
+      validateScheme(id, activity, path.property("id"), violations);
+    }
+
+    final var definition = activity.getDefinition();
+    if (definition != null) {
+      final var definitionPath = path.property("definition");
+      if (!activityDefinitionValidator.isValid(definition, null)) {
+        violations.add(definitionPath, ACTIVITY_DEFINITION, activity, definition);
+      }
+      validateActivityDefinition(definition, definitionPath, violations);
+    }
+  }
+
+  private void validateActivityDefinition(
+      ActivityDefinition definition, PropertyPath path, Violations<?> violations) {
+
+    validateScheme(definition.getType(), definition, path.property("type"), violations);
+    validateScheme(definition.getMoreInfo(), definition, path.property("moreInfo"), violations);
+    validateExtensions(definition.getExtensions(), definition, path, violations);
+  }
+
+  private void validateStatementReference(
+      StatementReference statementReference, PropertyPath path, Violations<?> violations) {
+
+    final var id = statementReference.getId();
+    if (id == null) {
+      violations.addNotNull(path.property("id"), statementReference);
+    } else {
+      validateVariant(id, statementReference, path.property("id"), violations);
+    }
+  }
+
+  private void validateResult(Result result, PropertyPath path, Violations<?> violations) {
+
+    final var score = result.getScore();
+    if (score != null) {
+      final var scorePath = path.property("score");
+      if (!scoreValidator.isValid(score, null)) {
+        violations.add(scorePath, SCORE, result, score);
+      }
+      if (!scaledScoreValidator.isValid(score.getScaled(), null)) {
+        violations.add(scorePath.property("scaled"), SCALED_SCORE, score, score.getScaled());
+      }
+    }
+
+    final var duration = result.getDuration();
+    if (!durationValidator.isValid(duration, null)) {
+      violations.add(path.property("duration"), DURATION, result, duration);
+    }
+
+    validateExtensions(result.getExtensions(), result, path, violations);
+  }
+
+  private void validateContext(Context context, PropertyPath path, Violations<?> violations) {
+
+    validateVariant(context.getRegistration(), context, path.property("registration"), violations);
+
+    final var instructor = context.getInstructor();
+    if (instructor != null) {
+      final var instructorPath = path.property("instructor");
+      if (!actorValidator.isValid(instructor, null)) {
+        violations.add(instructorPath, ACTOR, context, instructor);
+      }
+      validateActor(instructor, instructorPath, violations);
+    }
+
+    final var team = context.getTeam();
+    if (team != null) {
+      final var teamPath = path.property("team");
+      if (!actorValidator.isValid(team, null)) {
+        violations.add(teamPath, ACTOR, context, team);
+      }
+      validateActor(team, teamPath, violations);
+    }
+
+    final var contextActivities = context.getContextActivities();
+    if (contextActivities != null) {
+      validateContextActivities(
+          contextActivities, path.property("contextActivities"), violations);
+    }
+
+    final var language = context.getLanguage();
+    if (!notUndeterminedValidator.isValid(language, null)) {
+      violations.add(path.property("language"), NOT_UNDETERMINED, context, language);
+    }
+
+    final var statement = context.getStatement();
+    if (statement != null) {
+      validateStatementReference(statement, path.property("statement"), violations);
+    }
+
+    validateExtensions(context.getExtensions(), context, path, violations);
+  }
+
+  private void validateContextActivities(
+      ContextActivities contextActivities, PropertyPath path, Violations<?> violations) {
+
+    validateActivities(contextActivities.getParent(), path.property("parent"), violations);
+    validateActivities(contextActivities.getGrouping(), path.property("grouping"), violations);
+    validateActivities(contextActivities.getCategory(), path.property("category"), violations);
+    validateActivities(contextActivities.getOther(), path.property("other"), violations);
+  }
+
+  private void validateActivities(
+      List<Activity> activities, PropertyPath path, Violations<?> violations) {
+
+    if (activities == null) {
+      return;
+    }
+
+    for (var i = 0; i < activities.size(); i++) {
+      final var activity = activities.get(i);
+      if (activity != null) {
+        validateActivity(activity, path.index(i), violations);
+      }
+    }
+  }
+
+  private void validateAttachment(
+      Attachment attachment, PropertyPath path, Violations<?> violations) {
+
+    final var usageType = attachment.getUsageType();
+    if (usageType == null) {
+      violations.addNotNull(path.property("usageType"), attachment);
+    } else {
+      validateScheme(usageType, attachment, path.property("usageType"), violations);
+    }
+
+    if (attachment.getDisplay() == null) {
+      violations.addNotNull(path.property("display"), attachment);
+    }
+    if (attachment.getContentType() == null) {
+      violations.addNotNull(path.property("contentType"), attachment);
+    }
+    if (attachment.getLength() == null) {
+      violations.addNotNull(path.property("length"), attachment);
+    }
+    if (attachment.getSha2() == null) {
+      violations.addNotNull(path.property("sha2"), attachment);
+    }
+
+    validateScheme(attachment.getFileUrl(), attachment, path.property("fileUrl"), violations);
+  }
+
+  private void validateExtensions(
+      Map<URI, Object> extensions, Object bean, PropertyPath path, Violations<?> violations) {
+
+    if (extensions == null || extensions.isEmpty()) {
+      return;
+    }
+
+    for (final var key : extensions.keySet()) {
+      if (!hasSchemeValidator.isValid(key, null)) {
+        violations.add(
+            path.property("extensions").key(key).containerElement(MAP_KEY),
+            HAS_SCHEME,
+            bean,
+            key);
+      }
+    }
+  }
+
+  private void validateScheme(URI uri, Object bean, PropertyPath path, Violations<?> violations) {
+
+    if (!hasSchemeValidator.isValid(uri, null)) {
+      violations.add(path, HAS_SCHEME, bean, uri);
+    }
+  }
+
+  private void validateVariant(
+      UUID uuid, Object bean, PropertyPath path, Violations<?> violations) {
+
+    if (uuid != null && uuid.variant() != 2 && !variantValidator.isDisabled()) {
+      violations.add(path, VARIANT, VARIANT_TEMPLATE, bean, uuid);
+    }
+  }
+
+  // Same as @Pattern(regexp = "^1\\.0(\\.\\d)?$")
+  private static boolean isVersion(String version) {
+
+    final var length = version.length();
+
+    return (length == 3 || length == 5 && version.charAt(3) == '.' && isDigit(version.charAt(4)))
+        && version.startsWith("1.0");
+  }
+
+  // Same as @NotBlank, which checks the trimmed text
+  private static boolean isBlank(String text) {
+
+    if (text == null) {
+      return true;
+    }
+
+    for (var i = 0; i < text.length(); i++) {
+      if (text.charAt(i) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static String message(Class<? extends Annotation> constraint) {
+
+    try {
+      return (String) constraint.getMethod("message").getDefaultValue();
+    } catch (final NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /*
+   * The violations of a validated Statement or list of Statements. The set is only created when
+   * the first violation is found.
+   */
+  private static class Violations<T> {
+
+    private final T root;
+
+    private final Class<T> rootClass;
+
+    private Set<ConstraintViolation<T>> set;
+
+    Violations(T root, Class<T> rootClass) {
+      this.root = root;
+      this.rootClass = rootClass;
+    }
+
+    void add(PropertyPath path, String message, Object leafBean, Object invalidValue) {
+      add(path, message, message, leafBean, invalidValue);
+    }
+
+    void add(
+        PropertyPath path, String message, String template, Object leafBean, Object invalidValue) {
+
+      if (set == null) {
+        set = new LinkedHashSet<>();
+      }
+      set.add(
+          new StatementConstraintViolation<>(
+              message, template, root, rootClass, leafBean, path, invalidValue));
+    }
+
+    void addNotNull(PropertyPath path, Object leafBean) {
+      add(path, NOT_NULL, NOT_NULL_TEMPLATE, leafBean, null);
+    }
+
+    void addAll(Violations<T> other) {
+
+      if (other.set != null) {
+        if (set == null) {
+          set = new LinkedHashSet<>();
+        }
+        set.addAll(other.set);
+      }
+    }
+
+    Set<ConstraintViolation<T>> toSet() {
+      return set == null ? Collections.emptySet() : Collections.unmodifiableSet(set);
+    }
+  }
+
+  /*
+   * Creates the constraint validators with their public no-arg constructors, like the default
+   * ConstraintValidatorFactory of Hibernate Validator.
+   */
+  private static class DefaultConstraintValidatorFactory implements ConstraintValidatorFactory {
+
+    @Override
+    public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+
+      try {
+        return key.getDeclaredConstructor().newInstance();
+      } catch (InstantiationException
+          | IllegalAccessException
+          | InvocationTargetException
+          | NoSuchMethodException e) {
+        throw new ValidationException("Unable to instantiate " + key.getName(), e);
+      }
+    }
+
+    @Override
+    public void releaseInstance(ConstraintValidator<?, ?> instance) {
+      // Nothing to release
+    }
+  }
+}
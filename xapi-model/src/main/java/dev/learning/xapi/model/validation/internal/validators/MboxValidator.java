@@ -7,11 +7,17 @@ package dev.learning.xapi.model.validation.internal.validators;
 import dev.learning.xapi.model.validation.constraints.Mbox;
 import dev.learning.xapi.model.validation.disableable.DisableableValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.hibernate.validator.internal.constraintvalidators.bv.EmailValidator;
 
 /**
  * The String being validated must be a valid mbox.
  *
+ * <p>The email address is checked in place after the {@code mailto:} prefix, without allocating
+ * any objects. The check accepts exactly the addresses accepted by Hibernate Validator's {@link
+ * EmailValidator}. Addresses with quoted local parts, IP address literals or non-ASCII characters
+ * are delegated to the {@link EmailValidator} and the results are kept in a small cache.
+ *
  * @author Thomas Turrell-Croft
  * @author István Rátkai (Selindek)
  * @see <a href="http://xmlns.com/foaf/0.1/#term_mbox">Mbox</a>
@@ -23,6 +29,19 @@ public class MboxValidator extends DisableableValidator<Mbox, String> {
   /** Cached email validator instance to avoid repeated object creation. */
   private static final EmailValidator EMAIL_VALIDATOR = new EmailValidator();
 
+  private static final int MAX_LOCAL_PART_LENGTH = 64;
+  private static final int MAX_DOMAIN_PART_LENGTH = 255;
+  private static final int MAX_LABEL_LENGTH = 63;
+
+  private static final int INVALID = 0;
+  private static final int VALID = 1;
+  private static final int UNDECIDED = 2;
+
+  // Must be a power of two
+  private static final int CACHE_SIZE = 256;
+
+  private static final AtomicReferenceArray<Entry> cache = new AtomicReferenceArray<>(CACHE_SIZE);
+
   @Override
   public void initialize(Mbox mbox) {
     // No initialization needed - using static validator
@@ -34,7 +53,127 @@ public class MboxValidator extends DisableableValidator<Mbox, String> {
       return true;
     }
 
-    return value.startsWith(PREFIX)
-        && EMAIL_VALIDATOR.isValid(value.substring(PREFIX.length()), context);
+    if (!value.startsWith(PREFIX)) {
+      return false;
+    }
+
+    final var result = check(value, PREFIX.length());
+    if (result != UNDECIDED) {
+      return result == VALID;
+    }
+
+    return isValidEmail(value, context);
+  }
+
+  /*
+   * Checks the email address which starts at the given index. Returns UNDECIDED for the addresses
+   * which are left to the EmailValidator.
+   */
+  private static int check(String value, int start) {
+
+    final var length = value.length();
+
+    // The EmailValidator accepts an empty address
+    if (start == length) {
+      return VALID;
+    }
+
+    final var at = value.lastIndexOf('@');
+    if (at < start) {
+      return INVALID;
+    }
+
+    final var local = checkLocalPart(value, start, at);
+    if (local != VALID) {
+      return local;
+    }
+
+    return checkDomainPart(value, at + 1, length);
+  }
+
+  // Dot separated atoms
+  private static int checkLocalPart(String value, int start, int end) {
+
+    if (start == end || end - start > MAX_LOCAL_PART_LENGTH) {
+      return INVALID;
+    }
+
+    var previous = '.';
+    for (var i = start; i < end; i++) {
+      final var c = value.charAt(i);
+      if (c == '"' || c > 0x7F) {
+        return UNDECIDED;
+      }
+      if (c == '.' ? previous == '.' : !isAtom(c)) {
+        return INVALID;
+      }
+      previous = c;
+    }
+
+    return previous == '.' ? INVALID : VALID;
+  }
+
+  // Dot separated labels which do not start or end with a dash
+  private static int checkDomainPart(String value, int start, int end) {
+
+    if (start == end) {
+      return INVALID;
+    }
+
+    if (value.charAt(start) == '[') {
+      return UNDECIDED;
+    }
+
+    var labelStart = start;
+    var previous = '.';
+    for (var i = start; i < end; i++) {
+      final var c = value.charAt(i);
+      if (c > 0x7F) {
+        return UNDECIDED;
+      }
+      if (c == '.') {
+        if (previous == '.' || previous == '-') {
+          return INVALID;
+        }
+        labelStart = i + 1;
+      } else if (c == '-' ? previous == '.' : !isDomain(c)) {
+        return INVALID;
+      } else if (i - labelStart >= MAX_LABEL_LENGTH) {
+        return INVALID;
+      }
+      previous = c;
+    }
+
+    // The length of a non-ASCII domain is checked after its IDN conversion
+    return previous == '.' || previous == '-' || end - start > MAX_DOMAIN_PART_LENGTH
+        ? INVALID
+        : VALID;
   }
+
+  private static boolean isAtom(char c) {
+    return c == '-' || isDomain(c);
+  }
+
+  private static boolean isDomain(char c) {
+    return (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '0' && c <= '9')
+        || "!#$%&'*+/=?^_`{|}~".indexOf(c) >= 0;
+  }
+
+  private static boolean isValidEmail(String value, ConstraintValidatorContext context) {
+
+    final var index = value.hashCode() & (CACHE_SIZE - 1);
+    final var entry = cache.get(index);
+
+    if (entry != null && entry.value.equals(value)) {
+      return entry.valid;
+    }
+
+    final var valid = EMAIL_VALIDATOR.isValid(value.substring(PREFIX.length()), context);
+    cache.set(index, new Entry(value, valid));
+    return valid;
+  }
+
+  private record Entry(String value, boolean valid) {}
 }
@@ -28,7 +28,7 @@ public class StatementsValidator extends DisableableValidator<Statements, List<S
       return true;
     }
 
-    final Set<UUID> set = new HashSet<>();
+    final Set<UUID> set = HashSet.newHashSet(values.size());
     for (final Statement statement : values) {
       if (statement.getId() != null && !set.add(statement.getId())) {
         return false;
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonTypeResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
+import dev.learning.xapi.model.Activity;
+import dev.learning.xapi.model.Actor;
+import dev.learning.xapi.model.Agent;
+import dev.learning.xapi.model.Group;
+import dev.learning.xapi.model.StatementObject;
+import dev.learning.xapi.model.SubStatement;
+import dev.learning.xapi.model.SubStatementObject;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * ObjectTypeResolverBuilder Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("ObjectTypeResolverBuilder Tests")
+class ObjectTypeResolverBuilderTests {
+
+  private static final String AGENT =
+      "\"name\":\"A N Other\",\"mbox\":\"mailto:another@example.com\"";
+
+  private static final String GROUP = "\"name\":\"Team\",\"member\":[{" + AGENT + "}]";
+
+  private static final String ACTIVITY =
+      "\"id\":\"https://example.com/activity/1\",\"definition\":{\"name\":{\"en\":\"Example\"}}";
+
+  private static final String SUB_STATEMENT =
+      "\"actor\":{"
+          + AGENT
+          + "},\"verb\":{\"id\":\"https://example.com/verb\"},\"object\":{"
+          + ACTIVITY
+          + "}";
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  private final ObjectMapper bufferingObjectMapper =
+      new ObjectMapper()
+          .findAndRegisterModules()
+          .addMixIn(Actor.class, BufferingMixIn.class)
+          .addMixIn(StatementObject.class, BufferingMixIn.class)
+          .addMixIn(SubStatementObject.class, BufferingMixIn.class);
+
+  @Test
+  void whenDeserializingGroupWithObjectTypeLastThenResultIsGroup() throws Exception {
+
+    // When Deserializing Group With ObjectType Last
+    final var result =
+        objectMapper.readValue("{" + GROUP + ",\"objectType\":\"Group\"}", Actor.class);
+
+    // Then Result Is Group
+    assertThat(result, instanceOf(Group.class));
+    assertThat(((Group) result).getMember().get(0).getName(), is("A N Other"));
+  }
+
+  @Test
+  void whenDeserializingActivityWithoutObjectTypeThenResultIsActivity() throws Exception {
+
+    // When Deserializing Activity Without ObjectType
+    final var result = objectMapper.readValue("{" + ACTIVITY + "}", StatementObject.class);
+
+    // Then Result Is Activity
+    assertThat(result, instanceOf(Activity.class));
+    assertThat(((Activity) result).getDefinition().getName().get(Locale.ENGLISH), is("Example"));
+  }
+
+  @Test
+  void whenDeserializingSubStatementWithObjectTypeLastThenResultIsSubStatement()
+      throws Exception {
+
+    // When Deserializing SubStatement With ObjectType Last
+    final var result =
+        objectMapper.readValue(
+            "{" + SUB_STATEMENT + ",\"objectType\":\"SubStatement\"}", StatementObject.class);
+
+    // Then Result Is SubStatement
+    assertThat(result, instanceOf(SubStatement.class));
+    assertThat(((SubStatement) result).getActor(), instanceOf(Agent.class));
+  }
+
+  @Test
+  void whenDeserializingGroupWithoutObjectTypeThenJsonProcessingExceptionIsThrown() {
+
+    // When Deserializing Group Without ObjectType
+    // Then JsonProcessingException Is Thrown
+    assertThrows(
+        JsonProcessingException.class,
+        () -> objectMapper.readValue("{" + GROUP + "}", Actor.class));
+  }
+
+  @Test
+  void whenDeserializingActivityWithLateAgentObjectTypeThenJsonProcessingExceptionIsThrown() {
+
+    // When Deserializing Activity With Late Agent ObjectType
+    // Then JsonProcessingException Is Thrown
+    assertThrows(
+        JsonProcessingException.class,
+        () ->
+            objectMapper.readValue(
+                "{" + ACTIVITY + ",\"objectType\":\"Agent\"}", StatementObject.class));
+  }
+
+  @Test
+  void whenDeserializingGroupWithLateAgentObjectTypeThenJsonProcessingExceptionIsThrown() {
+
+    // When Deserializing Group With Late Agent ObjectType
+    // Then JsonProcessingException Is Thrown
+    assertThrows(
+        JsonProcessingException.class,
+        () -> objectMapper.readValue("{" + GROUP + ",\"objectType\":\"Agent\"}", Actor.class));
+  }
+
+  @ParameterizedTest
+  @MethodSource("objects")
+  void whenDeserializingObjectThenResultIsSameAsWithBufferingTypeResolver(
+      Class<?> type, String json) throws Exception {
+
+    for (final var unknownProperties : new boolean[] {true, false}) {
+      final var reader = reader(objectMapper, type, unknownProperties);
+      final var bufferingReader = reader(bufferingObjectMapper, type, unknownProperties);
+
+      Object expected;
+      try {
+        expected = bufferingReader.readValue(json);
+      } catch (final JsonProcessingException e) {
+        expected = null;
+      }
+
+      if (expected == null) {
+        // When Deserializing Object Rejected By Buffering Type Resolver
+        // Then JsonProcessingException Is Thrown
+        assertThrows(JsonProcessingException.class, () -> reader.readValue(json));
+      } else {
+        // When Deserializing Object Accepted By Buffering Type Resolver
+        final Object result = reader.readValue(json);
+
+        // Then Result Is Same As With Buffering Type Resolver
+        assertThat(result, is(expected));
+      }
+    }
+  }
+
+  private static Stream<Arguments> objects() {
+
+    final var objects = Stream.<Arguments>builder();
+
+    for (final var type : new Class<?>[] {Actor.class, StatementObject.class}) {
+      for (final var properties : new String[] {AGENT, GROUP, ACTIVITY, SUB_STATEMENT}) {
+        objects.add(Arguments.of(type, "{" + properties + "}"));
+
+        for (final var objectType :
+            new String[] {
+              "\"Agent\"", "\"Person\"", "\"Group\"", "\"Activity\"", "\"SubStatement\"",
+              "\"StatementRef\"", "\"Invalid\"", "null", "1"
+            }) {
+          objects.add(
+              Arguments.of(type, "{\"objectType\":" + objectType + "," + properties + "}"));
+          objects.add(
+              Arguments.of(type, "{" + properties + ",\"objectType\":" + objectType + "}"));
+        }
+      }
+    }
+
+    return objects.build();
+  }
+
+  private static ObjectReader reader(
+      ObjectMapper objectMapper, Class<?> type, boolean failOnUnknownProperties) {
+
+    final var reader = objectMapper.readerFor(type);
+
+    return failOnUnknownProperties
+        ? reader.with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        : reader.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+  }
+
+  @JsonTypeResolver(StdTypeResolverBuilder.class)
+  private interface BufferingMixIn {}
+}
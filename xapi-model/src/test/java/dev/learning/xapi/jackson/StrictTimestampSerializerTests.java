@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * StrictTimestampSerializer Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("StrictTimestampSerializer Tests")
+class StrictTimestampSerializerTests {
+
+  private final Instant instant = Instant.parse("2015-11-18T12:17:00.123Z");
+
+  @Test
+  void givenSerializerWhenWritingInstantThenResultIsIsoString() throws JsonProcessingException {
+
+    // Given Serializer
+    final var objectMapper =
+        new ObjectMapper()
+            .findAndRegisterModules()
+            .registerModule(
+                new SimpleModule().addSerializer(Instant.class, new StrictTimestampSerializer()));
+
+    // When Writing Instant
+    final var result = objectMapper.writeValueAsString(instant);
+
+    // Then Result Is Iso String
+    assertThat(result, is("\"2015-11-18T12:17:00.123Z\""));
+  }
+
+  @Test
+  void givenStrictTimestampModuleWhenWritingInstantThenResultIsUnchanged()
+      throws JsonProcessingException {
+
+    // Given Strict Timestamp Module
+    final var objectMapper =
+        new ObjectMapper().findAndRegisterModules().registerModule(new XapiStrictTimestampModule());
+
+    // When Writing Instant
+    final var result = objectMapper.writeValueAsString(instant);
+
+    // Then Result Is Unchanged
+    assertThat(result, is(new ObjectMapper().findAndRegisterModules().writeValueAsString(instant)));
+  }
+
+  @Test
+  void givenStrictStatementModuleWhenWritingInstantThenResultIsUnchanged()
+      throws JsonProcessingException {
+
+    // Given Strict Statement Module
+    final var objectMapper =
+        new ObjectMapper().findAndRegisterModules().registerModule(new XapiStrictStatementModule());
+
+    // When Writing Instant
+    final var result = objectMapper.writeValueAsString(instant);
+
+    // Then Result Is Unchanged
+    assertThat(result, is(new ObjectMapper().findAndRegisterModules().writeValueAsString(instant)));
+  }
+}
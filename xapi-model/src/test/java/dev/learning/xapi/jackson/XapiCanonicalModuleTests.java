@@ -0,0 +1,189 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.learning.xapi.model.Activity;
+import dev.learning.xapi.model.LanguageMap;
+import dev.learning.xapi.model.Statement;
+import dev.learning.xapi.model.StatementObject;
+import dev.learning.xapi.model.Verb;
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * XapiCanonicalModule Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("XapiCanonicalModule Tests")
+class XapiCanonicalModuleTests {
+
+  private final XapiCanonicalModule module = new XapiCanonicalModule();
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().findAndRegisterModules().registerModule(module);
+
+  @Test
+  void whenDeserializingStatementTwiceThenVerbIsSameInstance() throws IOException {
+
+    // When Deserializing Statement Twice
+    final var first = objectMapper.readValue(statement(), Statement.class);
+    final var second = objectMapper.readValue(statement(), Statement.class);
+
+    // Then Verb Is Same Instance
+    assertThat(second.getVerb(), sameInstance(first.getVerb()));
+  }
+
+  @Test
+  void whenDeserializingStatementTwiceThenActivityIdIsSameInstance() throws IOException {
+
+    // When Deserializing Statement Twice
+    final var first = objectMapper.readValue(statement(), Statement.class);
+    final var second = objectMapper.readValue(statement(), Statement.class);
+
+    // Then Activity Id Is Same Instance
+    assertThat(
+        ((Activity) second.getObject()).getId(),
+        sameInstance(((Activity) first.getObject()).getId()));
+  }
+
+  @Test
+  void whenDeserializingStatementTwiceThenActivityWithDefinitionIsNotSameInstance()
+      throws IOException {
+
+    // When Deserializing Statement Twice
+    final var first = objectMapper.readValue(statement(), Statement.class);
+    final var second = objectMapper.readValue(statement(), Statement.class);
+
+    // Then Activity With Definition Is Not Same Instance
+    assertThat(second.getObject(), not(sameInstance(first.getObject())));
+  }
+
+  @Test
+  void whenDeserializingStatementThenResultIsSameAsWithoutModule() throws IOException {
+
+    // When Deserializing Statement
+    objectMapper.readValue(statement(), Statement.class);
+    final var result = objectMapper.readValue(statement(), Statement.class);
+
+    // Then Result Is Same As Without Module
+    assertThat(
+        result,
+        is(new ObjectMapper().findAndRegisterModules().readValue(statement(), Statement.class)));
+  }
+
+  @Test
+  void whenDeserializingActivityWithoutDefinitionTwiceThenActivityIsSameInstance()
+      throws IOException {
+
+    final var json = "{\"objectType\":\"Activity\",\"id\":\"https://example.com/activity/1\"}";
+
+    // When Deserializing Activity Without Definition Twice
+    final var first = objectMapper.readValue(json, StatementObject.class);
+    final var second = objectMapper.readValue(json, StatementObject.class);
+
+    // Then Activity Is Same Instance
+    assertThat(second, sameInstance(first));
+  }
+
+  @Test
+  void whenDeserializingLanguageMapTwiceThenLocaleIsSameInstance() throws IOException {
+
+    final var json = "{\"en-US\":\"answered\"}";
+
+    // When Deserializing LanguageMap Twice
+    final var first = objectMapper.readValue(json, LanguageMap.class);
+    final var second = objectMapper.readValue(json, LanguageMap.class);
+
+    // Then Locale Is Same Instance
+    assertThat(
+        second.keySet().iterator().next(), sameInstance(first.keySet().iterator().next()));
+    assertThat(first.get(Locale.US), is("answered"));
+  }
+
+  @Test
+  void whenDeserializingVerbsWithDifferentDisplayThenVerbIsNotSameInstance() throws IOException {
+
+    // When Deserializing Verbs With Different Display
+    final var first = objectMapper.readValue(verb("answered"), Verb.class);
+    final var second = objectMapper.readValue(verb("replied"), Verb.class);
+
+    // Then Verb Is Not Same Instance
+    assertThat(second, not(sameInstance(first)));
+    assertThat(second.getDisplay().get(Locale.ENGLISH), is("replied"));
+  }
+
+  @Test
+  void whenDeserializingStatementTwiceThenVerbCacheHitRateIsOneHalf() throws IOException {
+
+    // When Deserializing Statement Twice
+    objectMapper.readValue(statement(), Statement.class);
+    objectMapper.readValue(statement(), Statement.class);
+
+    // Then Verb Cache Hit Rate Is One Half
+    assertThat(module.getVerbCache().getHitRate(), is(0.5));
+  }
+
+  @Test
+  void givenFullCacheWhenPuttingValueThenCacheIsCleared() {
+
+    // Given Full Cache
+    final var cache = new CanonicalCache<String, String>(2);
+    cache.put("a", "a");
+    cache.put("b", "b");
+
+    // When Putting Value
+    cache.put("c", "c");
+
+    // Then Cache Is Cleared
+    assertThat(cache.getSize(), is(1));
+    assertThat(cache.getEvictionCount(), is(2L));
+  }
+
+  @Test
+  void givenCachedValueWhenInterningEqualValueThenCachedValueIsReturned() {
+
+    // Given Cached Value
+    final var cache = new CanonicalCache<String, String>(2);
+    final var value = new String("value");
+    cache.put("key", value);
+
+    // When Interning Equal Value
+    final var result = cache.intern("key", new String("value"));
+
+    // Then Cached Value Is Returned
+    assertThat(result, sameInstance(value));
+    assertThat(cache.getHitCount(), is(1L));
+  }
+
+  @Test
+  void whenCreatingCacheWithZeroSizeThenIllegalArgumentExceptionIsThrown() {
+
+    // When Creating Cache With Zero Size
+    // Then IllegalArgumentException Is Thrown
+    assertThrows(IllegalArgumentException.class, () -> new CanonicalCache<String, String>(0));
+  }
+
+  private static String verb(String display) {
+    return "{\"id\":\"http://adlnet.gov/expapi/verbs/answered\",\"display\":{\"en\":\""
+        + display
+        + "\"}}";
+  }
+
+  private static File statement() throws IOException {
+    return ResourceUtils.getFile("classpath:statement/statement.json");
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.learning.xapi.model.Statement;
+import dev.learning.xapi.model.StatementResult;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * XapiSmile Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("XapiSmile Tests")
+class XapiSmileTests {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  @Test
+  void whenCreatingSmileObjectMapperThenFactoryIsSmileFactory() {
+
+    // When Creating Smile ObjectMapper
+    final var smileMapper = XapiSmile.objectMapper(objectMapper);
+
+    // Then Factory Is SmileFactory
+    assertThat(smileMapper.getFactory(), instanceOf(SmileFactory.class));
+  }
+
+  @Test
+  void whenWritingAndReadingStatementAsSmileThenStatementIsEqual() throws IOException {
+
+    final var statement = objectMapper.readValue(statement(), Statement.class);
+    final var smileMapper = XapiSmile.objectMapper(objectMapper);
+
+    // When Writing And Reading Statement As Smile
+    final var result =
+        smileMapper.readValue(smileMapper.writeValueAsBytes(statement), Statement.class);
+
+    // Then Statement Is Equal
+    assertThat(result, is(statement));
+  }
+
+  @Test
+  void whenWritingStatementResultAsSmileThenSmileIsSmallerThanJson() throws IOException {
+
+    final var statement = objectMapper.readValue(statement(), Statement.class);
+    final var statementResult =
+        StatementResult.builder().statements(List.of(statement, statement, statement)).build();
+
+    // When Writing StatementResult As Smile
+    final var smile = XapiSmile.objectMapper(objectMapper).writeValueAsBytes(statementResult);
+
+    // Then Smile Is Smaller Than Json
+    assertThat(smile.length, lessThan(objectMapper.writeValueAsBytes(statementResult).length));
+  }
+
+  @Test
+  void givenStrictLocaleModuleWhenReadingSmileStatementWithInvalidLocaleThenExceptionIsThrown()
+      throws IOException {
+
+    // Given Strict Locale Module
+    final var strictMapper =
+        new ObjectMapper().findAndRegisterModules().registerModule(new XapiStrictLocaleModule());
+    final var smileMapper = XapiSmile.objectMapper(strictMapper);
+
+    final var smile =
+        XapiSmile.objectMapper(objectMapper)
+            .writeValueAsBytes(
+                objectMapper.readTree(
+                    """
+                    {
+                      "context": {
+                        "language": "grrrrr"
+                      },
+                      "actor": {
+                        "mbox": "mailto:another@example.com"
+                      },
+                      "verb": {
+                        "id": "http://adlnet.gov/expapi/verbs/attempted"
+                      },
+                      "object": {
+                        "id": "https://example.com/activity/simplestatement"
+                      }
+                    }"""));
+
+    // When Reading Smile Statement With Invalid Locale
+    // Then Exception Is Thrown
+    assertThrows(InvalidFormatException.class, () -> smileMapper.readValue(smile, Statement.class));
+  }
+
+  @Test
+  void givenCanonicalModuleWhenReadingSmileStatementTwiceThenVerbIsSameInstance()
+      throws IOException {
+
+    // Given Canonical Module
+    final var smileMapper =
+        XapiSmile.objectMapper(
+            new ObjectMapper().findAndRegisterModules().registerModule(new XapiCanonicalModule()));
+    final var smile =
+        smileMapper.writeValueAsBytes(objectMapper.readValue(statement(), Statement.class));
+
+    // When Reading Smile Statement Twice
+    final var first = smileMapper.readValue(smile, Statement.class);
+    final var second = smileMapper.readValue(smile, Statement.class);
+
+    // Then Verb Is Same Instance
+    assertThat(second.getVerb(), sameInstance(first.getVerb()));
+  }
+
+  private static File statement() throws IOException {
+    return ResourceUtils.getFile("classpath:statement/statement.json");
+  }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidTypeIdException;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.learning.xapi.model.Agent;
+import dev.learning.xapi.model.Person;
+import dev.learning.xapi.model.Statement;
+import dev.learning.xapi.model.StatementResult;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * XapiStrictStatementModule Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("XapiStrictStatementModule Tests")
+class XapiStrictStatementModuleTests {
+
+  private static final String[] OBJECT_TYPES = {
+    "Activity", "Agent", "Person", "Group", "SubStatement", "StatementRef", "Invalid"
+  };
+
+  private final ObjectMapper strictModules =
+      new ObjectMapper()
+          .findAndRegisterModules()
+          .registerModule(new XapiStrictNullValuesModule())
+          .registerModule(new XapiStrictObjectTypeModule())
+          .registerModule(new XapiStrictLocaleModule())
+          .registerModule(new XapiStrictTimestampModule());
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().findAndRegisterModules().registerModule(new XapiStrictStatementModule());
+
+  @ParameterizedTest
+  @MethodSource("statements")
+  void whenDeserializingStatementThenResultIsSameAsWithStrictModules(String json)
+      throws IOException {
+
+    Statement expected;
+    try {
+      expected = strictModules.readValue(json, Statement.class);
+    } catch (final JsonProcessingException e) {
+      expected = null;
+    }
+
+    if (expected == null) {
+      // When Deserializing Statement Rejected By Strict Modules
+      // Then JsonProcessingException Is Thrown
+      assertThrows(
+          JsonProcessingException.class, () -> objectMapper.readValue(json, Statement.class));
+    } else {
+      // When Deserializing Statement Accepted By Strict Modules
+      final var result = objectMapper.readValue(json, Statement.class);
+
+      // Then Result Is Same As With Strict Modules
+      assertThat(result, is(expected));
+    }
+  }
+
+  @Test
+  void whenDeserializingNullStatementThenValueInstantiationExceptionIsThrown() {
+
+    // When Deserializing Null Statement
+    // Then ValueInstantiationException Is Thrown
+    assertThrows(
+        ValueInstantiationException.class,
+        () -> objectMapper.readValue("{\"statements\":[null]}", StatementResult.class));
+  }
+
+  @Test
+  void whenDeserializingStatementWithNullResultThenValueInstantiationExceptionIsThrown()
+      throws IOException {
+
+    final var json = readStatement("statement/statement.json");
+    ((ObjectNode) json).putNull("result");
+
+    // When Deserializing Statement With Null Result
+    // Then ValueInstantiationException Is Thrown
+    assertThrows(
+        ValueInstantiationException.class,
+        () -> objectMapper.readValue(json.toString(), Statement.class));
+  }
+
+  @Test
+  void whenDeserializingStatementWithInvalidObjectTypeThenInvalidTypeIdExceptionIsThrown()
+      throws IOException {
+
+    final var json = readStatement("statement/statement.json");
+    ((ObjectNode) json.get("object")).put("objectType", "activity");
+
+    // When Deserializing Statement With Invalid ObjectType
+    // Then InvalidTypeIdException Is Thrown
+    assertThrows(
+        InvalidTypeIdException.class,
+        () -> objectMapper.readValue(json.toString(), Statement.class));
+  }
+
+  @Test
+  void whenDeserializingStatementWithNullAgentObjectTypeThenResultIsExpected()
+      throws IOException {
+
+    final var json = readStatement("statement/statement.json");
+    ((ObjectNode) json.get("actor")).putNull("objectType");
+
+    // When Deserializing Statement With Null Agent ObjectType
+    final var result = objectMapper.readValue(json.toString(), Statement.class);
+
+    // Then Result Is Expected
+    assertThat(result.getActor().getName(), is("A N Other"));
+  }
+
+  @Test
+  void whenDeserializingStatementWithNullExtensionThenResultIsExpected() throws IOException {
+
+    final var json = readStatement("statement/statement.json");
+    ((ObjectNode) json.at("/object/definition/extensions")).putNull("http://example.com/null");
+
+    // When Deserializing Statement With Null Extension
+    final var result = objectMapper.readValue(json.toString(), Statement.class);
+
+    // Then Result Is Expected
+    assertThat(result, is(strictModules.readValue(json.toString(), Statement.class)));
+  }
+
+  @Test
+  void whenDeserializingAgentWithNullMboxThenValueInstantiationExceptionIsThrown() {
+
+    final var json = "{\"objectType\":\"Agent\",\"mbox\":null}";
+
+    // When Deserializing Agent With Null Mbox
+    // Then ValueInstantiationException Is Thrown
+    assertThrows(
+        ValueInstantiationException.class, () -> strictModules.readValue(json, Agent.class));
+    assertThrows(
+        ValueInstantiationException.class, () -> objectMapper.readValue(json, Agent.class));
+  }
+
+  @Test
+  void whenDeserializingAgentWithInvalidObjectTypeThenInvalidTypeIdExceptionIsThrown() {
+
+    final var json = "{\"objectType\":\"agent\",\"mbox\":\"mailto:another@example.com\"}";
+
+    // When Deserializing Agent With Invalid ObjectType
+    // Then InvalidTypeIdException Is Thrown
+    assertThrows(InvalidTypeIdException.class, () -> objectMapper.readValue(json, Agent.class));
+  }
+
+  @Test
+  void whenDeserializingPersonWithNullNameThenValueInstantiationExceptionIsThrown() {
+
+    final var json = "{\"objectType\":\"Person\",\"name\":[null]}";
+
+    // When Deserializing Person With Null Name
+    // Then ValueInstantiationException Is Thrown
+    assertThrows(
+        ValueInstantiationException.class, () -> objectMapper.readValue(json, Person.class));
+  }
+
+  @Test
+  void whenDeserializingAgentThenResultIsSameAsWithStrictModules() throws IOException {
+
+    final var json = "{\"objectType\":\"Agent\",\"name\":\"A N Other\"}";
+
+    // When Deserializing Agent
+    final var result = objectMapper.readValue(json, Agent.class);
+
+    // Then Result Is Same As With Strict Modules
+    assertThat(result, is(strictModules.readValue(json, Agent.class)));
+  }
+
+  private static Stream<String> statements() throws IOException {
+
+    final var statements = new ArrayList<String>();
+
+    for (final var file :
+        List.of(
+            "statement/statement.json",
+            "statement/statement_with_agent_with_account.json",
+            "statement/statement_with_en_locale.json")) {
+      final var json = readStatement(file);
+      statements.add(json.toString());
+      mutate(json, json, statements);
+    }
+
+    // A SubStatement as the object of a Statement
+    for (final var type : List.of("activity", "agent", "group", "statement_reference")) {
+      final var json = readStatement("statement/statement.json");
+      final var subStatement =
+          readStatement("sub_statement/sub_statement_with_object_of_type_" + type + ".json");
+      ((ObjectNode) json).set("object", subStatement);
+      mutate(json, json, statements);
+    }
+
+    return statements.stream();
+  }
+
+  // Adds a copy of the Statement with each value replaced by an invalid one
+  private static void mutate(JsonNode statement, JsonNode node, List<String> statements) {
+
+    if (node instanceof final ObjectNode object) {
+      final var names = new ArrayList<String>();
+      object.fieldNames().forEachRemaining(names::add);
+
+      for (final var name : names) {
+        final var value = object.get(name);
+
+        object.putNull(name);
+        statements.add(statement.toString());
+
+        object.putArray(name).addNull();
+        statements.add(statement.toString());
+
+        if (value instanceof final ObjectNode child) {
+          for (final var objectType : OBJECT_TYPES) {
+            final var copy = child.deepCopy();
+            object.set(name, copy);
+            copy.put("objectType", objectType);
+            statements.add(statement.toString());
+            copy.putNull("objectType");
+            statements.add(statement.toString());
+          }
+        }
+
+        if ("objectType".equals(name)) {
+          for (final var objectType : OBJECT_TYPES) {
+            object.put(name, objectType);
+            statements.add(statement.toString());
+          }
+          object.put(name, 1);
+          statements.add(statement.toString());
+        }
+
+        object.set(name, value);
+        mutate(statement, value, statements);
+      }
+
+      object.putNull("unknown");
+      statements.add(statement.toString());
+      object.remove("unknown");
+
+    } else if (node instanceof final ArrayNode array) {
+      for (var i = 0; i < array.size(); i++) {
+        final var value = array.get(i);
+
+        array.set(i, null);
+        statements.add(statement.toString());
+
+        array.set(i, value);
+        mutate(statement, value, statements);
+      }
+    }
+  }
+
+  private static JsonNode readStatement(String path) throws IOException {
+    return new ObjectMapper().readTree(ResourceUtils.getFile("classpath:" + path));
+  }
+}
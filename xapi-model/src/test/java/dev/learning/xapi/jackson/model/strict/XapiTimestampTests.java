@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.jackson.model.strict;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.learning.xapi.jackson.model.strict.XapiTimestamp.XapiTimestampParseException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * XapiTimestamp Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("XapiTimestamp Tests")
+class XapiTimestampTests {
+
+  @ParameterizedTest
+  @CsvSource({
+    "2015-11-18T12:17:00Z, 2015-11-18T12:17:00Z",
+    "2015-11-18T12:17:00, 2015-11-18T12:17:00Z",
+    "2015-11-18T12:17:00.1Z, 2015-11-18T12:17:00.100Z",
+    "2015-11-18T12:17:00.123456789Z, 2015-11-18T12:17:00.123456789Z",
+    "2015-11-18T12:17:00+05:30, 2015-11-18T06:47:00Z",
+    "2015-11-18T12:17:00-05:30, 2015-11-18T17:47:00Z",
+    "2016-02-29T23:59:59.999Z, 2016-02-29T23:59:59.999Z",
+    "1969-12-31T23:59:59.5Z, 1969-12-31T23:59:59.500Z",
+    "2015-11-18T12:17:00+0000, 2015-11-18T12:17:00Z",
+    "2015-11-18T12:17:00+00, 2015-11-18T12:17:00Z",
+    "2015-11-18T12:17Z, 2015-11-18T12:17:00Z",
+    "2015-02-29T00:00:00Z, 2015-02-28T00:00:00Z",
+    "2015-11-18T24:00:00Z, 2015-11-19T00:00:00Z"
+  })
+  void whenParsingTimestampThenResultIsExpected(String text, String expected) {
+
+    // When Parsing Timestamp
+    final var result = XapiTimestamp.parse(text);
+
+    // Then Result Is Expected
+    assertThat(result, is(Instant.parse(expected)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"2015-11-18T12:17:00-00:00", "2015-11-18T12:17:00-0000"})
+  void whenParsingTimestampWithNegativeZeroOffsetThenExceptionIsThrown(String text) {
+
+    // When Parsing Timestamp With Negative Zero Offset
+    // Then Exception Is Thrown
+    assertThrows(XapiTimestampParseException.class, () -> XapiTimestamp.parse(text));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2015-11-18T12:17:60Z",
+        "2015-11-18T12:17:00.1234567891Z",
+        "2015-11-18T12:17:00+18:30",
+        "2015-13-18T12:17:00Z",
+        "2015-11-18 12:17:00Z"
+      })
+  void whenParsingInvalidTimestampThenExceptionIsThrown(String text) {
+
+    // When Parsing Invalid Timestamp
+    // Then Exception Is Thrown
+    assertThrows(DateTimeParseException.class, () -> XapiTimestamp.parse(text));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2015-11-18T12:17:00Z",
+        "2015-11-18T12:17:00.100Z",
+        "2015-11-18T12:17:00.123450Z",
+        "2015-11-18T12:17:00.123456789Z",
+        "0000-01-01T00:00:00Z",
+        "1969-12-31T23:59:59.999Z",
+        "+10000-01-01T00:00:00Z"
+      })
+  void whenFormattingInstantThenResultIsSameAsToString(String text) {
+
+    final var instant = Instant.parse(text);
+
+    // When Formatting Instant
+    final var result = XapiTimestamp.format(instant);
+
+    // Then Result Is Same As ToString
+    assertThat(result, is(instant.toString()));
+  }
+
+  @Test
+  void whenFormattingAndParsingInstantThenResultIsSameInstant() {
+
+    final var instant = Instant.ofEpochSecond(1447849020L, 123_000_000);
+
+    // When Formatting And Parsing Instant
+    final var result = XapiTimestamp.parse(XapiTimestamp.format(instant));
+
+    // Then Result Is Same Instant
+    assertThat(result, is(instant));
+  }
+}
@@ -6,8 +6,12 @@ package dev.learning.xapi.model;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Locale.LanguageRange;
@@ -21,6 +25,8 @@ import org.junit.jupiter.params.provider.CsvSource;
 @DisplayName("LanguageMap tests")
 class LanguageMapTests {
 
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
   @ParameterizedTest
   @CsvSource({"en-GB, Colour", "en-US, Color", "de, Colour"})
   void givenUkAndUSKeyWhenGettingLocaleValueThenValueIsExpected(String locale, String expected) {
@@ -133,4 +139,103 @@ class LanguageMapTests {
     // Then Value Is UK
     assertThat(value, is("Colour"));
   }
+
+  @Test
+  void whenDeserializingLanguageMapThenLanguageMapIsUnmodifiable() throws IOException {
+
+    // When Deserializing LanguageMap
+    final var languageMap =
+        objectMapper.readValue("{\"en-GB\":\"Colour\",\"en-US\":\"Color\"}", LanguageMap.class);
+
+    // Then LanguageMap Is Unmodifiable
+    assertThrows(UnsupportedOperationException.class, () -> languageMap.put(Locale.UK, "Color"));
+    assertThrows(UnsupportedOperationException.class, () -> languageMap.remove(Locale.UK));
+    assertThrows(UnsupportedOperationException.class, () -> languageMap.keySet().clear());
+  }
+
+  @ParameterizedTest
+  @CsvSource({"en-GB, Colour", "en-US, Color", "de, Colour"})
+  void givenDeserializedLanguageMapWhenGettingLocaleValueThenValueIsExpected(
+      String locale, String expected) throws IOException {
+
+    // Given Deserialized LanguageMap
+    final var languageMap =
+        objectMapper.readValue("{\"en-GB\":\"Colour\",\"en-US\":\"Color\"}", LanguageMap.class);
+
+    // When Getting Locale Value
+    final var value = languageMap.get(LanguageRange.parse(locale));
+
+    // Then Value Is Expected
+    assertThat(value, is(expected));
+  }
+
+  @Test
+  void givenDeserializedLanguageMapWhenSerializingThenJsonIsSame() throws IOException {
+
+    final var json = "{\"en-GB\":\"Colour\",\"en-US\":\"Color\"}";
+
+    // Given Deserialized LanguageMap
+    final var languageMap = objectMapper.readValue(json, LanguageMap.class);
+
+    // When Serializing
+    final var result = objectMapper.writeValueAsString(languageMap);
+
+    // Then Json Is Same
+    assertThat(result, is(json));
+  }
+
+  @Test
+  void givenLanguageMapWhenCopyingThenCopyIsEqual() {
+
+    final var languageMap = new LanguageMap();
+
+    // Given LanguageMap
+    languageMap.put(Locale.UK, "Colour");
+    languageMap.put(Locale.US, "Color");
+
+    // When Copying
+    final var copy = LanguageMap.copyOf(languageMap);
+
+    // Then Copy Is Equal
+    assertThat(copy, is(languageMap));
+    assertThat(languageMap, is(copy));
+    assertThat(copy.hashCode(), is(languageMap.hashCode()));
+    assertThat(copy.toString(), is(languageMap.toString()));
+  }
+
+  @Test
+  void givenUnmodifiableLanguageMapWhenCopyingThenCopyIsSameInstance() {
+
+    // Given Unmodifiable LanguageMap
+    final var languageMap = LanguageMap.copyOf(Map.of(Locale.UK, "Colour"));
+
+    // When Copying
+    final var copy = LanguageMap.copyOf(languageMap);
+
+    // Then Copy Is Same Instance
+    assertThat(copy, sameInstance(languageMap));
+  }
+
+  @Test
+  void givenDeserializedVerbWhenAddingDisplayThenDisplayHasBothValues() throws IOException {
+
+    // Given Deserialized Verb
+    final var verb =
+        objectMapper.readValue(
+            "{\"id\":\"http://adlnet.gov/expapi/verbs/answered\","
+                + "\"display\":{\"en-GB\":\"Colour\"}}",
+            Verb.class);
+
+    // When Adding Display
+    final var result =
+        Verb.builder()
+            .id(verb.getId())
+            .display(verb.getDisplay())
+            .addDisplay(Locale.US, "Color")
+            .build();
+
+    // Then Display Has Both Values
+    assertThat(result.getDisplay().get(Locale.UK), is("Colour"));
+    assertThat(result.getDisplay().get(Locale.US), is("Color"));
+  }
 }
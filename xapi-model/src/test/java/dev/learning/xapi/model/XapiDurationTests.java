@@ -0,0 +1,144 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.time.Period;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * XapiDuration Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("XapiDuration tests")
+class XapiDurationTests {
+
+  @Test
+  void whenParsingDurationThenComponentsAreExpected() {
+
+    // When Parsing Duration
+    final var result = XapiDuration.parse("P1Y2M3DT4H5M6.7S");
+
+    // Then Components Are Expected
+    assertThat(result.getYears(), is(1L));
+    assertThat(result.getMonths(), is(2L));
+    assertThat(result.getDays(), is(3L));
+    assertThat(result.getHours(), is(4L));
+    assertThat(result.getMinutes(), is(5L));
+    assertThat(result.getSeconds(), is(6L));
+    assertThat(result.getNanos(), is(700_000_000));
+  }
+
+  @Test
+  void whenParsingWeeksThenWeeksAreExpected() {
+
+    // When Parsing Weeks
+    final var result = XapiDuration.parse("P2W");
+
+    // Then Weeks Are Expected
+    assertThat(result.getWeeks(), is(2L));
+  }
+
+  @Test
+  void whenParsingLowerCaseDurationThenDurationIsExpected() {
+
+    // When Parsing Lower Case Duration
+    final var result = XapiDuration.parse("pt1m23.5s");
+
+    // Then Duration Is Expected
+    assertThat(result.toDuration(), is(Duration.ofMillis(83_500)));
+  }
+
+  @Test
+  void whenConvertingToDurationThenDurationIsExpected() {
+
+    // When Converting To Duration
+    final var result = XapiDuration.parse("P1W2DT3H").toDuration();
+
+    // Then Duration Is Expected
+    assertThat(result, is(Duration.ofDays(9).plusHours(3)));
+  }
+
+  @Test
+  void whenConvertingFractionWithMoreThanNineDigitsThenExtraDigitsAreIgnored() {
+
+    // When Converting Fraction With More Than Nine Digits
+    final var result = XapiDuration.parse("PT0.123456789123S").toDuration();
+
+    // Then Extra Digits Are Ignored
+    assertThat(result, is(Duration.ofNanos(123_456_789)));
+  }
+
+  @Test
+  void givenYearsWhenConvertingToDurationThenExceptionIsThrown() {
+
+    // Given Years
+    final var duration = XapiDuration.parse("P1Y");
+
+    // Then Exception Is Thrown
+    Assertions.assertThrows(
+        UnsupportedTemporalTypeException.class,
+        () -> {
+          // When Converting To Duration
+          duration.toDuration();
+        });
+  }
+
+  @Test
+  void whenConvertingToPeriodThenPeriodIsExpected() {
+
+    // When Converting To Period
+    final var result = XapiDuration.parse("P1Y2M1W3DT4H").toPeriod();
+
+    // Then Period Is Expected
+    assertThat(result, is(Period.of(1, 2, 10)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"P", "PT", "T1H", "P1H", "PT1D", "P1.5D", "PT1.S", "P1W1D", "P1M1Y", ""})
+  void whenParsingInvalidDurationThenDateTimeParseExceptionIsThrown(String text) {
+
+    // Then DateTimeParseException Is Thrown
+    Assertions.assertThrows(
+        DateTimeParseException.class,
+        () -> {
+          // When Parsing Invalid Duration
+          XapiDuration.parse(text);
+        });
+  }
+
+  @Test
+  void whenParsingTooLargeComponentThenDateTimeParseExceptionIsThrown() {
+
+    // Then DateTimeParseException Is Thrown
+    Assertions.assertThrows(
+        DateTimeParseException.class,
+        () -> {
+          // When Parsing Too Large Component
+          XapiDuration.parse("PT99999999999999999999S");
+        });
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"P1D", "PT1H", "P1DT", "P1Y2M3DT4H5M6.7S", "P4W", "pt1.5s"})
+  void whenCheckingValidDurationThenResultIsTrue(String text) {
+
+    // When Checking Valid Duration
+    final var result = XapiDuration.isValid(text);
+
+    // Then Result Is True
+    assertThat(result, is(true));
+  }
+}
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2016-2025 Berry Cloud Ltd. All rights reserved.
+ */
+
+package dev.learning.xapi.model.validation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import dev.learning.xapi.model.Agent;
+import dev.learning.xapi.model.Group;
+import dev.learning.xapi.model.Statement;
+import dev.learning.xapi.model.SubStatement;
+import dev.learning.xapi.model.Verb;
+import dev.learning.xapi.model.validation.disableable.DisableableValidator;
+import dev.learning.xapi.model.validation.disableable.ValidatorDisabler;
+import dev.learning.xapi.model.validation.internal.validators.ActorValidator;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * StatementValidator Tests.
+ *
+ * @author Thomas Turrell-Croft
+ */
+@DisplayName("StatementValidator tests")
+class StatementValidatorTests {
+
+  private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+  private final StatementValidator statementValidator = new StatementValidator();
+
+  @Test
+  void whenValidatingValidStatementThenViolationsAreEmpty() {
+
+    final var statement =
+        Statement.builder()
+            .agentActor(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+            .verb(Verb.EXPERIENCED)
+            .activityObject(o -> o.id("https://example.com/xapi/activity/simplestatement"))
+            .build();
+
+    // When Validating Valid Statement
+    final var violations = statementValidator.validate(statement);
+
+    // Then Violations Are Empty
+    assertThat(violations, hasSize(0));
+  }
+
+  @Test
+  void whenValidatingStatementWithoutActorThenViolationIsReported() {
+
+    final var statement =
+        Statement.builder()
+            .verb(Verb.EXPERIENCED)
+            .activityObject(o -> o.id("https://example.com/xapi/activity/simplestatement"))
+            .build();
+
+    // When Validating Statement Without Actor
+    final var violations = statementValidator.validate(statement);
+
+    // Then Violation Is Reported
+    assertThat(violations, hasSize(1));
+    final var violation = violations.iterator().next();
+    assertThat(violation.getPropertyPath().toString(), is("actor"));
+    assertThat(
+        violation.getMessageTemplate(), is("{jakarta.validation.constraints.NotNull.message}"));
+  }
+
+  @Test
+  void whenValidatingStatementWithInvalidMboxThenMessageIsExpected() {
+
+    final var statement =
+        Statement.builder()
+            .agentActor(a -> a.name("A N Other").mbox("another@example.com"))
+            .verb(Verb.EXPERIENCED)
+            .activityObject(o -> o.id("https://example.com/xapi/activity/simplestatement"))
+            .build();
+
+    // When Validating Statement With Invalid Mbox
+    final var violations = statementValidator.validate(statement);
+
+    // Then Message Is Expected
+    assertThat(violations, hasSize(1));
+    final var violation = violations.iterator().next();
+    assertThat(violation.getPropertyPath().toString(), is("actor.mbox"));
+    assertThat(violation.getMessage(), is("must be a valid mbox"));
+    assertThat(violation.getInvalidValue(), is("another@example.com"));
+  }
+
+  @Test
+  void whenValidatingVoidingStatementWithActivityThenMessageIsExpected() {
+
+    final var statement =
+        Statement.builder()
+            .agentActor(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+            .verb(Verb.VOIDED)
+            .activityObject(o -> o.id("https://example.com/xapi/activity/simplestatement"))
+            .build();
+
+    // When Validating Voiding Statement With Activity
+    final var violations = statementValidator.validate(statement);
+
+    // Then Message Is Expected
+    assertThat(violations, hasSize(1));
+    final var violation = violations.iterator().next();
+    assertThat(violation.getPropertyPath().toString(), is(""));
+    assertThat(violation.getMessage(), is("voiding statement must have a statement reference"));
+  }
+
+  @Test
+  void whenValidatingInvalidStatementThenViolationsAreSameAsBeanValidation() {
+
+    final var extensions = new LinkedHashMap<URI, Object>();
+    extensions.put(URI.create("http://example.com/extension"), "valid");
+    extensions.put(URI.create("invalid"), "invalid");
+
+    final var subStatement =
+        SubStatement.builder()
+            .groupActor(
+                g ->
+                    g.name("Team")
+                        .addMember(a -> a.name("A N Other"))
+                        .addMember(a -> a.mbox("mailto:another@example.com")))
+            .verb(v -> v.id(URI.create("attempted")))
+            .activityObject(
+                o ->
+                    o.id("https://example.com/xapi/activity/simplestatement")
+                        .definition(d -> d.addChoice(c -> c.id("choice"))))
+            .context(c -> c.platform("Example"))
+            .build();
+
+    final var statement =
+        Statement.builder()
+            .id(UUID.fromString("00000000-0000-0000-0000-000000000000"))
+            .agentActor(a -> a.name("A N Other").mbox("another@example.com"))
+            .verb(Verb.VOIDED)
+            .object(subStatement)
+            .result(
+                r ->
+                    r.duration("PT")
+                        .score(s -> s.scaled(2F).raw(10F).max(5F))
+                        .extensions(extensions))
+            .context(
+                c ->
+                    c.language(Locale.forLanguageTag("und"))
+                        .revision("1")
+                        .registration(UUID.fromString("00000000-0000-0000-0000-000000000000"))
+                        .agentInstructor(
+                            a -> a.mbox("mailto:one@example.com").openid(URI.create("x")))
+                        .contextActivities(ca -> ca.addParent(p -> p.id(URI.create("parent")))))
+            .authority(
+                Group.builder().addMember(Agent.builder().name("A N Other").build()).build())
+            .addAttachment(a -> a.usageType(URI.create("usage")))
+            .version("2.0")
+            .build();
+
+    // When Validating Invalid Statement
+    final var violations = statementValidator.validate(statement);
+
+    // Then Violations Are Same As Bean Validation
+    assertThat(toStrings(violations), is(toStrings(validator.validate(statement))));
+  }
+
+  @Test
+  void givenActorValidatorIsDisabledWhenValidatingStatementThenViolationsAreEmpty() {
+
+    // Given Actor Validator Is Disabled
+    final var disabledActorValidator =
+        new StatementValidator(
+            factory(
+                v -> {
+                  if (v instanceof ActorValidator actorValidator) {
+                    actorValidator.setDisabler(ValidatorDisabler.DEFAULT_DISABLER);
+                  }
+                }));
+
+    final var statement =
+        Statement.builder()
+            .agentActor(a -> a.name("A N Other"))
+            .verb(Verb.EXPERIENCED)
+            .activityObject(o -> o.id("https://example.com/xapi/activity/simplestatement"))
+            .build();
+
+    // When Validating Statement
+    final var violations = disabledActorValidator.validate(statement);
+
+    // Then Violations Are Empty
+    assertThat(violations, hasSize(0));
+    assertThat(statementValidator.validate(statement), hasSize(1));
+  }
+
+  @Test
+  void givenDisablerWhenValidatingStatementThenDisablerIsAskedForEachValidation() {
+
+    // Given Disabler
+    final var calls = new TreeSet<String>();
+    final ValidatorDisabler disabler =
+        v -> {
+          calls.add(v.getClass().getSimpleName());
+          return false;
+        };
+
+    final var countingValidator = new StatementValidator(factory(v -> v.setDisabler(disabler)));
+
+    final var statement =
+        Statement.builder()
+            .agentActor(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+            .verb(Verb.EXPERIENCED)
+            .activityObject(o -> o.id("https://example.com/xapi/activity/simplestatement"))
+            .build();
+
+    // When Validating Statement
+    countingValidator.validate(statement);
+
+    // Then Disabler Is Asked For Each Validation
+    assertThat(
+        calls,
+        is(
+            Set.of(
+                "ActorValidator",
+                "HasSchemeValidatorForUri",
+                "MboxValidator",
+                "StatementPlatformValidator",
+                "StatementRevisionValidator",
+                "StatementVerbValidator")));
+  }
+
+  @Test
+  void whenValidatingStatementListThenPathsAreIndexed() {
+
+    final var valid =
+        Statement.builder()
+            .agentActor(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+            .verb(Verb.EXPERIENCED)
+            .activityObject(o -> o.id("https://example.com/xapi/activity/simplestatement"))
+            .build();
+
+    final var invalid = valid.toBuilder().agentActor(a -> a.mbox("another@example.com")).build();
+
+    // When Validating Statement List
+    final var violations = statementValidator.validate(List.of(valid, invalid));
+
+    // Then Paths Are Indexed
+    assertThat(violations, hasSize(1));
+    assertThat(
+        violations.iterator().next().getPropertyPath().toString(), is("statements[1].actor.mbox"));
+  }
+
+  @Test
+  void whenValidatingStatementListWithDuplicateIdsThenViolationIsReported() {
+
+    final var statement =
+        Statement.builder()
+            .id(UUID.fromString("4b9175ba-367d-4b93-990b-34d4180039f1"))
+            .agentActor(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+            .verb(Verb.EXPERIENCED)
+            .activityObject(o -> o.id("https://example.com/xapi/activity/simplestatement"))
+            .build();
+
+    // When Validating Statement List With Duplicate Ids
+    final var violations = statementValidator.validate(List.of(statement, statement));
+
+    // Then Violation Is Reported
+    assertThat(violations, hasSize(1));
+    final var violation = violations.iterator().next();
+    assertThat(violation.getPropertyPath().toString(), is("statements"));
+    assertThat(violation.getMessage(), is("all statements must have a unique id"));
+  }
+
+  @Test
+  void givenParallelismThresholdWhenValidatingLargeStatementListThenViolationsAreOrdered() {
+
+    final var valid =
+        Statement.builder()
+            .agentActor(a -> a.name("A N Other").mbox("mailto:another@example.com"))
+            .verb(Verb.EXPERIENCED)
+            .activityObject(o -> o.id("https://example.com/xapi/activity/simplestatement"))
+            .build();
+
+    final var invalid = valid.toBuilder().agentActor(a -> a.mbox("another@example.com")).build();
+
+    final List<Statement> statements = new ArrayList<>();
+    final List<String> expected = new ArrayList<>();
+    for (var i = 0; i < 300; i++) {
+      if (i % 7 == 0) {
+        statements.add(invalid);
+        expected.add("statements[" + i + "].actor.mbox");
+      } else {
+        statements.add(valid);
+      }
+    }
+
+    final Set<ConstraintViolation<List<Statement>>> violations;
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+      // Given Parallelism Threshold
+      final var parallelValidator = new StatementValidator(factory(v -> {}), executor, 10);
+
+      // When Validating Large Statement List
+      violations = parallelValidator.validate(statements);
+    }
+
+    // Then Violations Are Ordered
+    final List<String> paths = new ArrayList<>();
+    for (final var violation : violations) {
+      paths.add(violation.getPropertyPath().toString());
+    }
+    assertThat(paths, is(expected));
+  }
+
+  // Creates the validators like the default factory and customizes the disableable validators
+  private static ConstraintValidatorFactory factory(
+      Consumer<DisableableValidator<?, ?>> customizer) {
+
+    return new ConstraintValidatorFactory() {
+      @Override
+      public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+        try {
+          final var instance = key.getDeclaredConstructor().newInstance();
+          if (instance instanceof DisableableValidator<?, ?> disableable) {
+            customizer.accept(disableable);
+          }
+          return instance;
+        } catch (final ReflectiveOperationException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+
+      @Override
+      public void releaseInstance(ConstraintValidator<?, ?> instance) {
+        // Nothing to release
+      }
+    };
+  }
+
+  private static Set<String> toStrings(Set<? extends ConstraintViolation<Statement>> violations) {
+
+    final var strings = new TreeSet<String>();
+    for (final var violation : violations) {
+      strings.add(violation.getPropertyPath() + ": " + violation.getMessageTemplate());
+    }
+    return strings;
+  }
+
+  @Test
+  void givenEqualButDistinctRootsWhenComparingViolationsThenViolationsAreNotEqual() {
+
+    // Given Equal But Distinct Roots
+    final List<String> root = new ArrayList<>(List.of("a"));
+    final List<String> copy = new ArrayList<>(root);
+
+    // When Comparing Violations
+    final var first = violation(root);
+    final var second = violation(copy);
+
+    // Then Violations Are Not Equal
+    assertThat(first, not(is(second)));
+    assertThat(first, is(violation(root)));
+    assertThat(first.hashCode(), is(violation(root).hashCode()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static StatementConstraintViolation<List<String>> violation(List<String> root) {
+    return new StatementConstraintViolation<>(
+        "must not be null",
+        "{jakarta.validation.constraints.NotNull.message}",
+        root,
+        (Class<List<String>>) (Class<?>) List.class,
+        root,
+        PropertyPath.ROOT,
+        null);
+  }
+}
@@ -4,12 +4,15 @@
 
 package dev.learning.xapi.model.validation.internal.validators;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import dev.learning.xapi.model.validation.constraints.Mbox;
 import jakarta.validation.Payload;
 import java.lang.annotation.Annotation;
+import org.hibernate.validator.internal.constraintvalidators.bv.EmailValidator;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -83,4 +86,102 @@ class MboxValidatorTests {
     // Then Result Is False
     assertFalse(result);
   }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "mailto:",
+        "mailto:Fred.Bloggs+xapi@Example.co.uk",
+        "mailto:o'reilly@example-domain.com",
+        "mailto:\"fred bloggs\"@example.com",
+        "mailto:fred@[127.0.0.1]",
+        "mailto:fréd@exämple.com"
+      })
+  void whenValueIsValidEmailAddressThenResultIsTrue(String value) {
+
+    // When Value Is Valid Email Address
+    final var result = validator.isValid(value, null);
+
+    // Then Result Is True
+    assertTrue(result);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "mailto:@example.com",
+        "mailto:fred@",
+        "mailto:.fred@example.com",
+        "mailto:fred..bloggs@example.com",
+        "mailto:fred.@example.com",
+        "mailto:fred bloggs@example.com",
+        "mailto:fred@example..com",
+        "mailto:fred@example.com.",
+        "mailto:fred@-example.com",
+        "mailto:fred@example-.com",
+        "mailto:fred@exa mple.com",
+        "mailto:fred@[127.0.0]"
+      })
+  void whenValueIsInvalidEmailAddressThenResultIsFalse(String value) {
+
+    // When Value Is Invalid Email Address
+    final var result = validator.isValid(value, null);
+
+    // Then Result Is False
+    assertFalse(result);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "fred.bloggs@example.com",
+        "a@b",
+        "-a-@b--c",
+        "{fred}@example.com",
+        "fred@a_b.c",
+        "fred@ex(ample.com",
+        "fred\"@example.com",
+        "fred@@example.com"
+      })
+  void whenValueIsEmailAddressThenResultIsSameAsEmailValidator(String address) {
+
+    // When Value Is Email Address
+    final var result = validator.isValid(MboxValidator.PREFIX + address, null);
+
+    // Then Result Is Same As Email Validator
+    assertThat(result, is(new EmailValidator().isValid(address, null)));
+  }
+
+  @Test
+  void whenValueHasLongLocalPartThenResultIsFalse() {
+
+    // When Value Has Long Local Part
+    final var result = validator.isValid("mailto:" + "a".repeat(65) + "@example.com", null);
+
+    // Then Result Is False
+    assertFalse(result);
+  }
+
+  @Test
+  void whenValueHasLongDomainLabelThenResultIsFalse() {
+
+    // When Value Has Long Domain Label
+    final var result = validator.isValid("mailto:fred@" + "a".repeat(64) + ".com", null);
+
+    // Then Result Is False
+    assertFalse(result);
+  }
+
+  @Test
+  void whenValueHasLongDomainThenResultIsFalse() {
+
+    final var label = "a".repeat(63);
+    final var domain = String.join(".", "x", label, label, label, label);
+
+    // When Value Has Long Domain
+    final var result = validator.isValid("mailto:fred@" + domain, null);
+
+    // Then Result Is False
+    assertFalse(result);
+  }
 }